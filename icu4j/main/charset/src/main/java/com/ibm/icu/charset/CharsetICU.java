@@ -450,6 +450,19 @@ public boolean isFixedWidth() {
         return false;
     }
 
+    /**
+     * Returns a transcoder that converts text from this charset directly to the target charset,
+     * through an internal pivot buffer instead of an intermediate String. The decoder and encoder
+     * have the default error actions, so malformed input and unmappable characters are reported.
+     *
+     * @param targetCharset the charset to convert into
+     * @return a new transcoder
+     * @draft ICU 79
+     */
+    public CharsetTranscoder newTranscoder(Charset targetCharset) {
+        return new CharsetTranscoder(newDecoder(), targetCharset.newEncoder());
+    }
+
     static void getNonSurrogateUnicodeSet(UnicodeSet setFillIn) {
         setFillIn.add(0, 0xd7ff);
         setFillIn.add(0xe000, 0x10ffff);
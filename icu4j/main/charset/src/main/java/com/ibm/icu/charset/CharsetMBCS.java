@@ -12,9 +12,11 @@
 import com.ibm.icu.impl.ICUBinary;
 import com.ibm.icu.impl.ICUData;
 import com.ibm.icu.impl.InvalidFormatException;
+import com.ibm.icu.impl.SoftCache;
 import com.ibm.icu.lang.UCharacter;
 import com.ibm.icu.text.UTF16;
 import com.ibm.icu.text.UnicodeSet;
+import com.ibm.icu.util.ICUException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.Buffer;
@@ -187,13 +189,24 @@ public CharsetMBCS(
         }
 
         // now try to load the data
-        sharedData = loadConverter(1, icuCanonicalName, classPath, loader);
+        if (loader == null && ICUData.ICU_BUNDLE.equals(classPath)) {
+            try {
+                sharedData = SHARED_DATA_CACHE.getInstance(icuCanonicalName, null);
+            } catch (ICUException e) {
+                if (e.getCause() instanceof InvalidFormatException) {
+                    throw (InvalidFormatException) e.getCause();
+                }
+                throw e;
+            }
+        } else {
+            sharedData = loadConverter(1, icuCanonicalName, classPath, loader);
+        }
 
         maxBytesPerChar = sharedData.staticData.maxBytesPerChar;
         minBytesPerChar = sharedData.staticData.minBytesPerChar;
         maxCharsPerByte = 1;
         fromUSubstitution = sharedData.staticData.subChar;
-        subChar = sharedData.staticData.subChar;
+        subChar = sharedData.staticData.subChar.clone(); /* may be changed by replaceWith() */
         subCharLen = sharedData.staticData.subCharLen;
         subChar1 = sharedData.staticData.subChar1;
         fromUSubstitution = new byte[sharedData.staticData.subCharLen];
@@ -212,7 +225,26 @@ public CharsetMBCS(String icuCanonicalName, String javaCanonicalName, String[] a
         this(icuCanonicalName, javaCanonicalName, aliases, ICUData.ICU_BUNDLE, null);
     }
 
-    private UConverterSharedData loadConverter(
+    /*
+     * Tables loaded from the ICU data, shared by all CharsetMBCS instances with the same name
+     * (including the swaplfnl variant), like the shared data cache in ICU4C ucnv_bld.cpp.
+     * The shared data is not modified after loading, except for the lazily added swaplfnl tables.
+     * Tables that are no longer used by any Charset can be reclaimed by the garbage collector.
+     * Base tables of extension-only files are not cached because the extension modifies them.
+     */
+    private static final SoftCache<String, UConverterSharedData, Void> SHARED_DATA_CACHE =
+            new SoftCache<String, UConverterSharedData, Void>() {
+                @Override
+                protected UConverterSharedData createInstance(String name, Void unused) {
+                    try {
+                        return loadConverter(1, name, ICUData.ICU_BUNDLE, null);
+                    } catch (InvalidFormatException e) {
+                        throw new ICUException(e);
+                    }
+                }
+            };
+
+    private static UConverterSharedData loadConverter(
             int nestedLoads, String myName, String classPath, ClassLoader loader)
             throws InvalidFormatException {
         boolean noFromU = false;
@@ -926,22 +958,18 @@ protected void initializeConverter(int myOptions) {
         }
 
         if ((myOptions & UConverterConstants.OPTION_SWAP_LFNL) != 0) {
-            /* do this because double-checked locking is broken */
-            boolean isCached;
-
-            // agljport:todo umtx_lock(NULL);
-            isCached = mbcsTable.swapLFNLStateTable != null;
-            // agljport:todo umtx_unlock(NULL);
-
-            if (!isCached) {
-                try {
-                    if (!EBCDICSwapLFNL()) {
-                        /* this option does not apply, remove it */
-                        this.options = myOptions & ~UConverterConstants.OPTION_SWAP_LFNL;
+            /* the table may be shared with other instances, see SHARED_DATA_CACHE */
+            synchronized (mbcsTable) {
+                if (mbcsTable.swapLFNLStateTable == null) {
+                    try {
+                        if (!EBCDICSwapLFNL()) {
+                            /* this option does not apply, remove it */
+                            this.options = myOptions & ~UConverterConstants.OPTION_SWAP_LFNL;
+                        }
+                    } catch (Exception e) {
+                        /* something went wrong. */
+                        return;
                     }
-                } catch (Exception e) {
-                    /* something went wrong. */
-                    return;
                 }
             }
         }
@@ -1373,6 +1401,270 @@ static int MBCS_POINTER_3_FROM_STAGE_2(byte[] bytes, int stage2Entry, int c) {
         return ((16 * (stage2Entry & UConverterConstants.UNSIGNED_SHORT_MASK) + ((c) & 0xf)) * 3);
     }
 
+    // ------------Runs of common characters-------------------------------------------
+    // These convert runs of characters that need no state change, fallback, extension or
+    // callback handling. They use the backing arrays if both buffers have them, and absolute
+    // get/put otherwise, for example for direct buffers from NIO channels.
+    // They stop before the first character that needs the general conversion loop,
+    // advance the target position, and return the number of source units consumed;
+    // the caller advances its source index.
+
+    /**
+     * Single-byte, single-state toUnicode: Converts a run of bytes with MBCS_STATE_VALID_DIRECT_16
+     * entries, at most length of them.
+     */
+    static int singleToBMPRun(
+            int[] stateTable0, ByteBuffer source, int sourceIndex, CharBuffer target, int length) {
+        int i = 0;
+        if (source.hasArray() && target.hasArray()) {
+            byte[] sourceArray = source.array();
+            int sourceOffset = source.arrayOffset() + sourceIndex;
+            char[] targetArray = target.array();
+            int targetOffset = target.arrayOffset() + target.position();
+            for (; i < length; ++i) {
+                int entry =
+                        stateTable0[
+                                sourceArray[sourceOffset + i]
+                                        & UConverterConstants.UNSIGNED_BYTE_MASK];
+                if (!MBCS_ENTRY_FINAL_IS_VALID_DIRECT_16(entry)) {
+                    break;
+                }
+                targetArray[targetOffset + i] = MBCS_ENTRY_FINAL_VALUE_16(entry);
+            }
+        } else {
+            int targetIndex = target.position();
+            for (; i < length; ++i) {
+                int entry =
+                        stateTable0[
+                                source.get(sourceIndex + i)
+                                        & UConverterConstants.UNSIGNED_BYTE_MASK];
+                if (!MBCS_ENTRY_FINAL_IS_VALID_DIRECT_16(entry)) {
+                    break;
+                }
+                target.put(targetIndex + i, MBCS_ENTRY_FINAL_VALUE_16(entry));
+            }
+        }
+        target.position(target.position() + i);
+        return i;
+    }
+
+    /**
+     * Multi-byte toUnicode: Converts a run of complete 1-byte (MBCS_STATE_VALID_DIRECT_16) and
+     * 2-byte (MBCS_STATE_VALID_16 to a BMP code point) sequences that start and end in the given
+     * state, for example ASCII and double-byte characters in Shift-JIS or GBK, or double-byte
+     * characters in the SO state of an EBCDIC DBCS codepage.
+     */
+    static int doubleToBMPRun(
+            int[][] stateTable,
+            char[] unicodeCodeUnits,
+            int state,
+            ByteBuffer source,
+            int sourceIndex,
+            CharBuffer target) {
+        int[] stateRow = stateTable[state];
+        int entry, entry2;
+        char c;
+        if (source.hasArray() && target.hasArray()) {
+            byte[] sourceArray = source.array();
+            int sourceOffset = source.arrayOffset();
+            int s = sourceOffset + sourceIndex;
+            int sourceLimit = sourceOffset + source.limit();
+            char[] targetArray = target.array();
+            int targetOffset = target.arrayOffset();
+            int t = targetOffset + target.position();
+            int targetLimit = targetOffset + target.limit();
+            while (s < sourceLimit && t < targetLimit) {
+                entry = stateRow[sourceArray[s] & UConverterConstants.UNSIGNED_BYTE_MASK];
+                if (MBCS_ENTRY_IS_TRANSITION(entry)) {
+                    if ((s + 1) >= sourceLimit) {
+                        break;
+                    }
+                    entry2 =
+                            stateTable[MBCS_ENTRY_TRANSITION_STATE(entry)][
+                                    sourceArray[s + 1] & UConverterConstants.UNSIGNED_BYTE_MASK];
+                    if (!isDoubleToBMPFinal(entry2, state)
+                            || (c =
+                                            unicodeCodeUnits[
+                                                    MBCS_ENTRY_TRANSITION_OFFSET(entry)
+                                                            + MBCS_ENTRY_FINAL_VALUE_16(entry2)])
+                                    >= 0xfffe) {
+                        break;
+                    }
+                    targetArray[t++] = c;
+                    s += 2;
+                } else if (isSingleToBMPFinal(entry, state)) {
+                    targetArray[t++] = MBCS_ENTRY_FINAL_VALUE_16(entry);
+                    ++s;
+                } else {
+                    break;
+                }
+            }
+            target.position(t - targetOffset);
+            return s - sourceOffset - sourceIndex;
+        } else {
+            int s = sourceIndex;
+            int sourceLimit = source.limit();
+            int t = target.position();
+            int targetLimit = target.limit();
+            while (s < sourceLimit && t < targetLimit) {
+                entry = stateRow[source.get(s) & UConverterConstants.UNSIGNED_BYTE_MASK];
+                if (MBCS_ENTRY_IS_TRANSITION(entry)) {
+                    if ((s + 1) >= sourceLimit) {
+                        break;
+                    }
+                    entry2 =
+                            stateTable[MBCS_ENTRY_TRANSITION_STATE(entry)][
+                                    source.get(s + 1) & UConverterConstants.UNSIGNED_BYTE_MASK];
+                    if (!isDoubleToBMPFinal(entry2, state)
+                            || (c =
+                                            unicodeCodeUnits[
+                                                    MBCS_ENTRY_TRANSITION_OFFSET(entry)
+                                                            + MBCS_ENTRY_FINAL_VALUE_16(entry2)])
+                                    >= 0xfffe) {
+                        break;
+                    }
+                    target.put(t++, c);
+                    s += 2;
+                } else if (isSingleToBMPFinal(entry, state)) {
+                    target.put(t++, MBCS_ENTRY_FINAL_VALUE_16(entry));
+                    ++s;
+                } else {
+                    break;
+                }
+            }
+            target.position(t);
+            return s - sourceIndex;
+        }
+    }
+
+    /** Is this a final MBCS_STATE_VALID_DIRECT_16 entry that returns to the given state? */
+    private static boolean isSingleToBMPFinal(int entry, int state) {
+        return MBCS_ENTRY_IS_FINAL(entry)
+                && MBCS_ENTRY_FINAL_STATE(entry) == state
+                && MBCS_ENTRY_FINAL_ACTION(entry) == MBCS_STATE_VALID_DIRECT_16;
+    }
+
+    /** Is this a final MBCS_STATE_VALID_16 entry that returns to the given state? */
+    private static boolean isDoubleToBMPFinal(int entry, int state) {
+        return MBCS_ENTRY_IS_FINAL(entry)
+                && MBCS_ENTRY_FINAL_STATE(entry) == state
+                && MBCS_ENTRY_FINAL_ACTION(entry) == MBCS_STATE_VALID_16;
+    }
+
+    /**
+     * Single-byte fromUnicode with BMP-only mappings: Converts a run of BMP code points with
+     * results of at least minValue, at most length of them.
+     */
+    static int singleFromBMPRun(
+            char[] table,
+            char[] results,
+            int minValue,
+            CharBuffer source,
+            int sourceIndex,
+            ByteBuffer target,
+            int length) {
+        int i = 0;
+        char value;
+        if (source.hasArray() && target.hasArray()) {
+            char[] sourceArray = source.array();
+            int sourceOffset = source.arrayOffset() + sourceIndex;
+            byte[] targetArray = target.array();
+            int targetOffset = target.arrayOffset() + target.position();
+            for (; i < length; ++i) {
+                value = MBCS_SINGLE_RESULT_FROM_U(table, results, sourceArray[sourceOffset + i]);
+                if (value < minValue) {
+                    break;
+                }
+                targetArray[targetOffset + i] = (byte) value;
+            }
+        } else {
+            int targetIndex = target.position();
+            for (; i < length; ++i) {
+                value = MBCS_SINGLE_RESULT_FROM_U(table, results, source.get(sourceIndex + i));
+                if (value < minValue) {
+                    break;
+                }
+                target.put(targetIndex + i, (byte) value);
+            }
+        }
+        target.position(target.position() + i);
+        return i;
+    }
+
+    /**
+     * Double-byte (MBCS_OUTPUT_2) fromUnicode: Converts a run of BMP code points with roundtrip
+     * mappings to one or two bytes.
+     */
+    static int doubleFromBMPRun(
+            char[] table,
+            int[] tableInts,
+            char[] chars,
+            CharBuffer source,
+            int sourceIndex,
+            ByteBuffer target) {
+        int c, stage2Entry;
+        char value;
+        if (source.hasArray() && target.hasArray()) {
+            char[] sourceArray = source.array();
+            int sourceOffset = source.arrayOffset();
+            int s = sourceOffset + sourceIndex;
+            int sourceLimit = sourceOffset + source.limit();
+            byte[] targetArray = target.array();
+            int targetOffset = target.arrayOffset();
+            int t = targetOffset + target.position();
+            int targetLimit = targetOffset + target.limit();
+            while (s < sourceLimit && t < targetLimit) {
+                c = sourceArray[s];
+                if (UTF16.isSurrogate(c)) {
+                    break;
+                }
+                stage2Entry = MBCS_STAGE_2_FROM_U(table, tableInts, c);
+                if (!MBCS_FROM_U_IS_ROUNDTRIP(stage2Entry, c)) {
+                    break;
+                }
+                value = MBCS_VALUE_2_FROM_STAGE_2(chars, stage2Entry, c);
+                if (value <= 0xff) {
+                    targetArray[t++] = (byte) value;
+                } else if ((t + 1) < targetLimit) {
+                    targetArray[t++] = (byte) (value >>> 8);
+                    targetArray[t++] = (byte) value;
+                } else {
+                    break;
+                }
+                ++s;
+            }
+            target.position(t - targetOffset);
+            return s - sourceOffset - sourceIndex;
+        } else {
+            int s = sourceIndex;
+            int sourceLimit = source.limit();
+            int t = target.position();
+            int targetLimit = target.limit();
+            while (s < sourceLimit && t < targetLimit) {
+                c = source.get(s);
+                if (UTF16.isSurrogate(c)) {
+                    break;
+                }
+                stage2Entry = MBCS_STAGE_2_FROM_U(table, tableInts, c);
+                if (!MBCS_FROM_U_IS_ROUNDTRIP(stage2Entry, c)) {
+                    break;
+                }
+                value = MBCS_VALUE_2_FROM_STAGE_2(chars, stage2Entry, c);
+                if (value <= 0xff) {
+                    target.put(t++, (byte) value);
+                } else if ((t + 1) < targetLimit) {
+                    target.put(t++, (byte) (value >>> 8));
+                    target.put(t++, (byte) value);
+                } else {
+                    break;
+                }
+                ++s;
+            }
+            target.position(t);
+            return s - sourceIndex;
+        }
+    }
+
     // ------------UConverterExt-------------------------------------------------------
 
     static final int EXT_INDEXES_LENGTH = 0; /* 0 */
@@ -1526,25 +1818,26 @@ static int FROM_U_GET_DATA(int value) {
 
     /* get the pointer to an extension array from indexes[index] */
     static Buffer ARRAY(ByteBuffer indexes, int index, Class<?> itemType) {
-        int oldpos = indexes.position();
         Buffer b;
 
         // TODO: It is very inefficient to create Buffer objects for each array access.
         // We should create an inner class Extensions (or sibling class CharsetMBCSExtensions)
         // which has buffers for the arrays, together with the code that works with them.
-        indexes.position(indexes.getInt(index << 2));
-        if (itemType == int.class) b = indexes.asIntBuffer();
-        else if (itemType == char.class) b = indexes.asCharBuffer();
-        else if (itemType == short.class) b = indexes.asShortBuffer();
+
+        // The indexes may be shared by several converters in different threads (see
+        // SHARED_DATA_CACHE), so position a duplicate rather than the shared buffer.
+        ByteBuffer array = indexes.duplicate().order(indexes.order());
+        array.position(indexes.getInt(index << 2));
+        if (itemType == int.class) b = array.asIntBuffer();
+        else if (itemType == char.class) b = array.asCharBuffer();
+        else if (itemType == short.class) b = array.asShortBuffer();
         else
             // default or (itemType == byte.class)
-            b = indexes.slice();
-        indexes.position(oldpos);
+            b = array.slice();
         return b;
     }
 
     private static int GET_MAX_BYTES_PER_UCHAR(ByteBuffer indexes) {
-        indexes.position(0);
         return indexes.getInt(EXT_COUNT_BYTES) & 0xff;
     }
 
@@ -2238,6 +2531,26 @@ CoderResult cnvMBCSToUnicodeWithOffsets(
                 }
 
                 if (byteIndex == 0) {
+                    if (offsets == null) {
+                        /* convert a run of 1/2-byte input to BMP output with the arrays */
+                        sourceArrayIndex +=
+                                doubleToBMPRun(
+                                        stateTable,
+                                        unicodeCodeUnits,
+                                        state,
+                                        source,
+                                        sourceArrayIndex,
+                                        target);
+                        if (sourceArrayIndex >= source.limit()) {
+                            break;
+                        }
+                        if (!target.hasRemaining()) {
+                            /* target is full */
+                            cr[0] = CoderResult.OVERFLOW;
+                            break;
+                        }
+                    }
+
                     /* optimized loop for 1/2-byte input and BMP output */
                     // agljport:todo see ucnvmbcs.c for deleted block
                     do {
@@ -2590,6 +2903,17 @@ private CoderResult cnvMBCSSingleToBMPWithOffsets(
                     /* output BMP code point */
                     target.put(MBCS_ENTRY_FINAL_VALUE_16(entry));
                     --targetCapacity;
+
+                    /* followed by a run of BMP code points */
+                    int count =
+                            singleToBMPRun(
+                                    stateTable[0],
+                                    source,
+                                    sourceArrayIndex,
+                                    target,
+                                    targetCapacity);
+                    sourceArrayIndex += count;
+                    targetCapacity -= count;
                     continue;
                 }
 
@@ -4371,6 +4695,19 @@ private CoderResult cnvMBCSSingleFromBMPWithOffsets(
                         target.put((byte) value);
                         --targetCapacity;
 
+                        /* followed by a run of assigned BMP code points */
+                        int count =
+                                singleFromBMPRun(
+                                        table,
+                                        results,
+                                        minValue,
+                                        source,
+                                        sourceArrayIndex,
+                                        target,
+                                        targetCapacity);
+                        sourceArrayIndex += count;
+                        targetCapacity -= count;
+
                         /* normal end of conversion: prepare for a new character */
                         c = 0;
                         continue;
@@ -4789,6 +5126,20 @@ private CoderResult cnvMBCSDoubleFromUnicodeWithOffsets(
                         /* normal end of conversion: prepare for a new character */
                         c = 0;
                         sourceIndex = nextSourceIndex;
+
+                        if (offsets == null) {
+                            /* followed by a run of roundtrip BMP code points */
+                            int count =
+                                    doubleFromBMPRun(
+                                            table,
+                                            tableInts,
+                                            chars,
+                                            source,
+                                            sourceArrayIndex,
+                                            target);
+                            sourceArrayIndex += count;
+                            sourceIndex = nextSourceIndex += count;
+                        }
                         continue;
                     } else {
                         /* target is full */
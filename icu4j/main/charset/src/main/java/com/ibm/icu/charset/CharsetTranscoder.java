@@ -0,0 +1,207 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: http://www.unicode.org/copyright.html
+package com.ibm.icu.charset;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+
+/**
+ * Converts text from one charset directly to another, like ucnv_convertEx() in ICU4C.
+ *
+ * <p>The text is decoded into an internal UTF-16 pivot buffer and encoded from there, so that the
+ * caller does not have to manage an intermediate CharBuffer or String. Text that has been decoded
+ * but not yet encoded stays in the pivot buffer between calls, and the decoder and encoder keep
+ * their own state (for example, shift states of stateful encodings), so the input and output can
+ * be split into chunks at any byte boundary.
+ *
+ * <p>The error actions and replacements of the decoder and encoder apply as usual. With the
+ * default {@link java.nio.charset.CodingErrorAction#REPORT} actions, malformed input and
+ * unmappable characters are returned as error results.
+ *
+ * <p>A transcoder is not thread-safe. It can be reused for another conversion after {@link
+ * #reset()}.
+ *
+ * @see CharsetICU#newTranscoder(Charset)
+ * @draft ICU 79
+ */
+public final class CharsetTranscoder {
+    /* Same as the pivot buffer size in ICU4C ucnv_convert(). */
+    private static final int PIVOT_CAPACITY = 1024;
+    private static final int CHANNEL_BUFFER_CAPACITY = 0x4000;
+
+    private final CharsetDecoder decoder;
+    private final CharsetEncoder encoder;
+    /* Holds the decoded text that has not been encoded yet, between position and limit. */
+    private final CharBuffer pivot;
+    private boolean decoderFlushed;
+    private boolean done;
+
+    /* Reused by transcode(ReadableByteChannel, WritableByteChannel); allocated on first use. */
+    private ByteBuffer channelSource;
+    private ByteBuffer channelTarget;
+
+    /**
+     * Constructs a transcoder from the decoder of the source charset and the encoder of the
+     * target charset.
+     *
+     * @param decoder decodes the input bytes; its error actions apply
+     * @param encoder encodes into the output bytes; its error actions apply
+     * @draft ICU 79
+     */
+    public CharsetTranscoder(CharsetDecoder decoder, CharsetEncoder encoder) {
+        if (decoder == null || encoder == null) {
+            throw new IllegalArgumentException();
+        }
+        this.decoder = decoder;
+        this.encoder = encoder;
+        pivot = CharBuffer.allocate(PIVOT_CAPACITY);
+        pivot.limit(0);
+    }
+
+    /**
+     * Returns the decoder of the source charset.
+     *
+     * @draft ICU 79
+     */
+    public CharsetDecoder decoder() {
+        return decoder;
+    }
+
+    /**
+     * Returns the encoder of the target charset.
+     *
+     * @draft ICU 79
+     */
+    public CharsetEncoder encoder() {
+        return encoder;
+    }
+
+    /**
+     * Resets the decoder, the encoder and the pivot buffer, discarding any pending text.
+     *
+     * @return this transcoder
+     * @draft ICU 79
+     */
+    public CharsetTranscoder reset() {
+        decoder.reset();
+        encoder.reset();
+        pivot.clear().limit(0);
+        decoderFlushed = false;
+        done = false;
+        return this;
+    }
+
+    /**
+     * Converts as many bytes as possible from the source buffer and writes the result into the
+     * target buffer.
+     *
+     * <p>The result is {@link CoderResult#UNDERFLOW} when all of the source has been consumed and
+     * more input is needed, or, with endOfInput, when the conversion is complete and both the
+     * decoder and the encoder have been flushed. It is {@link CoderResult#OVERFLOW} when the target
+     * is full; the call should be repeated with the same source and more target space. Error
+     * results come from the decoder or the encoder; the source or the pivot buffer is positioned
+     * at the erroneous input.
+     *
+     * @param source the input bytes
+     * @param target the output bytes
+     * @param endOfInput true if the source contains the rest of the input
+     * @return the coder result
+     * @draft ICU 79
+     */
+    public CoderResult transcode(ByteBuffer source, ByteBuffer target, boolean endOfInput) {
+        if (done) {
+            return CoderResult.UNDERFLOW;
+        }
+        CoderResult cr;
+        for (; ; ) {
+            /* write out the pending text first */
+            if (pivot.hasRemaining() || decoderFlushed) {
+                cr = encoder.encode(pivot, target, decoderFlushed);
+                if (!cr.isUnderflow()) {
+                    return cr;
+                }
+                if (decoderFlushed) {
+                    cr = encoder.flush(target);
+                    if (cr.isUnderflow()) {
+                        done = true;
+                    }
+                    return cr;
+                }
+            }
+
+            /* refill the pivot buffer */
+            int pending = pivot.remaining();
+            pivot.compact();
+            cr = decoder.decode(source, pivot, endOfInput);
+            if (cr.isUnderflow() && endOfInput) {
+                cr = decoder.flush(pivot);
+                decoderFlushed = cr.isUnderflow();
+            }
+            pivot.flip();
+            if (cr.isError()) {
+                return cr;
+            }
+            if (cr.isUnderflow() && !decoderFlushed && pivot.remaining() == pending) {
+                /* nothing new to encode until there is more input */
+                return cr;
+            }
+        }
+    }
+
+    /**
+     * Reads all of the bytes from the source channel, converts them, and writes the result to the
+     * target channel. The transcoder is reset before the conversion. The channels are expected to
+     * be in blocking mode, and they are not closed.
+     *
+     * <p>The channel buffers are allocated on first use and reused by later calls on the same
+     * transcoder.
+     *
+     * @param source the channel with the input bytes
+     * @param target the channel for the output bytes
+     * @return the number of bytes written to the target channel
+     * @throws java.nio.charset.CharacterCodingException if the decoder or the encoder reports an
+     *     error
+     * @throws IOException if an I/O error occurs
+     * @draft ICU 79
+     */
+    public long transcode(ReadableByteChannel source, WritableByteChannel target)
+            throws IOException {
+        if (channelSource == null) {
+            channelSource = ByteBuffer.allocate(CHANNEL_BUFFER_CAPACITY);
+            channelTarget = ByteBuffer.allocate(CHANNEL_BUFFER_CAPACITY);
+        }
+        ByteBuffer in = channelSource;
+        ByteBuffer out = channelTarget;
+        in.clear();
+        out.clear();
+        reset();
+        long length = 0;
+        boolean eof = false;
+        for (; ; ) {
+            if (!eof && source.read(in) < 0) {
+                eof = true;
+            }
+            in.flip();
+            CoderResult cr = transcode(in, out, eof);
+            in.compact();
+            if (cr.isError()) {
+                cr.throwException();
+            }
+            out.flip();
+            while (out.hasRemaining()) {
+                length += target.write(out);
+            }
+            out.clear();
+            if (eof && cr.isUnderflow()) {
+                return length;
+            }
+        }
+    }
+}
@@ -158,6 +158,27 @@ protected CoderResult decodeLoop(
                             break;
                         }
 
+                        /* copy a run of ASCII bytes, checking several bytes at a time */
+                        int count =
+                                UTF8.decodeAscii(
+                                        sourceArray,
+                                        sourceIndex,
+                                        targetArray,
+                                        targetIndex,
+                                        Math.min(
+                                                sourceLimit - sourceIndex,
+                                                targetLimit - targetIndex));
+                        sourceIndex += count;
+                        targetIndex += count;
+                        if (sourceIndex >= sourceLimit) {
+                            cr = CoderResult.UNDERFLOW;
+                            break;
+                        }
+                        if (targetIndex >= targetLimit) {
+                            cr = CoderResult.OVERFLOW;
+                            break;
+                        }
+
                         /* keep reading the next input (and writing it) while bytes == 1 */
                         while (UTF8.isSingle(ch = sourceArray[sourceIndex++])) {
                             targetArray[targetIndex++] = (char) ch;
@@ -295,6 +316,27 @@ protected CoderResult decodeLoop(
                             break;
                         }
 
+                        /* copy a run of ASCII bytes, checking several bytes at a time */
+                        int count =
+                                UTF8.decodeAscii(
+                                        source,
+                                        sourceIndex,
+                                        target,
+                                        targetIndex,
+                                        Math.min(
+                                                sourceLimit - sourceIndex,
+                                                targetLimit - targetIndex));
+                        sourceIndex += count;
+                        targetIndex += count;
+                        if (sourceIndex >= sourceLimit) {
+                            cr = CoderResult.UNDERFLOW;
+                            break;
+                        }
+                        if (targetIndex >= targetLimit) {
+                            cr = CoderResult.OVERFLOW;
+                            break;
+                        }
+
                         /* keep reading the next input (and writing it) while bytes == 1 */
                         while (UTF8.isSingle(ch = source.get(sourceIndex++))) {
                             target.put(targetIndex++, (char) ch);
@@ -410,6 +452,17 @@ protected CoderResult encodeLoop(
 
                         targetArray[tgtIdx++] = encodeHeadOf1(char32);
 
+                        /* followed by a run of ASCII chars */
+                        int count =
+                                UTF8.encodeAscii(
+                                        sourceArray,
+                                        srcIdx,
+                                        targetArray,
+                                        tgtIdx,
+                                        Math.min(sourceLimit - srcIdx, targetLimit - tgtIdx));
+                        srcIdx += count;
+                        tgtIdx += count;
+
                     } else if (char32 <= 0x7ff) {
                         /* 2 bytes to encode from char32 */
 
@@ -493,6 +546,17 @@ protected CoderResult encodeLoop(
 
                         target.put(encodeHeadOf1(char32));
 
+                        /* followed by a run of ASCII chars */
+                        int count =
+                                UTF8.encodeAscii(
+                                        source,
+                                        source.position(),
+                                        target,
+                                        target.position(),
+                                        Math.min(source.remaining(), target.remaining()));
+                        source.position(source.position() + count);
+                        target.position(target.position() + count);
+
                     } else if (char32 <= 0x7ff) {
                         /* 2 bytes to encode from char32 */
 
@@ -2,6 +2,12 @@
 // License & terms of use: http://www.unicode.org/copyright.html
 package com.ibm.icu.charset;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+
 /** Partial Java port of ICU4C unicode/utf8.h and ustr_imp.h. */
 class UTF8 {
     /**
@@ -163,4 +169,106 @@ static boolean isValidTrail(int prev, byte t, int i, int length) {
             return isValidLead4AndT1(prev, t);
         }
     }
+
+    /** Reads 8 bytes at a time from a byte[] for ASCII run detection. */
+    private static final VarHandle LONG_FROM_BYTES =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    /** The high bit of each of 8 bytes; a long without these bits holds 8 ASCII bytes. */
+    private static final long NON_ASCII_BITS = 0x8080808080808080L;
+
+    /**
+     * Counts the ASCII bytes at the start of src[start..limit), checking 8 bytes at a time.
+     *
+     * @return the length of the ASCII run, 0..limit-start
+     */
+    static int countAscii(byte[] src, int start, int limit) {
+        int i = start;
+        while (i <= limit - 8 && ((long) LONG_FROM_BYTES.get(src, i) & NON_ASCII_BITS) == 0) {
+            i += 8;
+        }
+        while (i < limit && src[i] >= 0) {
+            ++i;
+        }
+        return i - start;
+    }
+
+    /**
+     * Counts the ASCII bytes at the start of src[start..limit), checking 8 bytes at a time. Uses
+     * absolute get methods and does not change the position of the buffer.
+     *
+     * @return the length of the ASCII run, 0..limit-start
+     */
+    static int countAscii(ByteBuffer src, int start, int limit) {
+        int i = start;
+        while (i <= limit - 8 && (src.getLong(i) & NON_ASCII_BITS) == 0) {
+            i += 8;
+        }
+        while (i < limit && src.get(i) >= 0) {
+            ++i;
+        }
+        return i - start;
+    }
+
+    /**
+     * Copies a run of ASCII bytes to chars, at most length of them. Stops before the first
+     * non-ASCII byte.
+     *
+     * @return the number of bytes copied, 0..length
+     */
+    static int decodeAscii(byte[] src, int srcIndex, char[] dest, int destIndex, int length) {
+        length = countAscii(src, srcIndex, srcIndex + length);
+        for (int i = 0; i < length; ++i) {
+            dest[destIndex + i] = (char) src[srcIndex + i];
+        }
+        return length;
+    }
+
+    /**
+     * Copies a run of ASCII bytes to chars, at most length of them. Stops before the first
+     * non-ASCII byte. Uses absolute get/put methods and does not change the positions of the
+     * buffers.
+     *
+     * @return the number of bytes copied, 0..length
+     */
+    static int decodeAscii(
+            ByteBuffer src, int srcIndex, CharBuffer dest, int destIndex, int length) {
+        length = countAscii(src, srcIndex, srcIndex + length);
+        for (int i = 0; i < length; ++i) {
+            dest.put(destIndex + i, (char) src.get(srcIndex + i));
+        }
+        return length;
+    }
+
+    /**
+     * Copies a run of ASCII chars to bytes, at most length of them. Stops before the first
+     * non-ASCII char.
+     *
+     * @return the number of chars copied, 0..length
+     */
+    static int encodeAscii(char[] src, int srcIndex, byte[] dest, int destIndex, int length) {
+        int i = 0;
+        char c;
+        while (i < length && (c = src[srcIndex + i]) <= 0x7f) {
+            dest[destIndex + i++] = (byte) c;
+        }
+        return i;
+    }
+
+    /**
+     * Copies a run of ASCII chars to bytes, at most length of them. Stops before the first
+     * non-ASCII char. Uses absolute get/put methods and does not change the positions of the
+     * buffers.
+     *
+     * @return the number of chars copied, 0..length
+     */
+    static int encodeAscii(
+            CharBuffer src, int srcIndex, ByteBuffer dest, int destIndex, int length) {
+        int i = 0;
+        char c;
+        while (i < length && (c = src.get(srcIndex + i)) <= 0x7f) {
+            dest.put(destIndex + i++, (byte) c);
+        }
+        return i;
+    }
 }
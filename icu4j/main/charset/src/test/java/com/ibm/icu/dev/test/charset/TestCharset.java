@@ -13,13 +13,18 @@
 import com.ibm.icu.charset.CharsetEncoderICU;
 import com.ibm.icu.charset.CharsetICU;
 import com.ibm.icu.charset.CharsetProviderICU;
+import com.ibm.icu.charset.CharsetTranscoder;
 import com.ibm.icu.dev.test.TestFmwk;
 import com.ibm.icu.text.UTF16;
 import com.ibm.icu.text.UnicodeSet;
 import com.ibm.icu.text.UnicodeSetIterator;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
@@ -27,6 +32,7 @@
 import java.nio.charset.CoderMalfunctionError;
 import java.nio.charset.CoderResult;
 import java.nio.charset.CodingErrorAction;
+import java.nio.charset.UnmappableCharacterException;
 import java.nio.charset.UnsupportedCharsetException;
 import java.nio.charset.spi.CharsetProvider;
 import java.util.ArrayList;
@@ -2084,6 +2090,335 @@ public void TestUTF8() throws CharacterCodingException {
         }
     }
 
+    @Test
+    public void TestUTF8AsciiRuns() {
+        // ASCII runs of various lengths and alignments between non-ASCII characters,
+        // converted with heap and direct buffers and with output buffers of various sizes.
+        StringBuilder sb = new StringBuilder();
+        String[] nonAscii = {"\u00e9", "\u20ac", "\ud83d\ude00", "\u0080", "\uffff"};
+        for (int i = 0; i < 200; ++i) {
+            for (int j = 0; j < (i * 7) % 37; ++j) {
+                sb.append((char) (0x20 + (i + j) % 0x60));
+            }
+            sb.append(nonAscii[i % nonAscii.length]);
+        }
+        String s = sb.toString();
+        byte[] expectedBytes = s.getBytes(java.nio.charset.StandardCharsets.UTF_8);
+        Charset utf8 = new CharsetProviderICU().charsetForName("UTF-8");
+        for (boolean direct : new boolean[] {false, true}) {
+            for (int chunk : new int[] {1, 3, 8, 17, 4096}) {
+                CharsetEncoder encoder = utf8.newEncoder();
+                CharBuffer chars = CharBuffer.wrap(s);
+                ByteBuffer bytes =
+                        direct
+                                ? ByteBuffer.allocateDirect(expectedBytes.length)
+                                : ByteBuffer.allocate(expectedBytes.length);
+                CoderResult cr;
+                do {
+                    bytes.limit(Math.min(bytes.position() + chunk, bytes.capacity()));
+                    cr = encoder.encode(chars, bytes, true);
+                } while (cr.isOverflow());
+                bytes.limit(bytes.capacity());
+                encoder.flush(bytes);
+                bytes.flip();
+                byte[] actualBytes = new byte[bytes.remaining()];
+                bytes.get(actualBytes);
+                assertTrue(
+                        "encode direct=" + direct + " chunk=" + chunk,
+                        Arrays.equals(expectedBytes, actualBytes));
+
+                CharsetDecoder decoder = utf8.newDecoder();
+                bytes.rewind();
+                CharBuffer decoded = CharBuffer.allocate(s.length());
+                do {
+                    decoded.limit(Math.min(decoded.position() + chunk, decoded.capacity()));
+                    cr = decoder.decode(bytes, decoded, true);
+                } while (cr.isOverflow());
+                decoded.limit(decoded.capacity());
+                decoder.flush(decoded);
+                decoded.flip();
+                assertEquals("decode direct=" + direct + " chunk=" + chunk, s, decoded.toString());
+            }
+        }
+    }
+
+    @Test
+    public void TestMBCSBufferKinds() {
+        // Bulk conversion with heap and direct buffers must match conversion
+        // a few units at a time, which mostly bypasses the runs of common characters.
+        String[] names = {"ibm-37", "windows-1252", "Shift_JIS", "GBK", "ibm-930", "ibm-16684"};
+        CharsetProviderICU provider = new CharsetProviderICU();
+        for (String name : names) {
+            CharsetICU cs = (CharsetICU) provider.charsetForName(name);
+            UnicodeSet set = new UnicodeSet();
+            cs.getUnicodeSet(set, CharsetICU.ROUNDTRIP_SET);
+            StringBuilder sb = new StringBuilder();
+            int i = 0;
+            for (UnicodeSetIterator it = new UnicodeSetIterator(set); it.next(); ++i) {
+                if (it.codepoint != UnicodeSetIterator.IS_STRING) {
+                    sb.appendCodePoint(it.codepoint);
+                }
+                if (i % 97 == 0) {
+                    // unmappable
+                    sb.append('\u0e3f');
+                }
+            }
+            String s = sb.toString();
+            byte[] expectedBytes = encodeInChunks(cs, s, false, 3);
+            for (boolean direct : new boolean[] {false, true}) {
+                assertTrue(
+                        name + " encode direct=" + direct,
+                        Arrays.equals(expectedBytes, encodeInChunks(cs, s, direct, 1 << 16)));
+            }
+            String expected = decodeInChunks(cs, expectedBytes, false, 3);
+            for (boolean direct : new boolean[] {false, true}) {
+                assertEquals(
+                        name + " decode direct=" + direct,
+                        expected,
+                        decodeInChunks(cs, expectedBytes, direct, 1 << 16));
+            }
+        }
+    }
+
+    private static byte[] encodeInChunks(Charset cs, String s, boolean direct, int chunk) {
+        CharsetEncoder encoder =
+                cs.newEncoder().onUnmappableCharacter(CodingErrorAction.REPLACE);
+        CharBuffer source = CharBuffer.wrap(s.toCharArray());
+        int capacity = s.length() * 4 + 8;
+        ByteBuffer target =
+                direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+        CoderResult cr;
+        do {
+            source.limit(Math.min(source.position() + chunk, s.length()));
+            target.limit(Math.min(target.position() + chunk, capacity));
+            cr = encoder.encode(source, target, source.limit() == s.length());
+        } while (!cr.isError() && (source.hasRemaining() || source.limit() < s.length()));
+        target.limit(capacity);
+        encoder.flush(target);
+        target.flip();
+        byte[] bytes = new byte[target.remaining()];
+        target.get(bytes);
+        return bytes;
+    }
+
+    private static String decodeInChunks(Charset cs, byte[] bytes, boolean direct, int chunk) {
+        CharsetDecoder decoder = cs.newDecoder().onUnmappableCharacter(CodingErrorAction.REPLACE);
+        ByteBuffer source =
+                direct
+                        ? ByteBuffer.allocateDirect(bytes.length)
+                        : ByteBuffer.allocate(bytes.length);
+        source.put(bytes).flip();
+        int capacity = bytes.length + 8;
+        CharBuffer target = CharBuffer.allocate(capacity);
+        CoderResult cr;
+        do {
+            source.limit(Math.min(source.position() + chunk, bytes.length));
+            target.limit(Math.min(target.position() + chunk, capacity));
+            cr = decoder.decode(source, target, source.limit() == bytes.length);
+        } while (!cr.isError() && (source.hasRemaining() || source.limit() < bytes.length));
+        target.limit(capacity);
+        decoder.flush(target);
+        target.flip();
+        return target.toString();
+    }
+
+    @Test
+    public void TestTranscoder() throws IOException {
+        String[][] pairs = {
+            {"ibm-930", "Shift_JIS"}, {"Shift_JIS", "ISO-2022-JP"}, {"GB18030", "UTF-8"},
+        };
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; ++i) {
+            sb.append("ICU ").append(i);
+            sb.append(" \u65e5\u672c\u8a9e\u306e\u30c6\u30ad\u30b9\u30c8\u3002\n");
+        }
+        String text = sb.toString();
+        CharsetProviderICU provider = new CharsetProviderICU();
+        for (String[] pair : pairs) {
+            CharsetICU from = (CharsetICU) provider.charsetForName(pair[0]);
+            Charset to = provider.charsetForName(pair[1]);
+            byte[] input = toByteArray(from.encode(text));
+            byte[] expected = toByteArray(to.encode(text));
+            CharsetTranscoder transcoder = from.newTranscoder(to);
+            for (int chunk : new int[] {1, 7, 1 << 20}) {
+                // Split both the input and the output into chunks.
+                transcoder.reset();
+                ByteBuffer source = ByteBuffer.wrap(input, 0, 0);
+                ByteBuffer target = ByteBuffer.allocate(expected.length + 16);
+                CoderResult cr;
+                do {
+                    source.limit(Math.min(source.limit() + chunk, input.length));
+                    target.limit(Math.min(target.position() + chunk, target.capacity()));
+                    cr = transcoder.transcode(source, target, source.limit() == input.length);
+                } while (!cr.isError()
+                        && !(cr.isUnderflow() && source.limit() == input.length));
+                target.flip();
+                assertTrue(
+                        pair[0] + " to " + pair[1] + " chunk=" + chunk,
+                        !cr.isError() && Arrays.equals(expected, toByteArray(target)));
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            long length =
+                    transcoder.transcode(new ChunkedChannel(input, 5), Channels.newChannel(out));
+            assertEquals(pair[0] + " to " + pair[1] + " length", expected.length, length);
+            assertTrue(
+                    pair[0] + " to " + pair[1] + " channels",
+                    Arrays.equals(expected, out.toByteArray()));
+        }
+
+        // Unmappable characters are reported unless the encoder is set up to replace them.
+        CharsetICU gb18030 = (CharsetICU) provider.charsetForName("GB18030");
+        Charset ibm37 = provider.charsetForName("ibm-37");
+        String unmappable = "ICU \u65e5\u672c";
+        byte[] input = toByteArray(gb18030.encode(unmappable));
+        try {
+            gb18030.newTranscoder(ibm37)
+                    .transcode(
+                            new ChunkedChannel(input, 5),
+                            Channels.newChannel(new ByteArrayOutputStream()));
+            errln("Transcoding unmappable characters should throw an exception");
+        } catch (UnmappableCharacterException expected) {
+        }
+        CharsetTranscoder transcoder =
+                new CharsetTranscoder(
+                        gb18030.newDecoder(),
+                        ibm37.newEncoder().onUnmappableCharacter(CodingErrorAction.REPLACE));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        transcoder.transcode(new ChunkedChannel(input, 5), Channels.newChannel(out));
+        assertTrue(
+                "replaced unmappable characters",
+                Arrays.equals(toByteArray(ibm37.encode(unmappable)), out.toByteArray()));
+    }
+
+    private static byte[] toByteArray(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    /** Returns at most chunk bytes per read. */
+    private static final class ChunkedChannel implements ReadableByteChannel {
+        private final ByteBuffer bytes;
+        private final int chunk;
+
+        ChunkedChannel(byte[] bytes, int chunk) {
+            this.bytes = ByteBuffer.wrap(bytes);
+            this.chunk = chunk;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) {
+            if (!bytes.hasRemaining()) {
+                return -1;
+            }
+            int length = Math.min(Math.min(chunk, bytes.remaining()), dst.remaining());
+            ByteBuffer slice = bytes.duplicate();
+            slice.limit(slice.position() + length);
+            dst.put(slice);
+            bytes.position(bytes.position() + length);
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    @Test
+    public void TestSharedConverterData() throws CharacterCodingException {
+        // Charsets with the same name share their conversion tables.
+        // The swaplfnl variant and replacement bytes must not leak into other instances.
+        // (Charset.decode() and encode() would reuse coders by name, use new ones instead.)
+        CharsetProviderICU provider = new CharsetProviderICU();
+        byte[] lf = {0x25};
+        for (String name : new String[] {"ibm-1047", "ibm-1047,swaplfnl", "ibm-1047"}) {
+            CharsetDecoder decoder = provider.charsetForName(name).newDecoder();
+            String expected = name.endsWith("swaplfnl") ? "\u0085" : "\n";
+            assertEquals(name, expected, decoder.decode(ByteBuffer.wrap(lf)).toString());
+        }
+
+        CharBuffer unmappable = CharBuffer.wrap("\u0e3f");
+        byte[] expected =
+                toByteArray(
+                        provider.charsetForName("ibm-943")
+                                .newEncoder()
+                                .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                                .encode(unmappable.duplicate()));
+        provider.charsetForName("ibm-943").newEncoder().replaceWith(new byte[] {0x3f});
+        byte[] actual =
+                toByteArray(
+                        provider.charsetForName("ibm-943")
+                                .newEncoder()
+                                .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                                .encode(unmappable.duplicate()));
+        assertTrue("replacement of a new instance", Arrays.equals(expected, actual));
+    }
+
+    @Test
+    public void TestSharedConverterDataThreads() throws Exception {
+        // Converters in different threads share the extension tables of their charset.
+        // Looking up an extension mapping in one thread must not disturb the others.
+        StringBuilder sb = new StringBuilder();
+        for (int c = 0x80; c < 0x30000; c += (c < 0x10000 ? 1 : 37)) {
+            if (c < 0xd800 || c > 0xdfff) {
+                sb.appendCodePoint(c);
+            }
+        }
+        final String text = sb.toString();
+        final CharsetProviderICU provider = new CharsetProviderICU();
+        for (final String name : new String[] {"GB18030", "ibm-943", "windows-936"}) {
+            final byte[] expectedBytes = encodeAll(provider.charsetForName(name), text);
+            final String expectedText = decodeAll(provider.charsetForName(name), expectedBytes);
+            final String[] failure = new String[1];
+            Thread[] threads = new Thread[8];
+            for (int t = 0; t < threads.length; t++) {
+                threads[t] =
+                        new Thread(
+                                () -> {
+                                    try {
+                                        Charset cs = provider.charsetForName(name);
+                                        for (int i = 0; i < 3; i++) {
+                                            byte[] bytes = encodeAll(cs, text);
+                                            if (!Arrays.equals(expectedBytes, bytes)) {
+                                                failure[0] = name + " encoding differs";
+                                            } else if (!expectedText.equals(
+                                                    decodeAll(cs, bytes))) {
+                                                failure[0] = name + " decoding differs";
+                                            }
+                                        }
+                                    } catch (Throwable e) {
+                                        failure[0] = name + ": " + e;
+                                    }
+                                });
+                threads[t].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertNull("concurrent conversion", failure[0]);
+        }
+    }
+
+    private static byte[] encodeAll(Charset cs, String text) throws CharacterCodingException {
+        return toByteArray(
+                cs.newEncoder()
+                        .onMalformedInput(CodingErrorAction.REPLACE)
+                        .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                        .encode(CharBuffer.wrap(text)));
+    }
+
+    private static String decodeAll(Charset cs, byte[] bytes) throws CharacterCodingException {
+        return cs.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                .decode(ByteBuffer.wrap(bytes))
+                .toString();
+    }
+
     @Test
     public void TestUTF16Bom() {
 
@@ -9421,4 +9421,54 @@ public void TestDayPeriodFallback() {
             errln("FAIL: Wrong formatting result, expected 11:58 PM, got " + formattedDate);
         }
     }
+
+    @Test
+    public void TestGregorianFieldsMatchCalendar() {
+        // A SimpleDateFormat computes the fields of a plain GregorianCalendar itself. A subclass
+        // makes it use the calendar, so the results must be the same.
+        String[] patterns = {
+            "G y yy MMM d D F E e c a h H k K m s SSS A g",
+            "QQQQ LLLL EEEE, d MMMM y HH:mm:ss zzzz",
+            "Y-'W'ww-e W u r U",
+            "h:mm b B",
+            "yyyy-MM-dd'T'HH:mm:ss.SSSXXX",
+        };
+        String[] zones = {"America/Los_Angeles", "Australia/Lord_Howe", "Etc/GMT-14"};
+        long[] starts = {
+            -12219292800000L - 5 * 24 * 3600000L, // before the Gregorian cutover
+            -62135596800000L - 3 * 24 * 3600000L, // before 0001-01-01
+            1711846800000L - 6 * 3600000L, // before a DST transition
+            1735689600000L - 2 * 24 * 3600000L, // before 2025-01-01
+        };
+        for (String pattern : patterns) {
+            for (String zoneId : zones) {
+                TimeZone zone = TimeZone.getTimeZone(zoneId);
+                GregorianCalendar plain = new GregorianCalendar(zone, ULocale.FRANCE);
+                GregorianCalendar subclass = new GregorianCalendar(zone, ULocale.FRANCE) {};
+                SimpleDateFormat sdf = new SimpleDateFormat(pattern, ULocale.FRANCE);
+                for (long start : starts) {
+                    // Consecutive times in the same day and across days.
+                    for (long time = start; time < start + 10 * 24 * 3600000L; time += 4321987) {
+                        plain.setTimeInMillis(time);
+                        subclass.setTimeInMillis(time);
+                        String expected = sdf.format(subclass);
+                        assertEquals(
+                                pattern + " " + zoneId + " " + time, expected, sdf.format(plain));
+                    }
+                }
+            }
+        }
+
+        // The date must follow changes of the calendar between calls.
+        SimpleDateFormat sdf = new SimpleDateFormat("EEEE d MMMM y e", ULocale.US);
+        GregorianCalendar cal = new GregorianCalendar(TimeZone.GMT_ZONE, ULocale.US);
+        cal.setTimeInMillis(1735689600000L);
+        assertEquals("before", "Wednesday 1 January 2025 4", sdf.format(cal));
+        cal.setFirstDayOfWeek(Calendar.MONDAY);
+        assertEquals("first day of week", "Wednesday 1 January 2025 3", sdf.format(cal));
+        cal.set(Calendar.DATE, 2);
+        assertEquals("set date", "Thursday 2 January 2025 4", sdf.format(cal));
+        cal.setTimeZone(TimeZone.getTimeZone("America/New_York"));
+        assertEquals("time zone", "Wednesday 1 January 2025 3", sdf.format(cal));
+    }
 }
@@ -1665,6 +1665,55 @@ public void TestInvalidIdentifiers() {
         }
     }
 
+    @Test
+    public void TestForIdentifierCache() {
+        MeasureUnit unit = MeasureUnit.forIdentifier("kilowatt-hour-per-100-kilometer");
+        assertSame(
+                "Same identifier",
+                unit,
+                MeasureUnit.forIdentifier("kilowatt-hour-per-100-kilometer"));
+        assertSame(
+                "Equivalent identifier",
+                unit,
+                MeasureUnit.forIdentifier("hour-kilowatt-per-100-kilometer"));
+        assertEquals(
+                "Canonical identifier", "kilowatt-hour-per-100-kilometer", unit.getIdentifier());
+        MeasureUnit copy = MeasureUnit.forIdentifier("kilowatt-hour-per-kilometer");
+        copy = copy.withConstantDenominator(100);
+        assertEquals("Equal copy", unit, copy);
+        assertEquals("Hash code of equal copy", unit.hashCode(), copy.hashCode());
+        assertSame(
+                "Built-in unit",
+                MeasureUnit.KILOMETER_PER_HOUR,
+                MeasureUnit.forIdentifier("kilometer-per-hour"));
+        assertSame(
+                "Mixed unit",
+                MeasureUnit.forIdentifier("foot-and-inch"),
+                MeasureUnit.forIdentifier("foot-and-inch"));
+        assertEquals(
+                "Mixed unit order is kept",
+                "inch-and-foot",
+                MeasureUnit.forIdentifier("inch-and-foot").getIdentifier());
+
+        // Invalid identifiers are not cached.
+        for (int i = 0; i < 2; i++) {
+            try {
+                MeasureUnit.forIdentifier("meter-kilo");
+                Assert.fail("An IllegalArgumentException must be thrown");
+            } catch (IllegalArgumentException expected) {
+            }
+        }
+
+        // More identifiers than fit in the cache.
+        for (int i = 1; i <= 2000; i++) {
+            String identifier = "meter-per-" + i + "-second";
+            assertEquals(
+                    identifier,
+                    MeasureUnit.forIdentifier(identifier).getIdentifier(),
+                    MeasureUnit.forIdentifier(identifier).getIdentifier());
+        }
+    }
+
     @Test
     public void TestGetIdentifierForConstantDenominator() {
         String testCases[][] = {
@@ -11,6 +11,7 @@
 import com.ibm.icu.dev.test.CoreTestFmwk;
 import com.ibm.icu.dev.test.serializable.SerializableTestUtility;
 import com.ibm.icu.impl.Relation;
+import com.ibm.icu.impl.StandardPlural;
 import com.ibm.icu.impl.Utility;
 import com.ibm.icu.impl.number.DecimalQuantity;
 import com.ibm.icu.impl.number.DecimalQuantity_DualStorageBCD;
@@ -879,6 +880,87 @@ public void testSelectTrailingZeros() {
         }
     }
 
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testSelectInteger() {
+        // The integer fast paths must select the same keywords as the general evaluation.
+        long[] large = {
+            1000, 1001, 1000000, 1000001, 10000000, 123456789, 1000000000000000L, (long) 1E18,
+            (long) 1E18 + 1, Long.MAX_VALUE, -1, -1000000, Long.MIN_VALUE
+        };
+        List<PluralRules> allRules = new ArrayList<>();
+        for (ULocale locale : factory.getAvailableULocales()) {
+            allRules.add(factory.forLocale(locale));
+            allRules.add(factory.forLocale(locale, PluralType.ORDINAL));
+        }
+        allRules.add(
+                PluralRules.createRules("a: j is 1; b: n % 1000000 is 0; c: v is 0 and i = 2"));
+        for (PluralRules rules : allRules) {
+            for (long n = 0; n < 2000; n++) {
+                checkSelectInteger(rules, n);
+            }
+            for (long n : large) {
+                checkSelectInteger(rules, n);
+            }
+            String message = rules.toString();
+            assertEquals(message, rules.select(new FixedDecimal(1.5)), rules.select(1.5));
+            assertEquals(message, rules.select(new FixedDecimal(-0.0)), rules.select(-0.0));
+            // Visible fraction digits and compact exponents are not integers.
+            DecimalQuantity dq = new DecimalQuantity_DualStorageBCD(1);
+            dq.setMinFraction(1);
+            assertEquals(
+                    message,
+                    StandardPlural.orOtherFromString(rules.select(dq)),
+                    dq.getStandardPlural(rules));
+            dq = new DecimalQuantity_DualStorageBCD(1);
+            dq.adjustExponent(6);
+            assertEquals(
+                    message,
+                    StandardPlural.orOtherFromString(rules.select(dq)),
+                    dq.getStandardPlural(rules));
+        }
+    }
+
+    @Test
+    public void testSelectLargeInteger() {
+        // Above 2^53, a double cannot represent these integers, but select(long) is exact.
+        PluralRules ru = PluralRules.forLocale(new ULocale("ru"));
+        assertEquals("ru", "one", ru.select(100000000000000001L));
+        assertEquals("ru", "few", ru.select(100000000000000002L));
+        assertEquals("ru", "many", ru.select(100000000000000011L));
+        assertEquals("ru", "one", ru.select(999999999999999991L));
+        assertEquals(
+                "ru formatted",
+                StandardPlural.ONE,
+                new DecimalQuantity_DualStorageBCD(100000000000000001L).getStandardPlural(ru));
+        PluralRules rules = PluralRules.createRules("a: n = 100000000000000000; b: n % 7 = 3");
+        assertEquals("bound", "a", rules.select(100000000000000000L));
+        assertEquals("bound", "other", rules.select(100000000000000001L));
+        assertEquals("mod", "b", rules.select(100000000000000005L));
+    }
+
+    @SuppressWarnings("deprecation")
+    private void checkSelectInteger(PluralRules rules, long n) {
+        String message = rules + " " + n;
+        assertEquals(message, rules.select(new FixedDecimal((double) n)), rules.select((double) n));
+        long abs = n == Long.MIN_VALUE ? Long.MAX_VALUE : Math.abs(n);
+        if (abs <= Integer.MAX_VALUE) {
+            assertEquals(message, rules.select(new FixedDecimal(n)), rules.select(n));
+        }
+        if (abs < (long) 1E18) {
+            // Large integers are evaluated exactly, like formatted numbers.
+            DecimalQuantity dq = new DecimalQuantity_DualStorageBCD(n);
+            String expected = rules.select(dq);
+            if (n >= 0) {
+                assertEquals(message, expected, rules.select(n));
+            }
+            assertEquals(
+                    message,
+                    StandardPlural.orOtherFromString(expected),
+                    dq.getStandardPlural(rules));
+        }
+    }
+
     private void compareLocaleResults(String loc1, String loc2, String loc3) {
         PluralRules rules1 = PluralRules.forLocale(new ULocale(loc1));
         PluralRules rules2 = PluralRules.forLocale(new ULocale(loc2));
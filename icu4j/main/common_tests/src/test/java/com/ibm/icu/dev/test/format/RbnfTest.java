@@ -15,6 +15,8 @@
 import com.ibm.icu.text.DisplayContext;
 import com.ibm.icu.text.NumberFormat;
 import com.ibm.icu.text.RuleBasedNumberFormat;
+import com.ibm.icu.util.Currency;
+import com.ibm.icu.util.CurrencyAmount;
 import com.ibm.icu.util.ULocale;
 import java.math.BigInteger;
 import java.text.ParseException;
@@ -2346,4 +2348,163 @@ public void TestTurkishSpellout() {
 
         doParsingTest(formatter, lpTestData, true);
     }
+
+    @Test
+    public void TestFormatCache() {
+        String[] locales = {"en", "de", "fr", "es", "ru", "pl", "hi", "ja", "zh", "zh_Hant", "ar"};
+        int[] types = {RuleBasedNumberFormat.SPELLOUT, RuleBasedNumberFormat.ORDINAL};
+        Random random = new Random(42);
+        for (String locale : locales) {
+            for (int type : types) {
+                RuleBasedNumberFormat plain = new RuleBasedNumberFormat(new ULocale(locale), type);
+                RuleBasedNumberFormat cached = new RuleBasedNumberFormat(new ULocale(locale), type);
+                cached.setFormatCacheEnabled(true);
+                assertTrue("cache enabled", cached.isFormatCacheEnabled());
+                for (String ruleSet : plain.getRuleSetNames()) {
+                    String message = locale + " " + ruleSet + " ";
+                    // Twice, to use the texts cached the first time.
+                    for (int i = 0; i < 2; i++) {
+                        for (long n = -10; n < 1100; n++) {
+                            assertEquals(
+                                    message + n,
+                                    plain.format(n, ruleSet),
+                                    cached.format(n, ruleSet));
+                        }
+                    }
+                    for (int i = 0; i < 200; i++) {
+                        long n = random.nextLong() % 1000000000000L;
+                        assertEquals(
+                                message + n, plain.format(n, ruleSet), cached.format(n, ruleSet));
+                        double d = (random.nextInt(10000000) - 5000000) / 100.0;
+                        assertEquals(
+                                message + d, plain.format(d, ruleSet), cached.format(d, ruleSet));
+                    }
+                }
+            }
+        }
+
+        // Changing the symbols drops the cached texts.
+        RuleBasedNumberFormat rbnf =
+                new RuleBasedNumberFormat(Locale.ENGLISH, RuleBasedNumberFormat.ORDINAL);
+        rbnf.setFormatCacheEnabled(true);
+        assertEquals("ordinal", "5th", rbnf.format(5));
+        DecimalFormatSymbols dfs = new DecimalFormatSymbols(Locale.ENGLISH);
+        dfs.setZeroDigit('\u0660');
+        rbnf.setDecimalFormatSymbols(dfs);
+        assertEquals("ordinal with new symbols", "\u0665th", rbnf.format(5));
+        rbnf.setFormatCacheEnabled(false);
+        assertFalse("cache disabled", rbnf.isFormatCacheEnabled());
+        assertEquals("ordinal without cache", "\u0665th", rbnf.format(5));
+    }
+
+    @Test
+    public void TestFrozenSetters() {
+        final RuleBasedNumberFormat rbnf =
+                new RuleBasedNumberFormat(ULocale.ENGLISH, RuleBasedNumberFormat.SPELLOUT).freeze();
+        String[] names = {
+            "setGroupingUsed",
+            "setMaximumIntegerDigits",
+            "setMinimumIntegerDigits",
+            "setMaximumFractionDigits",
+            "setMinimumFractionDigits",
+            "setParseIntegerOnly",
+            "setParseStrict",
+            "setCurrency",
+            "setRoundingMode",
+            "setContext",
+            "setLenientParseMode",
+            "setFormatCacheEnabled",
+        };
+        Runnable[] setters = {
+            () -> rbnf.setGroupingUsed(false),
+            () -> rbnf.setMaximumIntegerDigits(3),
+            () -> rbnf.setMinimumIntegerDigits(2),
+            () -> rbnf.setMaximumFractionDigits(2),
+            () -> rbnf.setMinimumFractionDigits(1),
+            () -> rbnf.setParseIntegerOnly(true),
+            () -> rbnf.setParseStrict(true),
+            () -> rbnf.setCurrency(Currency.getInstance("EUR")),
+            () -> rbnf.setRoundingMode(BigDecimal.ROUND_DOWN),
+            () -> rbnf.setContext(DisplayContext.CAPITALIZATION_FOR_STANDALONE),
+            () -> rbnf.setLenientParseMode(true),
+            () -> rbnf.setFormatCacheEnabled(true),
+        };
+        for (int i = 0; i < setters.length; i++) {
+            try {
+                setters[i].run();
+                errln(names[i] + "() on a frozen formatter should throw");
+            } catch (UnsupportedOperationException expected) {
+            }
+        }
+        assertEquals(
+                "currency amount",
+                "twenty-one",
+                rbnf.format(new CurrencyAmount(21, Currency.getInstance("EUR"))));
+    }
+
+    @Test
+    public void TestFreeze() throws InterruptedException {
+        final RuleBasedNumberFormat rbnf =
+                new RuleBasedNumberFormat(ULocale.ENGLISH, RuleBasedNumberFormat.SPELLOUT);
+        rbnf.setFormatCacheEnabled(true);
+        assertFalse("not frozen", rbnf.isFrozen());
+        assertTrue("frozen", rbnf.freeze().isFrozen());
+        try {
+            rbnf.setDefaultRuleSet("%spellout-ordinal");
+            errln("setDefaultRuleSet() on a frozen formatter should throw");
+        } catch (UnsupportedOperationException expected) {
+        }
+        try {
+            rbnf.setDecimalFormatSymbols(new DecimalFormatSymbols(Locale.ENGLISH));
+            errln("setDecimalFormatSymbols() on a frozen formatter should throw");
+        } catch (UnsupportedOperationException expected) {
+        }
+        try {
+            rbnf.setMaximumFractionDigits(2);
+            errln("setMaximumFractionDigits() on a frozen formatter should throw");
+        } catch (UnsupportedOperationException expected) {
+        }
+
+        // A thawed copy can be modified without changing the frozen formatter.
+        RuleBasedNumberFormat thawed = rbnf.cloneAsThawed();
+        assertFalse("thawed", thawed.isFrozen());
+        assertTrue("thawed cache", thawed.isFormatCacheEnabled());
+        DecimalFormatSymbols dfs = new DecimalFormatSymbols(Locale.ENGLISH);
+        dfs.setDecimalSeparator('!');
+        thawed.setDecimalFormatSymbols(dfs);
+        thawed.setDefaultRuleSet("%spellout-ordinal");
+        assertEquals("thawed", "twenty-first", thawed.format(21));
+        assertEquals("frozen", "twenty-one", rbnf.format(21));
+
+        // Threads share the frozen formatter and its cache.
+        final String[] expected = new String[2000];
+        RuleBasedNumberFormat reference =
+                new RuleBasedNumberFormat(ULocale.ENGLISH, RuleBasedNumberFormat.SPELLOUT);
+        for (int n = 0; n < expected.length; n++) {
+            expected[n] = reference.format(n * 1001L);
+        }
+        final String[] failure = new String[1];
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final int start = t;
+            threads[t] =
+                    new Thread() {
+                        @Override
+                        public void run() {
+                            for (int i = 0; i < expected.length; i++) {
+                                int n = (i + start * 500) % expected.length;
+                                String result = rbnf.format(n * 1001L);
+                                if (!result.equals(expected[n])) {
+                                    failure[0] = n + ": " + result;
+                                }
+                            }
+                        }
+                    };
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals("formatting in threads", null, failure[0]);
+    }
 }
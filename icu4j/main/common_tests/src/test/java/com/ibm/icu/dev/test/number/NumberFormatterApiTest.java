@@ -25,6 +25,7 @@
 import com.ibm.icu.number.NumberFormatter.SignDisplay;
 import com.ibm.icu.number.NumberFormatter.TrailingZeroDisplay;
 import com.ibm.icu.number.NumberFormatter.UnitWidth;
+import com.ibm.icu.number.NumberFormatterCache;
 import com.ibm.icu.number.Precision;
 import com.ibm.icu.number.Scale;
 import com.ibm.icu.number.ScientificNotation;
@@ -47,9 +48,11 @@
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.text.FieldPosition;
 import java.text.Format;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Locale;
@@ -6014,6 +6017,126 @@ public void formatTypes() {
                         .toString());
     }
 
+    @Test
+    public void formatTo() {
+        String[] skeletons = {
+            "",
+            ".00",
+            "percent scale/100 .0",
+            "compact-short",
+            "scientific",
+            "currency/EUR unit-width-full-name",
+            "measure-unit/length-meter unit-width-full-name",
+            "unit/foot usage/road",
+        };
+        Number[] inputs = {
+            0L,
+            -7L,
+            51423L,
+            Long.MIN_VALUE,
+            514.23,
+            -0.0,
+            1e-9,
+            2.5e20,
+            Double.NaN,
+            Double.NEGATIVE_INFINITY,
+            new BigDecimal("98765432123456789E1"),
+            new BigInteger("-123456789012345678901234567890"),
+        };
+        for (String skeleton : skeletons) {
+            LocalizedNumberFormatter formatter =
+                    NumberFormatter.forSkeleton(skeleton).locale(ULocale.GERMANY);
+            // Several rounds, so that the formatter is compiled.
+            for (int round = 0; round < 3; round++) {
+                for (Number input : inputs) {
+                    String message = skeleton + " " + input;
+                    String expected = formatter.format(input).toString();
+                    StringBuilder sb = new StringBuilder("x");
+                    Assert.assertSame(message, sb, formatter.formatTo(input, sb));
+                    Assert.assertEquals(message, "x" + expected, sb.toString());
+                    if (input instanceof Long) {
+                        sb.setLength(0);
+                        formatter.formatTo(input.longValue(), sb);
+                        Assert.assertEquals(message, expected, sb.toString());
+                    } else if (input instanceof Double) {
+                        sb.setLength(0);
+                        formatter.formatTo(input.doubleValue(), sb);
+                        Assert.assertEquals(message, expected, sb.toString());
+                    }
+                }
+            }
+        }
+
+        // An Appendable that formats another number while the first one is being appended.
+        final LocalizedNumberFormatter formatter = NumberFormatter.withLocale(ULocale.ENGLISH);
+        final StringBuilder sb = new StringBuilder();
+        Appendable nested =
+                new Appendable() {
+                    @Override
+                    public Appendable append(CharSequence csq) {
+                        formatter.formatTo(-1.5, sb.append('('));
+                        sb.append(") ").append(csq);
+                        return this;
+                    }
+
+                    @Override
+                    public Appendable append(CharSequence csq, int start, int end) {
+                        return append(csq.subSequence(start, end));
+                    }
+
+                    @Override
+                    public Appendable append(char c) {
+                        return append(String.valueOf(c));
+                    }
+                };
+        for (int round = 0; round < 5; round++) {
+            sb.setLength(0);
+            formatter.formatTo(1234567, nested);
+            Assert.assertEquals("nested formatting", "(-1.5) 1,234,567", sb.toString());
+        }
+    }
+
+    @Test
+    public void formatterCache() {
+        LocalizedNumberFormatter cached = NumberFormatterCache.get(".00 percent", ULocale.FRANCE);
+        Assert.assertSame(
+                "same formatter", cached, NumberFormatterCache.get(".00 percent", ULocale.FRANCE));
+        Assert.assertNotSame(
+                "other locale", cached, NumberFormatterCache.get(".00 percent", ULocale.GERMANY));
+        Assert.assertEquals(
+                "format",
+                NumberFormatter.forSkeleton(".00 percent").locale(ULocale.FRANCE).format(12.3)
+                        .toString(),
+                cached.format(12.3).toString());
+
+        long hits = NumberFormatterCache.getHitCount();
+        long misses = NumberFormatterCache.getMissCount();
+        NumberFormatterCache.warmUp(Arrays.asList(".00 percent", "compact-short"), ULocale.FRANCE);
+        NumberFormatterCache.get("compact-short", ULocale.FRANCE);
+        Assert.assertEquals("misses", misses + 1, NumberFormatterCache.getMissCount());
+        Assert.assertEquals("hits", hits + 1, NumberFormatterCache.getHitCount());
+
+        try {
+            NumberFormatterCache.get("percent percent", ULocale.FRANCE);
+            Assert.fail("invalid skeleton");
+        } catch (SkeletonSyntaxException expected) {
+        }
+
+        // Fill the cache beyond its size, while using one formatter all the time.
+        int max = NumberFormatterCache.getMaximumSize();
+        long evictions = NumberFormatterCache.getEvictionCount();
+        for (int i = 0; i <= max; i++) {
+            NumberFormatterCache.get("scale/" + i, ULocale.ROOT);
+            Assert.assertSame(
+                    "recently used", cached, NumberFormatterCache.get(".00 percent", ULocale.FRANCE));
+        }
+        Assert.assertTrue("bounded", NumberFormatterCache.size() <= max);
+        Assert.assertTrue("evictions", NumberFormatterCache.getEvictionCount() > evictions);
+
+        NumberFormatterCache.clear();
+        Assert.assertEquals("cleared", 0, NumberFormatterCache.size());
+    }
+
     @Test
     public void fieldPositionLogic() {
         String message = "Field position logic test";
@@ -17,9 +17,12 @@
 import com.ibm.icu.impl.number.parse.PercentMatcher;
 import com.ibm.icu.impl.number.parse.PlusSignMatcher;
 import com.ibm.icu.impl.number.parse.SeriesMatcher;
+import com.ibm.icu.number.LocalizedNumberParser;
 import com.ibm.icu.text.DecimalFormatSymbols;
+import com.ibm.icu.text.NumberFormat;
 import com.ibm.icu.util.Currency;
 import com.ibm.icu.util.ULocale;
+import java.text.ParsePosition;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -476,4 +479,100 @@ public void testInfiniteRecursion() {
         assertEquals(
                 "Unlimited recursion, expected double", -5, resultObject.getNumber().intValue());
     }
+
+    @Test
+    public void testLocalizedNumberParser() {
+        String[] inputs = {
+            "0",
+            "-0",
+            "12",
+            "-12.50",
+            "1234567.125",
+            "123456789012345",
+            "0.000000000000001",
+            "1234567890123456789",
+            "1,234.5",
+            "1.234,5",
+            "1 234,5",
+            "  42 ",
+            "12abc",
+            "-",
+            "1.",
+            ".5",
+            "1E3",
+        };
+        ULocale[] locales = {ULocale.ENGLISH, ULocale.GERMANY, ULocale.FRANCE, new ULocale("hi")};
+        LocalizedNumberParser.Result result = new LocalizedNumberParser.Result();
+        for (ULocale locale : locales) {
+            LocalizedNumberParser parser = LocalizedNumberParser.forLocale(locale);
+            NumberFormat format = NumberFormat.getInstance(locale);
+            for (String input : inputs) {
+                String message = locale + " " + input;
+                // The parser must behave like DecimalFormat, also within a larger text.
+                ParsePosition ppos = new ParsePosition(0);
+                Number expected = format.parse(input, ppos);
+                String text = "x" + input + "y";
+                boolean success = parser.parse(text, 1, text.length() - 1, result);
+                assertEquals(message, expected != null, success);
+                if (success) {
+                    assertEquals(message, ppos.getIndex() + 1, result.getEnd());
+                    assertEquals(message, expected.doubleValue(), result.doubleValue(), 0.0);
+                    assertEquals(message, expected.longValue(), result.longValue());
+                    assertEquals(
+                            message,
+                            expected.doubleValue(),
+                            result.getNumber().doubleValue(),
+                            0.0);
+                }
+            }
+        }
+
+        LocalizedNumberParser parser = LocalizedNumberParser.forLocale(ULocale.GERMANY);
+        assertEquals("parseLong", -12345, parser.parseLong("x-12345", 1, 7));
+        assertEquals("parseLong with grouping", 12345, parser.parseLong(" 12.345 ", 0, 8));
+        assertEquals("parseDouble", 1234.5, parser.parseDouble("1234,5", 0, 6), 0.0);
+        assertEquals(
+                "parseDouble -0",
+                Double.doubleToRawLongBits(-0.0),
+                Double.doubleToRawLongBits(parser.parseDouble("-0", 0, 2)));
+        assertEquals("parse", 12345678901234567L, parser.parse("12345678901234567"));
+        String[] notLongs = {"1,5", "", "12abc", "99999999999999999999", "NaN"};
+        for (String input : notLongs) {
+            try {
+                parser.parseLong(input, 0, input.length());
+                fail("parseLong " + input);
+            } catch (NumberFormatException expected) {
+            }
+        }
+        try {
+            parser.parseDouble("1,5 kg", 0, 6);
+            fail("parseDouble with unit");
+        } catch (NumberFormatException expected) {
+        }
+    }
+
+    @Test
+    public void testLocalizedNumberParserSkeleton() {
+        LocalizedNumberParser parser =
+                LocalizedNumberParser.forSkeleton("percent scale/100", ULocale.ENGLISH);
+        assertEquals("percent", 0.125, parser.parseDouble("12.5%", 0, 5), 0.0);
+
+        parser = LocalizedNumberParser.forSkeleton("percent", ULocale.ENGLISH);
+        assertEquals("percent without scale", 12.5, parser.parseDouble("12.5%", 0, 5), 0.0);
+
+        parser = LocalizedNumberParser.forSkeleton("currency/EUR", ULocale.GERMANY);
+        LocalizedNumberParser.Result result = new LocalizedNumberParser.Result();
+        String input = "1.234,50\u00A0€";
+        assertTrue("currency", parser.parse(input, 0, input.length(), result));
+        assertEquals("currency value", 1234.5, result.doubleValue(), 0.0);
+        assertEquals("currency code", "EUR", result.getCurrencyCode());
+
+        parser = LocalizedNumberParser.forSkeleton("group-off", ULocale.ENGLISH);
+        assertTrue("grouping off", parser.parse("1,234", 0, 5, result));
+        assertEquals("grouping off", 1, result.longValue());
+        assertEquals("grouping off", 1, result.getEnd());
+
+        parser = LocalizedNumberParser.forSkeleton("numbering-system/arab", ULocale.ENGLISH);
+        assertEquals("arab", 123, parser.parseLong("١٢٣", 0, 3));
+    }
 }
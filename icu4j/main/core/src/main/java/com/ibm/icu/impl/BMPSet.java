@@ -13,6 +13,7 @@
 
 import com.ibm.icu.text.UnicodeSet.SpanCondition;
 import com.ibm.icu.util.OutputInt;
+import java.util.Arrays;
 
 /**
  * Helper class for frozen UnicodeSets, implements contains() and span() optimized for BMP code
@@ -21,6 +22,10 @@
  * <p>Latin-1: Look up bytes. 2-byte characters: Bits organized vertically. 3-byte characters: Use
  * zero/one/mixed data per 64-block in U+0000..U+FFFF, with mixed for illegal ranges. Supplementary
  * characters: Binary search over the supplementary part of the parent set's inversion list.
+ *
+ * <p>For complex sets (many ranges at or above U+0800, such as [:Assigned:] or identifier sets),
+ * the mixed 64-blocks and the supplementary code points are instead looked up in a two-level
+ * bitmap over all of U+0000..U+10FFFF, which makes contains() O(1) for all code points.
  */
 public final class BMPSet {
     public static int U16_SURROGATE_OFFSET = ((0xd800 << 10) + 0xdc00 - 0x10000);
@@ -65,6 +70,35 @@ public final class BMPSet {
 
     private final int listLength; // length used; list may be longer to minimize reallocs
 
+    /**
+     * Minimum number of inversion list entries at or above U+0800 for which the two-level bitmap
+     * is built. Below this, the restricted binary searches are short enough.
+     */
+    private static final int MIN_BITMAP_LIST_LENGTH = 32;
+
+    /**
+     * Maximum number of mixed 1k-blocks for which the two-level bitmap is built, which limits the
+     * bitmap to 64kB.
+     */
+    private static final int MAX_BITMAP_MIXED_BLOCKS = 512;
+
+    /** Offset into bitmapBits[] for the first 1k-block that is all zeros. */
+    private static final int BITMAP_ZEROS_OFFSET = 0;
+
+    /** Offset into bitmapBits[] for the second 1k-block that is all ones. */
+    private static final int BITMAP_ONES_OFFSET = 16;
+
+    /**
+     * Two-level bitmap index, or null if the set is not complex enough. With code point parts
+     * i1=c{20..10} i2=c{9..6} it is set.contains(c)==(bitmapBits[bitmapIndex[i1]+i2] bit c{5..0}).
+     * Each index value is the offset of a block of 16 longs (1024 bits) in bitmapBits[]. All
+     * all-zero and all-one blocks share the first two blocks.
+     */
+    private char[] bitmapIndex;
+
+    /** Bitmap data for bitmapIndex[], one bit per code point. */
+    private long[] bitmapBits;
+
     public BMPSet(final int[] parentList, int parentListLength) {
         list = parentList;
         listLength = parentListLength;
@@ -86,6 +120,9 @@ public BMPSet(final int[] parentList, int parentListLength) {
         list4kStarts[0x11] = listLength - 1;
 
         initBits();
+        if ((listLength - 1 - list4kStarts[0]) >= MIN_BITMAP_LIST_LENGTH) {
+            initBitmap();
+        }
     }
 
     public BMPSet(final BMPSet otherBMPSet, final int[] newParentList, int newParentListLength) {
@@ -95,6 +132,9 @@ public BMPSet(final BMPSet otherBMPSet, final int[] newParentList, int newParent
         table7FF = otherBMPSet.table7FF.clone();
         bmpBlockBits = otherBMPSet.bmpBlockBits.clone();
         list4kStarts = otherBMPSet.list4kStarts.clone();
+        // The bitmap is immutable once built and can be shared.
+        bitmapIndex = otherBMPSet.bitmapIndex;
+        bitmapBits = otherBMPSet.bitmapBits;
     }
 
     public boolean contains(int c) {
@@ -465,6 +505,70 @@ private void initBits() {
         }
     }
 
+    /**
+     * Builds the two-level bitmap for contains(c) unless the set has too many mixed 1k-blocks.
+     * Must be called after list4kStarts[] is set.
+     */
+    private void initBitmap() {
+        // One bit per code point; blocks of 1024 code points are 16 longs.
+        long[] allBits = new long[0x110000 >> 6];
+        for (int i = 0; i < listLength - 1; i += 2) {
+            int start = list[i];
+            int limit = list[i + 1];
+            while (start < limit) {
+                int end = Math.min(limit, (start | 0x3f) + 1);
+                // Bits start..end-1 within the same long; Java shifts use the low 6 bits.
+                long bits = -1L << start;
+                if ((end & 0x3f) != 0) {
+                    bits &= ~(-1L << end);
+                }
+                allBits[start >> 6] |= bits;
+                start = end;
+            }
+        }
+
+        // Count the mixed 1k-blocks to bound the size of the compacted bitmap.
+        int mixedBlocks = 0;
+        for (int block = 0; block < allBits.length; block += 16) {
+            if (uniformBlockOffset(allBits, block) < 0 && ++mixedBlocks > MAX_BITMAP_MIXED_BLOCKS) {
+                return;
+            }
+        }
+
+        char[] index = new char[0x110000 >> 10];
+        long[] bits = new long[(2 + mixedBlocks) * 16];
+        Arrays.fill(bits, BITMAP_ONES_OFFSET, BITMAP_ONES_OFFSET + 16, -1L);
+        int bitsLength = 32;
+        for (int block = 0; block < allBits.length; block += 16) {
+            int offset = uniformBlockOffset(allBits, block);
+            if (offset < 0) {
+                offset = bitsLength;
+                System.arraycopy(allBits, block, bits, offset, 16);
+                bitsLength += 16;
+            }
+            index[block >> 4] = (char) offset;
+        }
+        bitmapBits = bits;
+        bitmapIndex = index;
+    }
+
+    /**
+     * @return BITMAP_ZEROS_OFFSET or BITMAP_ONES_OFFSET if the 1k-block starting at allBits[block]
+     *     is all zeros or all ones, otherwise -1
+     */
+    private static int uniformBlockOffset(long[] allBits, int block) {
+        long first = allBits[block];
+        if (first != 0 && first != -1L) {
+            return -1;
+        }
+        for (int i = 1; i < 16; ++i) {
+            if (allBits[block + i] != first) {
+                return -1;
+            }
+        }
+        return first == 0 ? BITMAP_ZEROS_OFFSET : BITMAP_ONES_OFFSET;
+    }
+
     /**
      * Same as UnicodeSet.findCodePoint(int c) except that the binary search is restricted for
      * finding code points in a certain range.
@@ -511,6 +615,9 @@ private int findCodePoint(int c, int lo, int hi) {
     }
 
     private final boolean containsSlow(int c, int lo, int hi) {
+        if (bitmapIndex != null) {
+            return 0 != ((bitmapBits[bitmapIndex[c >> 10] + ((c >> 6) & 0xf)] >> c) & 1);
+        }
         return (0 != (findCodePoint(c, lo, hi) & 1));
     }
 }
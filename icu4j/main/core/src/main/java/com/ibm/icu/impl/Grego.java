@@ -148,16 +148,41 @@ public static Pair<Integer, Integer> dayToYear(long day) {
         return new Pair<Integer, Integer>(year, dayOfYear);
     }
 
+    /*
+     * Convert a 1970-epoch day to date fields, without allocating if the given array is large
+     * enough.
+     *
+     * fields[0] : year
+     * fields[1] : month
+     * fields[2] : dayOfMonth
+     * fields[3] : dayOfWeek
+     * fields[4] : dayOfYear
+     */
     public static int[] dayToFields(long day, int[] fields) {
         if (fields == null || fields.length < 5) {
             fields = new int[5];
         }
-        Pair<Integer, Integer> result = dayToYear(day);
-        int year = result.first;
-        int dayOfYear = result.second;
         // Convert from 1970 CE epoch to 1 CE epoch (Gregorian calendar)
         day += JULIAN_1970_CE - JULIAN_1_CE;
 
+        // Same as dayToYear(), with primitive values.
+        long n400 = floorDivide(day, 146097);
+        int rem = (int) (day - n400 * 146097);
+        int n100 = rem / 36524;
+        rem %= 36524;
+        int n4 = rem / 1461;
+        rem %= 1461;
+        int n1 = rem / 365;
+        rem %= 365;
+        int year = (int) (400 * n400 + 100 * n100 + 4 * n4 + n1);
+        int dayOfYear = rem;
+        if (n100 == 4 || n1 == 4) {
+            dayOfYear = 365; // Dec 31 at end of 4- or 400-yr cycle
+        } else {
+            ++year;
+        }
+        dayOfYear++; // 1-based day of year
+
         boolean isLeap = isLeapYear(year);
         int correction = 0;
         int march1 = isLeap ? 60 : 59; // zero-based DOY for March 1
@@ -194,10 +219,9 @@ public static int[] timeToFields(long time, int[] fields) {
         if (fields == null || fields.length < 6) {
             fields = new int[6];
         }
-        Pair<Long, Integer> result =
-                floorDivideAndRemainer(time, 24 * 60 * 60 * 1000 /* milliseconds per day */);
-        dayToFields(result.first, fields);
-        fields[5] = result.second;
+        long day = floorDivide(time, MILLIS_PER_DAY);
+        dayToFields(day, fields);
+        fields[5] = (int) (time - day * MILLIS_PER_DAY);
         return fields;
     }
 
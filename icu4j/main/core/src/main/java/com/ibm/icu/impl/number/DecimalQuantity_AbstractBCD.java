@@ -245,6 +245,15 @@ public StandardPlural getStandardPlural(PluralRules rules) {
         if (rules == null) {
             // Fail gracefully if the user didn't provide a PluralRules
             return StandardPlural.OTHER;
+        } else if (!isApproximate
+                && !isNaN()
+                && !isInfinite()
+                && exponent == 0
+                && fractionCount() == 0
+                && scale + precision <= 18) {
+            // An integer without visible fraction digits, below 10^18: select(long) evaluates it
+            // exactly, without computing the operands one by one as doubles.
+            return StandardPlural.orOtherFromString(rules.select(Math.abs(toLong(true))));
         } else {
             @SuppressWarnings("deprecation")
             String ruleString = rules.select(this);
@@ -411,6 +420,15 @@ private void _setToLong(long n) {
         }
     }
 
+    /**
+     * Sets the BCD, which must be zero, to significand * 10^exponent. Called by {@link
+     * DoubleToDecimal}.
+     */
+    void setToDecimal(long significand, int exponent) {
+        _setToLong(significand);
+        scale += exponent;
+    }
+
     public void setToBigInteger(BigInteger n) {
         setBcdToZero();
         flags = 0;
@@ -511,9 +529,9 @@ private void _setToDoubleFast(double n) {
     }
 
     /**
-     * Uses Double.toString() to obtain an exact accurate representation of the double, overwriting
-     * it into the BCD. This method can be called at any point after {@link #_setToDoubleFast} while
-     * {@link #isApproximate} is still true.
+     * Computes the shortest decimal representation of the double, overwriting it into the BCD. This
+     * method can be called at any point after {@link #_setToDoubleFast} while {@link
+     * #isApproximate} is still true.
      */
     private void convertToAccurateDouble() {
         double n = origDouble;
@@ -521,35 +539,8 @@ private void convertToAccurateDouble() {
         int delta = origDelta;
         setBcdToZero();
 
-        // Call the slow oracle function (Double.toString in Java, sprintf in C++).
-        String dstr = Double.toString(n);
-
-        if (dstr.indexOf('E') != -1) {
-            // Case 1: Exponential notation.
-            assert dstr.indexOf('.') == 1;
-            int expPos = dstr.indexOf('E');
-            _setToLong(Long.parseLong(dstr.charAt(0) + dstr.substring(2, expPos)));
-            scale += Integer.parseInt(dstr.substring(expPos + 1)) - (expPos - 1) + 1;
-        } else if (dstr.charAt(0) == '0') {
-            // Case 2: Fraction-only number.
-            assert dstr.indexOf('.') == 1;
-            _setToLong(Long.parseLong(dstr.substring(2)));
-            scale += 2 - dstr.length();
-        } else if (dstr.charAt(dstr.length() - 1) == '0') {
-            // Case 3: Integer-only number.
-            // Note: this path should not normally happen, because integer-only numbers are captured
-            // before the approximate double logic is performed.
-            assert dstr.indexOf('.') == dstr.length() - 2;
-            assert dstr.length() - 2 <= 18;
-            _setToLong(Long.parseLong(dstr.substring(0, dstr.length() - 2)));
-            // no need to adjust scale
-        } else {
-            // Case 4: Number with both a fraction and an integer.
-            int decimalPos = dstr.indexOf('.');
-            _setToLong(
-                    Long.parseLong(dstr.substring(0, decimalPos) + dstr.substring(decimalPos + 1)));
-            scale += decimalPos - dstr.length() + 1;
-        }
+        // The digits are those of Double.toString() since Java 19, without creating a String.
+        DoubleToDecimal.setToShortest(n, this);
 
         scale += delta;
         compact();
@@ -703,7 +694,7 @@ public double toDouble() {
     @Override
     public BigDecimal toBigDecimal() {
         if (isApproximate) {
-            // Converting to a BigDecimal requires Double.toString().
+            // Converting to a BigDecimal requires the shortest representation of the double.
             convertToAccurateDouble();
         }
         return bcdToBigDecimal();
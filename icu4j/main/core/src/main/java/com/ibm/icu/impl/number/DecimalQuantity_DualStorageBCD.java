@@ -60,6 +60,16 @@ public DecimalQuantity_DualStorageBCD(DecimalQuantity_DualStorageBCD other) {
     }
 
     public DecimalQuantity_DualStorageBCD(Number number) {
+        setToNumber(number);
+    }
+
+    /**
+     * Sets the value to that of the given {@link Long}, {@link Integer}, {@link Float}, {@link
+     * Double}, {@link BigInteger}, or {@link BigDecimal}.
+     *
+     * @param number The value to consume.
+     */
+    public void setToNumber(Number number) {
         // NOTE: Number type expansion happens both here
         // and in NumberFormat.java
         if (number instanceof Long) {
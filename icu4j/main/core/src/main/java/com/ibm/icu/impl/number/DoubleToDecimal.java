@@ -0,0 +1,171 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: http://www.unicode.org/copyright.html
+package com.ibm.icu.impl.number;
+
+import java.math.BigInteger;
+
+/**
+ * Computes the shortest decimal representation of a double, that is, the decimal with the fewest
+ * significant digits that rounds to the double, and among those the closest one. This is the same
+ * decimal that Double.toString() returns since Java 19 and that the double-conversion library of
+ * ICU4C returns.
+ *
+ * <p>The implementation follows the Schubfach algorithm by Raffaello Giulietti, "The Schubfach way
+ * to render doubles" (2021), as it is used in OpenJDK. It does not allocate any objects.
+ */
+final class DoubleToDecimal {
+    private static final int P = 53; // precision, including the hidden bit
+    private static final int Q_MIN = -1074; // minimum binary exponent
+    private static final long C_MIN = 1L << (P - 1);
+    private static final long C_TINY = 3; // subnormal significands below this get two digits
+    private static final long T_MASK = C_MIN - 1;
+    private static final int BQ_MASK = 0x7ff;
+    private static final long MASK_63 = (1L << 63) - 1;
+
+    private static final int K_MIN = -324;
+    private static final int K_MAX = 292;
+
+    private DoubleToDecimal() {}
+
+    /**
+     * Sets the BCD of the quantity, which must be zero, to the shortest decimal representation of
+     * the double.
+     *
+     * @param v A positive, finite double.
+     * @param q The quantity to receive the digits.
+     */
+    static void setToShortest(double v, DecimalQuantity_AbstractBCD q) {
+        assert v > 0 && v < Double.POSITIVE_INFINITY;
+        long bits = Double.doubleToRawLongBits(v);
+        long t = bits & T_MASK;
+        int bq = (int) (bits >>> (P - 1)) & BQ_MASK;
+        if (bq != 0) {
+            // Normal value: v = c 2^q, with q = -mq.
+            int mq = -Q_MIN + 1 - bq;
+            long c = C_MIN | t;
+            if (0 < mq && mq < P) {
+                // Integers are exact.
+                long f = c >> mq;
+                if (f << mq == c) {
+                    q.setToDecimal(f, 0);
+                    return;
+                }
+            }
+            toDecimal(-mq, c, 0, q);
+        } else if (t < C_TINY) {
+            // Subnormal values with a single digit are written with two, like Double.toString().
+            toDecimal(Q_MIN, 10 * t, -1, q);
+        } else {
+            toDecimal(Q_MIN, t, 0, q);
+        }
+    }
+
+    /* Computes the decimal for c 2^q, where 10^-dk c is the significand of the double. */
+    private static void toDecimal(int qb, long c, int dk, DecimalQuantity_AbstractBCD q) {
+        // The rounding interval of v is [vl, vr] if c is even, (vl, vr) otherwise.
+        int out = (int) c & 0x1;
+        long cb = c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        if (c != C_MIN || qb == Q_MIN) {
+            cbl = cb - 2;
+            k = flog10pow2(qb);
+        } else {
+            // The interval is asymmetric at powers of two.
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(qb);
+        }
+        int h = qb + flog2pow10(-k) + 2;
+
+        // The scaled values 4 v 10^-k, 4 vl 10^-k and 4 vr 10^-k, rounded to odd.
+        int i = (k - K_MIN) << 1;
+        long[] g = G.TABLE;
+        long g1 = g[i];
+        long g0 = g[i + 1];
+        long vb = rop(g1, g0, cb << h);
+        long vbl = rop(g1, g0, cbl << h);
+        long vbr = rop(g1, g0, cbr << h);
+
+        long s = vb >> 2;
+        if (s >= 100) {
+            // Try one digit less: sp10 = 10 floor(s / 10).
+            long sp10 = 10 * Math.multiplyHigh(s, 115_292_150_460_684_698L << 4);
+            long tp10 = sp10 + 10;
+            boolean upin = vbl + out <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin) {
+                q.setToDecimal(upin ? sp10 : tp10, k);
+                return;
+            }
+        }
+
+        long tb = s + 1;
+        boolean uin = vbl + out <= s << 2;
+        boolean win = (tb << 2) + out <= vbr;
+        if (uin != win) {
+            q.setToDecimal(uin ? s : tb, k + dk);
+            return;
+        }
+        // Both candidates are in the interval: choose the closer one, or the even one on a tie.
+        long cmp = vb - ((s + tb) << 1);
+        q.setToDecimal(cmp < 0 || (cmp == 0 && (s & 0x1) == 0) ? s : tb, k + dk);
+    }
+
+    /* Returns cp g 2^-127, rounded to odd, where g = g1 2^63 + g0. */
+    private static long rop(long g1, long g0, long cp) {
+        long x1 = Math.multiplyHigh(g0, cp);
+        long y0 = g1 * cp;
+        long y1 = Math.multiplyHigh(g1, cp);
+        long z = (y0 >>> 1) + x1;
+        long vbp = y1 + (z >>> 63);
+        return vbp | (((z & MASK_63) + MASK_63) >>> 63);
+    }
+
+    /* floor(log10(2^e)), for |e| <= 5456721 */
+    private static int flog10pow2(int e) {
+        return (int) ((e * 661_971_961_083L) >> 41);
+    }
+
+    /* floor(log10(3/4 2^e)), for |e| <= 1838394 */
+    private static int flog10threeQuartersPow2(int e) {
+        return (int) ((e * 661_971_961_083L - 274_743_187_321L) >> 41);
+    }
+
+    /* floor(log2(10^e)), for |e| <= 1233110 */
+    private static int flog2pow10(int e) {
+        return (int) ((e * 913_124_641_741L) >> 38);
+    }
+
+    /**
+     * The 126-bit approximations g of the powers of ten 10^-k for K_MIN <= k <= K_MAX, stored as
+     * pairs g1 = floor(g 2^-63) and g0 = g mod 2^63. With 10^-k = b 2^r and 2^125 <= b < 2^126, g =
+     * floor(b) + 1. The table is computed when it is first needed.
+     */
+    private static final class G {
+        static final long[] TABLE = new long[(K_MAX - K_MIN + 1) << 1];
+
+        static {
+            BigInteger mask63 = BigInteger.valueOf(MASK_63);
+            for (int k = K_MIN; k <= K_MAX; k++) {
+                int r = flog2pow10(-k) - 125;
+                BigInteger num = BigInteger.ONE;
+                BigInteger den = BigInteger.ONE;
+                if (k < 0) {
+                    num = BigInteger.TEN.pow(-k);
+                } else {
+                    den = BigInteger.TEN.pow(k);
+                }
+                if (r < 0) {
+                    num = num.shiftLeft(-r);
+                } else {
+                    den = den.shiftLeft(r);
+                }
+                BigInteger g = num.divide(den).add(BigInteger.ONE);
+                int i = (k - K_MIN) << 1;
+                TABLE[i] = g.shiftRight(63).longValueExact();
+                TABLE[i + 1] = g.and(mask63).longValue();
+            }
+        }
+    }
+}
@@ -1427,8 +1427,8 @@ private void multiSimpleFormatsToModifiers(
     }
 
     @Override
-    public MicroProps processQuantity(DecimalQuantity quantity) {
-        MicroProps micros = parent.processQuantity(quantity);
+    public MicroProps processQuantity(DecimalQuantity quantity, MicroProps output) {
+        MicroProps micros = parent.processQuantity(quantity, output);
         StandardPlural pluralForm = RoundingUtils.getPluralSafe(micros.rounder, rules, quantity);
         micros.modOuter = modifiers.get(pluralForm);
         micros.gender = this.gender;
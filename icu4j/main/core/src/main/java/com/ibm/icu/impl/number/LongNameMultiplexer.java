@@ -76,11 +76,11 @@ public static LongNameMultiplexer forMeasureUnits(
     // The output unit must be provided via `micros.outputUnit`, it must match
     // one of the units provided to the factory function.
     @Override
-    public MicroProps processQuantity(DecimalQuantity quantity) {
+    public MicroProps processQuantity(DecimalQuantity quantity, MicroProps output) {
         // We call parent.processQuantity() from the Multiplexer, instead of
         // letting LongNameHandler handle it: we don't know which LongNameHandler to
         // call until we've called the parent!
-        MicroProps micros = this.fParent.processQuantity(quantity);
+        MicroProps micros = this.fParent.processQuantity(quantity, output);
 
         // Call the correct LongNameHandler based on outputUnit
         for (int i = 0; i < this.fHandlers.size(); i++) {
@@ -80,13 +80,19 @@ public MicroProps(boolean immutable) {
      * <p>For the "safe" invocation of this function, micros must not be *this, such that a copy of
      * the base instance is made. For the "unsafe" path, this function can be used only once,
      * because the base MicroProps instance will be modified and thus not be available for re-use.
+     * In the "safe" invocation, the copy is made into the output if one is given.
      *
      * @param quantity The quantity for consideration and optional mutation.
+     * @param output A MicroProps instance to copy the base instance into, or null.
      * @return an initialized MicroProps instance.
      */
     @Override
-    public MicroProps processQuantity(DecimalQuantity quantity) {
+    public MicroProps processQuantity(DecimalQuantity quantity, MicroProps output) {
         if (immutable) {
+            if (output != null) {
+                output.copyFrom(this);
+                return output;
+            }
             return this.clone();
         } else if (exhausted) {
             // Safety check
@@ -97,6 +103,30 @@ public MicroProps processQuantity(DecimalQuantity quantity) {
         }
     }
 
+    /**
+     * Copies the properties of another instance into this one, like {@link #clone()} without the
+     * allocation. Keep this in sync with the list of public fields.
+     */
+    public void copyFrom(MicroProps other) {
+        sign = other.sign;
+        symbols = other.symbols;
+        nsName = other.nsName;
+        padding = other.padding;
+        decimal = other.decimal;
+        integerWidth = other.integerWidth;
+        modOuter = other.modOuter;
+        modMiddle = other.modMiddle;
+        modInner = other.modInner;
+        rounder = other.rounder;
+        grouping = other.grouping;
+        useCurrency = other.useCurrency;
+        gender = other.gender;
+        currencyAsDecimal = other.currencyAsDecimal;
+        outputUnit = other.outputUnit;
+        mixedMeasures = other.mixedMeasures;
+        indexOfQuantity = other.indexOfQuantity;
+    }
+
     @Override
     public MicroProps clone() {
         try {
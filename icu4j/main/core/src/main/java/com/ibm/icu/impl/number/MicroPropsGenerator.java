@@ -32,8 +32,8 @@
  *     }
  *
  *     &#64;Override
- *     public MicroProps processQuantity(DecimalQuantity quantity) {
- *         MicroProps micros = this.parent.processQuantity(quantity);
+ *     public MicroProps processQuantity(DecimalQuantity quantity, MicroProps output) {
+ *         MicroProps micros = this.parent.processQuantity(quantity, output);
  *         // Perform manipulations on micros and/or quantity
  *         return micros;
  *     }
@@ -50,5 +50,19 @@ public interface MicroPropsGenerator {
      * @param quantity The quantity for consideration and optional mutation.
      * @return A MicroProps instance resolved for the quantity.
      */
-    public MicroProps processQuantity(DecimalQuantity quantity);
+    public default MicroProps processQuantity(DecimalQuantity quantity) {
+        return processQuantity(quantity, null);
+    }
+
+    /**
+     * Like {@link #processQuantity(DecimalQuantity)}, but the result may be written into the given
+     * MicroProps. If the base instance at the top of the chain would make a copy of itself, it
+     * copies itself into the output instead, so that a caller can reuse the same output for many
+     * quantities. Each element in the chain must pass the output on to its parent.
+     *
+     * @param quantity The quantity for consideration and optional mutation.
+     * @param output A MicroProps instance that may be overwritten and returned, or null.
+     * @return A MicroProps instance resolved for the quantity.
+     */
+    public MicroProps processQuantity(DecimalQuantity quantity, MicroProps output);
 }
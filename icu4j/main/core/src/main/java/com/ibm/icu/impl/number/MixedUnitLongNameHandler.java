@@ -113,10 +113,10 @@ public static MixedUnitLongNameHandler forMeasureUnit(
      * processQuantityWithMicros() instead.
      */
     @Override
-    public MicroProps processQuantity(DecimalQuantity quantity) {
+    public MicroProps processQuantity(DecimalQuantity quantity, MicroProps output) {
         assert (fMixedUnitData.size() > 1);
         MicroProps micros;
-        micros = parent.processQuantity(quantity);
+        micros = parent.processQuantity(quantity, output);
         micros.modOuter = getMixedUnitModifier(quantity, micros);
         return micros;
     }
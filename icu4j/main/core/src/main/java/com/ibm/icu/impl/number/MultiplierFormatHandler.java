@@ -15,8 +15,8 @@ public MultiplierFormatHandler(Scale multiplier, MicroPropsGenerator parent) {
     }
 
     @Override
-    public MicroProps processQuantity(DecimalQuantity quantity) {
-        MicroProps micros = parent.processQuantity(quantity);
+    public MicroProps processQuantity(DecimalQuantity quantity, MicroProps output) {
+        MicroProps micros = parent.processQuantity(quantity, output);
         multiplier.applyTo(quantity);
         return micros;
     }
@@ -218,8 +218,8 @@ public ImmutablePatternModifier addToChain(MicroPropsGenerator parent) {
         }
 
         @Override
-        public MicroProps processQuantity(DecimalQuantity quantity) {
-            MicroProps micros = parent.processQuantity(quantity);
+        public MicroProps processQuantity(DecimalQuantity quantity, MicroProps output) {
+            MicroProps micros = parent.processQuantity(quantity, output);
             if (micros.rounder != null) {
                 micros.rounder.apply(quantity);
             }
@@ -259,8 +259,8 @@ public MicroPropsGenerator addToChain(MicroPropsGenerator parent) {
     }
 
     @Override
-    public MicroProps processQuantity(DecimalQuantity fq) {
-        MicroProps micros = parent.processQuantity(fq);
+    public MicroProps processQuantity(DecimalQuantity fq, MicroProps output) {
+        MicroProps micros = parent.processQuantity(fq, output);
         if (micros.rounder != null) {
             micros.rounder.apply(fq);
         }
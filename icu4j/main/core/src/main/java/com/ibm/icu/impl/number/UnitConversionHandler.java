@@ -29,13 +29,13 @@ public UnitConversionHandler(MeasureUnit targetUnit, MicroPropsGenerator parent)
         this.fParent = parent;
         MeasureUnitImpl targetUnitImpl = MeasureUnitImpl.forIdentifier(targetUnit.getIdentifier());
         this.fComplexUnitConverter =
-                new ComplexUnitsConverter(targetUnitImpl, new ConversionRates());
+                new ComplexUnitsConverter(targetUnitImpl, ConversionRates.getShared());
     }
 
     /** Obtains the appropriate output values from the Unit Converter. */
     @Override
-    public MicroProps processQuantity(DecimalQuantity quantity) {
-        MicroProps result = this.fParent.processQuantity(quantity);
+    public MicroProps processQuantity(DecimalQuantity quantity, MicroProps output) {
+        MicroProps result = this.fParent.processQuantity(quantity, output);
 
         quantity.roundToInfinity(); // Enables toDouble
         ComplexUnitsConverter.ComplexConverterResult complexConverterResult =
@@ -3,7 +3,6 @@
 package com.ibm.icu.impl.number;
 
 import com.ibm.icu.impl.units.ComplexUnitsConverter;
-import com.ibm.icu.impl.units.MeasureUnitImpl;
 import com.ibm.icu.impl.units.UnitsRouter;
 import com.ibm.icu.util.MeasureUnit;
 import com.ibm.icu.util.ULocale;
@@ -13,16 +12,14 @@
 public class UsagePrefsHandler implements MicroPropsGenerator {
 
     private final MicroPropsGenerator fParent;
-    private UnitsRouter fUnitsRouter;
+    private final UnitsRouter fUnitsRouter;
 
     public UsagePrefsHandler(
             ULocale locale, MeasureUnit inputUnit, String usage, MicroPropsGenerator parent) {
         assert parent != null;
 
         this.fParent = parent;
-        this.fUnitsRouter =
-                new UnitsRouter(
-                        MeasureUnitImpl.forIdentifier(inputUnit.getIdentifier()), locale, usage);
+        this.fUnitsRouter = UnitsRouter.getInstance(inputUnit.getIdentifier(), locale, usage);
     }
 
     /** Populates micros.mixedMeasures and modifies quantity, based on the values in measures. */
@@ -53,12 +50,12 @@ public List<MeasureUnit> getOutputUnits() {
      * <p>The output unit is passed on to the LongNameHandler via micros.outputUnit.
      */
     @Override
-    public MicroProps processQuantity(DecimalQuantity quantity) {
-        MicroProps micros = this.fParent.processQuantity(quantity);
+    public MicroProps processQuantity(DecimalQuantity quantity, MicroProps output) {
+        MicroProps micros = this.fParent.processQuantity(quantity, output);
 
         quantity.roundToInfinity(); // Enables toDouble
         final UnitsRouter.RouteResult routed = fUnitsRouter.route(quantity.toBigDecimal(), micros);
-        micros.outputUnit = routed.outputUnit.build();
+        micros.outputUnit = routed.outputMeasureUnit;
         UsagePrefsHandler.mixedMeasuresToMicros(routed.complexConverterResult, quantity, micros);
         return micros;
     }
@@ -2,10 +2,12 @@
 // License & terms of use: http://www.unicode.org/copyright.html
 package com.ibm.icu.impl.units;
 
+import com.ibm.icu.impl.SoftCache;
 import com.ibm.icu.impl.number.DecimalQuantity;
 import com.ibm.icu.impl.number.DecimalQuantity_DualStorageBCD;
 import com.ibm.icu.number.Precision;
 import com.ibm.icu.util.Measure;
+import com.ibm.icu.util.MeasureUnit;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
@@ -38,6 +40,37 @@ public class ComplexUnitsConverter {
 
     private MeasureUnitImpl inputUnit_;
 
+    /**
+     * The MeasureUnit of each element of units_, built once so that convert does not serialize
+     * units_, which may be shared by threads.
+     */
+    private MeasureUnit[] outputUnits_;
+
+    private static final SoftCache<String, ComplexUnitsConverter, MeasureUnitImpl[]> CACHE =
+            new SoftCache<String, ComplexUnitsConverter, MeasureUnitImpl[]>() {
+                @Override
+                protected ComplexUnitsConverter createInstance(
+                        String key, MeasureUnitImpl[] units) {
+                    return new ComplexUnitsConverter(
+                            units[0], units[1], ConversionRates.getShared());
+                }
+            };
+
+    /**
+     * Returns a converter from inputUnit to outputUnits, like the constructor, from a cache. The
+     * returned converter is shared, so its public fields must not be modified.
+     *
+     * @param inputUnit represents the source unit. (should be single or compound unit).
+     * @param outputUnits represents the output unit. could be any type. (single, compound or
+     *     mixed).
+     */
+    public static ComplexUnitsConverter getInstance(
+            MeasureUnitImpl inputUnit, MeasureUnitImpl outputUnits) {
+        String key =
+                inputUnit.getNormalizedIdentifier() + ' ' + outputUnits.getNormalizedIdentifier();
+        return CACHE.getInstance(key, new MeasureUnitImpl[] {inputUnit, outputUnits});
+    }
+
     /**
      * Constructs <code>ComplexUnitsConverter</code> for an <code>inputUnit</code> that could be
      * Single, Compound or Mixed. In case of: 1- Single and Compound units, the conversion will not
@@ -131,7 +164,9 @@ private void init(ConversionRates conversionRates) {
         //              inches)
         //              3. then, the final result will be (6 feet and 6.74016 inches)
         unitsConverters_ = new ArrayList<>();
+        outputUnits_ = new MeasureUnit[units_.size()];
         for (int i = 0, n = units_.size(); i < n; i++) {
+            outputUnits_[i] = units_.get(i).unitImpl.build();
             if (i == 0) { // first element
                 unitsConverters_.add(
                         new UnitsConverter(
@@ -237,16 +272,14 @@ public ComplexConverterResult convert(BigDecimal quantity, Precision rounder) {
         int indexOfQuantity = -1;
         for (int i = 0, n = unitsConverters_.size(); i < n; ++i) {
             if (i < n - 1) {
-                Measure measure =
-                        new Measure(
-                                intValues.get(i).multiply(sign), units_.get(i).unitImpl.build());
+                Measure measure = new Measure(intValues.get(i).multiply(sign), outputUnits_[i]);
                 measures.set(units_.get(i).index, measure);
             } else {
                 indexOfQuantity = units_.get(i).index;
                 Measure measure =
                         new Measure(
                                 quantity.multiply(BigDecimal.valueOf(sign.longValue())),
-                                units_.get(i).unitImpl.build());
+                                outputUnits_[i]);
                 measures.set(indexOfQuantity, measure);
             }
         }
@@ -254,6 +287,48 @@ public ComplexConverterResult convert(BigDecimal quantity, Precision rounder) {
         return new ComplexConverterResult(indexOfQuantity, measures);
     }
 
+    /**
+     * Converts all values of in like convert(BigDecimal, null), in double precision, without
+     * creating Measure objects. For N output units, the values for in[k] are stored in out[k * N]
+     * to out[k * N + N - 1], in the requested output order. For example, converting 2 meters to
+     * {@code foot-and-inch} stores 6 and 6.74016 (feet and inches).
+     *
+     * @throws IllegalArgumentException if out is shorter than N times the length of in.
+     */
+    public void convert(double[] in, double[] out) {
+        int n = unitsConverters_.size();
+        if (out.length / n < in.length) {
+            throw new IllegalArgumentException("output array is too short for the input array");
+        }
+        if (n == 1) {
+            unitsConverters_.get(0).convert(in, out);
+            return;
+        }
+        UnitsConverter[] converters = unitsConverters_.toArray(new UnitsConverter[n]);
+        int[] indexes = new int[n];
+        for (int i = 0; i < n; i++) {
+            indexes[i] = units_.get(i).index;
+        }
+        double epsilonMultiplier = 1 + Math.ulp(1.0);
+        for (int k = 0, start = 0; k < in.length; k++, start += n) {
+            double quantity = in[k];
+            double sign = 1;
+            if (quantity < 0) {
+                quantity = -quantity;
+                sign = -1;
+            }
+            // See convert(BigDecimal, Precision) for the thresholding.
+            for (int i = 0; i < n - 1; i++) {
+                quantity = converters[i].convert(quantity);
+                double flooredQuantity = Math.floor(quantity * epsilonMultiplier);
+                out[start + indexes[i]] = flooredQuantity * sign + 0.0;
+                quantity = Math.max(quantity - flooredQuantity, 0);
+            }
+            quantity = converters[n - 1].convert(quantity);
+            out[start + indexes[n - 1]] = quantity * sign + 0.0;
+        }
+    }
+
     /**
      * Applies the rounder to the quantity (last element) and bubble up any carried value to all the
      * intValues.
@@ -22,6 +22,19 @@ public class ConversionRates {
      */
     private HashMap<String, ConversionRateInfo> mapToConversionRate;
 
+    /* The conversion rates shared by the cached converters, loaded when first needed. */
+    private static final class Shared {
+        static final ConversionRates INSTANCE = new ConversionRates();
+    }
+
+    /**
+     * Returns conversion rates that are shared by the cached converters. They do not change after
+     * construction.
+     */
+    public static ConversionRates getShared() {
+        return Shared.INSTANCE;
+    }
+
     public ConversionRates() {
         // Read the conversion rates from the data (units.txt).
         ICUResourceBundle resource;
@@ -227,6 +227,19 @@ public String getIdentifier() {
         return identifier;
     }
 
+    /**
+     * Returns the CLDR unit identifier, computing it on a copy if needed, so that this object is
+     * not modified.
+     */
+    String getNormalizedIdentifier() {
+        if (identifier != null) {
+            return identifier;
+        }
+        MeasureUnitImpl copy = copy();
+        copy.serialize();
+        return copy.identifier;
+    }
+
     public MeasureUnit.Complexity getComplexity() {
         return complexity;
     }
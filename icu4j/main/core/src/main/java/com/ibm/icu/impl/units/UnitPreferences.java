@@ -28,6 +28,16 @@ public class UnitPreferences {
     private HashMap<String, HashMap<String, UnitPreference[]>> mapToUnitPreferences =
             new HashMap<>();
 
+    /* The unit preferences shared by all UnitsData instances, loaded when first needed. */
+    private static final class Shared {
+        static final UnitPreferences INSTANCE = new UnitPreferences();
+    }
+
+    /** Returns unit preferences that are shared. They do not change after construction. */
+    static UnitPreferences getShared() {
+        return Shared.INSTANCE;
+    }
+
     public UnitPreferences() {
         // Read unit preferences
         ICUResourceBundle resource;
@@ -106,7 +116,7 @@ public UnitPreference[] getPreferencesFor(
             result = getUnitPreferences(category, subUsage, region);
 
             if (result != null && isLocaleSystem) {
-                ConversionRates rates = new ConversionRates();
+                ConversionRates rates = data.getConversionRates();
                 boolean unitsMatchSystem = true;
                 for (UnitPreference unitPref : result) {
                     MeasureUnitImpl measureUnit = MeasureUnitImpl.forIdentifier(unitPref.getUnit());
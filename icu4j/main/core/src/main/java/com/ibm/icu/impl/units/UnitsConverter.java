@@ -5,6 +5,7 @@
 import static java.math.MathContext.DECIMAL128;
 
 import com.ibm.icu.impl.IllegalIcuArgumentException;
+import com.ibm.icu.impl.SoftCache;
 import com.ibm.icu.util.MeasureUnit;
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -21,6 +22,31 @@ public class UnitsConverter {
     private String specialSource;
     private String specialTarget;
 
+    /** conversionRate and offset in double precision, for convert(double). */
+    private double doubleRate;
+
+    private double doubleOffset;
+
+    private static final SoftCache<String, UnitsConverter, MeasureUnitImpl[]> CACHE =
+            new SoftCache<String, UnitsConverter, MeasureUnitImpl[]>() {
+                @Override
+                protected UnitsConverter createInstance(String key, MeasureUnitImpl[] units) {
+                    return new UnitsConverter(units[0], units[1], ConversionRates.getShared());
+                }
+            };
+
+    /**
+     * Returns a converter from the source to the target unit, like the constructor, from a cache.
+     * Converters do not change after construction, so a cached one can be shared by threads.
+     *
+     * @param source represents the source unit.
+     * @param target represents the target unit.
+     */
+    public static UnitsConverter getInstance(MeasureUnitImpl source, MeasureUnitImpl target) {
+        String key = source.getNormalizedIdentifier() + ' ' + target.getNormalizedIdentifier();
+        return CACHE.getInstance(key, new MeasureUnitImpl[] {source, target});
+    }
+
     /**
      * Constructor of <code>UnitsConverter</code>. NOTE: - source and target must be under the same
      * category - e.g. meter to mile --> both of them are length units.
@@ -88,6 +114,8 @@ public UnitsConverter(
                 this.conversionRate = BigDecimal.ONE;
             }
         }
+        this.doubleRate = this.conversionRate.doubleValue();
+        this.doubleOffset = this.offset.doubleValue();
     }
 
     public static Convertibility extractConvertibility(
@@ -178,6 +206,49 @@ public BigDecimal convert(BigDecimal inputValue) {
         return result;
     }
 
+    /**
+     * Converts inputValue (source) to target like convert(BigDecimal), in double precision. The
+     * result may differ from the rounded result of convert(BigDecimal) in the last bits, like the
+     * results of ICU4C, which converts in double precision throughout.
+     */
+    public double convert(double inputValue) {
+        if (this.specialSource != null || this.specialTarget != null) {
+            if (Double.isNaN(inputValue) || Double.isInfinite(inputValue)) {
+                return Double.NaN;
+            }
+            return convert(BigDecimal.valueOf(inputValue)).doubleValue();
+        }
+        double result = inputValue * doubleRate + doubleOffset;
+        if (this.reciprocal) {
+            // TODO(ICU-21988): determine desirable behaviour for zero
+            result = result == 0 ? 0 : 1 / result;
+        }
+        return result;
+    }
+
+    /**
+     * Converts all values of in (source) to target like convert(double), and stores the results
+     * at the same indexes of out. in and out may be the same array.
+     *
+     * @throws IllegalArgumentException if out is shorter than in.
+     */
+    public void convert(double[] in, double[] out) {
+        if (out.length < in.length) {
+            throw new IllegalArgumentException("output array is shorter than the input array");
+        }
+        if (this.specialSource != null || this.specialTarget != null || this.reciprocal) {
+            for (int i = 0; i < in.length; i++) {
+                out[i] = convert(in[i]);
+            }
+            return;
+        }
+        double rate = doubleRate;
+        double offset = doubleOffset;
+        for (int i = 0; i < in.length; i++) {
+            out[i] = in[i] * rate + offset;
+        }
+    }
+
     // Convert inputValue (target) to base then to source
     public BigDecimal convertInverse(BigDecimal inputValue) {
         BigDecimal result = inputValue;
@@ -36,9 +36,10 @@ public class UnitsData {
     private ConversionRates conversionRates;
     private UnitPreferences unitPreferences;
 
+    /** Constructs a UnitsData that uses the shared conversion rates and unit preferences. */
     public UnitsData() {
-        this.conversionRates = new ConversionRates();
-        this.unitPreferences = new UnitPreferences();
+        this.conversionRates = ConversionRates.getShared();
+        this.unitPreferences = UnitPreferences.getShared();
     }
 
     public static String[] getSimpleUnits() {
@@ -3,12 +3,14 @@
 package com.ibm.icu.impl.units;
 
 import com.ibm.icu.impl.IllegalIcuArgumentException;
+import com.ibm.icu.impl.SoftCache;
 import com.ibm.icu.impl.number.MicroProps;
 import com.ibm.icu.number.Precision;
 import com.ibm.icu.util.MeasureUnit;
 import com.ibm.icu.util.ULocale;
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -33,17 +35,52 @@ public class UnitsRouter {
     // List of possible output units. TODO: converterPreferences_ now also has
     // this data available. Maybe drop outputUnits_ and have getOutputUnits
     // construct a the list from data in converterPreferences_ instead?
-    private ArrayList<MeasureUnit> outputUnits_ = new ArrayList<>();
-    private ArrayList<ConverterPreference> converterPreferences_ = new ArrayList<>();
+    private final List<MeasureUnit> outputUnits_;
+    private final ArrayList<ConverterPreference> converterPreferences_ = new ArrayList<>();
+
+    private static final SoftCache<String, UnitsRouter, Object[]> CACHE =
+            new SoftCache<String, UnitsRouter, Object[]>() {
+                @Override
+                protected UnitsRouter createInstance(String key, Object[] data) {
+                    return new UnitsRouter((String) data[0], (ULocale) data[1], (String) data[2]);
+                }
+            };
+
+    /**
+     * Returns a router like the constructor, from a cache. Routers do not change after
+     * construction, so a cached one can be shared by threads.
+     *
+     * <p>The cache key is made of the parts of the locale that the unit preferences depend on: the
+     * region for supplemental data and the {@code mu} and {@code measure} keywords. So all locales
+     * of a region share one router per usage and input unit.
+     */
+    public static UnitsRouter getInstance(
+            String inputUnitIdentifier, ULocale locale, String usage) {
+        // The same region as in UnitPreferences.getPreferencesFor(); the lookup is ICU internal
+        // API, which is deprecated only to keep it out of the public API.
+        @SuppressWarnings("deprecation")
+        String region = ULocale.getRegionForSupplementalData(locale, true);
+        String key =
+                inputUnitIdentifier
+                        + ' '
+                        + usage
+                        + ' '
+                        + region
+                        + ' '
+                        + locale.getKeywordValue("mu")
+                        + ' '
+                        + locale.getKeywordValue("measure");
+        return CACHE.getInstance(key, new Object[] {inputUnitIdentifier, locale, usage});
+    }
 
     public UnitsRouter(String inputUnitIdentifier, ULocale locale, String usage) {
         this(MeasureUnitImpl.forIdentifier(inputUnitIdentifier), locale, usage);
     }
 
     public UnitsRouter(MeasureUnitImpl inputUnit, ULocale locale, String usage) {
-        // TODO: do we want to pass in ConversionRates and UnitPreferences instead?
-        // of loading in each UnitsRouter instance? (Or make global?)
+        // The conversion rates and unit preferences are shared by all UnitsData instances.
         UnitsData data = new UnitsData();
+        ArrayList<MeasureUnit> outputUnits = new ArrayList<>();
 
         String category = data.getCategory(inputUnit);
         UnitPreferences.UnitPreference[] unitPreferences =
@@ -67,15 +104,17 @@ public UnitsRouter(MeasureUnitImpl inputUnit, ULocale locale, String usage) {
                 throw new AssertionError("Only `precision-increment` is allowed");
             }
 
-            outputUnits_.add(complexTargetUnitImpl.build());
-            converterPreferences_.add(
+            ConverterPreference converterPreference =
                     new ConverterPreference(
                             inputUnit,
                             complexTargetUnitImpl,
                             preference.getGeq(),
                             precision,
-                            data.getConversionRates()));
+                            data.getConversionRates());
+            outputUnits.add(converterPreference.targetMeasureUnit);
+            converterPreferences_.add(converterPreference);
         }
+        outputUnits_ = Collections.unmodifiableList(outputUnits);
     }
 
     /** If micros.rounder is a BogusRounder, this function replaces it with a valid one. */
@@ -110,7 +149,8 @@ public RouteResult route(BigDecimal quantity, MicroProps micros) {
         }
         return new RouteResult(
                 converterPreference.converter.convert(quantity, rounder),
-                converterPreference.targetUnit);
+                converterPreference.targetUnit,
+                converterPreference.targetMeasureUnit);
     }
 
     private static Precision parseSkeletonToPrecision(String precisionSkeleton) {
@@ -150,6 +190,8 @@ public static class ConverterPreference {
         // The output unit for this ConverterPreference. This may be a MIXED unit -
         // for example: "yard-and-foot-and-inch".
         final MeasureUnitImpl targetUnit;
+        // targetUnit built once, so that routing does not serialize targetUnit again.
+        final MeasureUnit targetMeasureUnit;
         final ComplexUnitsConverter converter;
         final BigDecimal limit;
         final String precision;
@@ -178,6 +220,7 @@ public ConverterPreference(
             this.limit = limit;
             this.precision = precision;
             this.targetUnit = targetUnit;
+            this.targetMeasureUnit = targetUnit.build();
         }
     }
 
@@ -189,11 +232,17 @@ public class RouteResult {
         // elements.
         public final MeasureUnitImpl outputUnit;
 
+        // The output unit as a MeasureUnit. Use this rather than building outputUnit, which is
+        // shared by the threads that use the same UnitsRouter.
+        public final MeasureUnit outputMeasureUnit;
+
         RouteResult(
                 ComplexUnitsConverter.ComplexConverterResult complexConverterResult,
-                MeasureUnitImpl outputUnit) {
+                MeasureUnitImpl outputUnit,
+                MeasureUnit outputMeasureUnit) {
             this.complexConverterResult = complexConverterResult;
             this.outputUnit = outputUnit;
+            this.outputMeasureUnit = outputMeasureUnit;
         }
     }
 }
@@ -124,8 +124,8 @@ private void precomputeAllModifiers(MutablePatternModifier buildReference) {
         }
 
         @Override
-        public MicroProps processQuantity(DecimalQuantity quantity) {
-            MicroProps micros = parent.processQuantity(quantity);
+        public MicroProps processQuantity(DecimalQuantity quantity, MicroProps output) {
+            MicroProps micros = parent.processQuantity(quantity, output);
             assert micros.rounder != null;
 
             // Treat zero, NaN, and infinity as if they had magnitude 0
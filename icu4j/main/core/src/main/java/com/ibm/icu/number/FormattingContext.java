@@ -0,0 +1,55 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: http://www.unicode.org/copyright.html
+package com.ibm.icu.number;
+
+import com.ibm.icu.impl.FormattedStringBuilder;
+import com.ibm.icu.impl.number.DecimalQuantity_DualStorageBCD;
+import com.ibm.icu.impl.number.MicroProps;
+
+/**
+ * The objects that are needed for formatting a number to plain text, kept per thread and reused
+ * by {@link LocalizedNumberFormatter#formatTo}, so that formatting with a compiled formatter does
+ * not allocate.
+ */
+final class FormattingContext {
+    /* Larger builders are not kept, so that a single long number does not hold on to memory. */
+    private static final int MAX_KEPT_LENGTH = 1000;
+
+    private static final ThreadLocal<FormattingContext> contexts =
+            new ThreadLocal<FormattingContext>() {
+                @Override
+                protected FormattingContext initialValue() {
+                    return new FormattingContext();
+                }
+            };
+
+    final DecimalQuantity_DualStorageBCD quantity = new DecimalQuantity_DualStorageBCD();
+    FormattedStringBuilder string = new FormattedStringBuilder();
+    final MicroProps micros = new MicroProps(false);
+    private boolean inUse;
+
+    /**
+     * Returns the context of the current thread, cleared. If it is already in use, for example
+     * because the Appendable of a formatTo() call formats another number, then a new context is
+     * returned.
+     */
+    static FormattingContext acquire() {
+        FormattingContext context = contexts.get();
+        if (context.inUse) {
+            context = new FormattingContext();
+        }
+        context.inUse = true;
+        context.quantity.clear();
+        return context;
+    }
+
+    /** Makes the context available again. */
+    void release() {
+        if (string.length() > MAX_KEPT_LENGTH) {
+            string = new FormattedStringBuilder();
+        } else {
+            string.clear();
+        }
+        inUse = false;
+    }
+}
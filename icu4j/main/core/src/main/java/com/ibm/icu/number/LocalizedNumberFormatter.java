@@ -4,6 +4,7 @@
 
 import com.ibm.icu.impl.FormattedStringBuilder;
 import com.ibm.icu.impl.StandardPlural;
+import com.ibm.icu.impl.Utility;
 import com.ibm.icu.impl.number.DecimalQuantity;
 import com.ibm.icu.impl.number.DecimalQuantity_DualStorageBCD;
 import com.ibm.icu.impl.number.LocalizedNumberFormatterAsFormat;
@@ -11,6 +12,7 @@
 import com.ibm.icu.impl.number.MicroProps;
 import com.ibm.icu.math.BigDecimal;
 import com.ibm.icu.util.CurrencyAmount;
+import com.ibm.icu.util.ICUUncheckedIOException;
 import com.ibm.icu.util.Measure;
 import com.ibm.icu.util.MeasureUnit;
 import java.math.BigInteger;
@@ -101,6 +103,81 @@ public FormattedNumber format(Measure input) {
         return new FormattedNumber(string, fq, micros.outputUnit, micros.gender);
     }
 
+    /**
+     * Format the given byte, short, int, or long using the settings specified in the
+     * NumberFormatter fluent setting chain, and append the result to the given Appendable.
+     *
+     * <p>This is equivalent to {@code format(input).appendTo(appendable)}, but no {@link
+     * FormattedNumber} is created. The objects needed for formatting are kept per thread and
+     * reused, so that once this formatter has been used a few times, formatting to a {@link
+     * StringBuilder} does not allocate memory.
+     *
+     * @param input The number to format.
+     * @param appendable The Appendable to which the formatted number is appended.
+     * @return The same Appendable, for chaining.
+     * @throws ICUUncheckedIOException if the Appendable throws IOException
+     * @draft ICU 79
+     * @see NumberFormatter
+     */
+    public <A extends Appendable> A formatTo(long input, A appendable) {
+        FormattingContext context = FormattingContext.acquire();
+        try {
+            context.quantity.setToLong(input);
+            return formatTo(context, appendable);
+        } finally {
+            context.release();
+        }
+    }
+
+    /**
+     * Format the given float or double using the settings specified in the NumberFormatter fluent
+     * setting chain, and append the result to the given Appendable.
+     *
+     * <p>This is equivalent to {@code format(input).appendTo(appendable)}, but no {@link
+     * FormattedNumber} is created. See {@link #formatTo(long, Appendable)}.
+     *
+     * @param input The number to format.
+     * @param appendable The Appendable to which the formatted number is appended.
+     * @return The same Appendable, for chaining.
+     * @throws ICUUncheckedIOException if the Appendable throws IOException
+     * @draft ICU 79
+     * @see NumberFormatter
+     */
+    public <A extends Appendable> A formatTo(double input, A appendable) {
+        FormattingContext context = FormattingContext.acquire();
+        try {
+            context.quantity.setToDouble(input);
+            return formatTo(context, appendable);
+        } finally {
+            context.release();
+        }
+    }
+
+    /**
+     * Format the given {@link BigInteger}, {@link BigDecimal}, or other {@link Number} using the
+     * settings specified in the NumberFormatter fluent setting chain, and append the result to the
+     * given Appendable.
+     *
+     * <p>This is equivalent to {@code format(input).appendTo(appendable)}, but no {@link
+     * FormattedNumber} is created. See {@link #formatTo(long, Appendable)}.
+     *
+     * @param input The number to format.
+     * @param appendable The Appendable to which the formatted number is appended.
+     * @return The same Appendable, for chaining.
+     * @throws ICUUncheckedIOException if the Appendable throws IOException
+     * @draft ICU 79
+     * @see NumberFormatter
+     */
+    public <A extends Appendable> A formatTo(Number input, A appendable) {
+        FormattingContext context = FormattingContext.acquire();
+        try {
+            context.quantity.setToNumber(input);
+            return formatTo(context, appendable);
+        } finally {
+            context.release();
+        }
+    }
+
     /**
      * Creates a representation of this LocalizedNumberFormat as a {@link java.text.Format},
      * enabling the use of this number formatter with APIs that need an object of that type, such as
@@ -135,6 +212,16 @@ private FormattedNumber format(DecimalQuantity fq) {
         return new FormattedNumber(string, fq, micros.outputUnit, micros.gender);
     }
 
+    /** Helper method that formats the quantity of the context and appends the result. */
+    private <A extends Appendable> A formatTo(FormattingContext context, A appendable) {
+        if (computeCompiled()) {
+            compiled.format(context.quantity, context.string, context.micros);
+        } else {
+            NumberFormatterImpl.formatStatic(resolve(), context.quantity, context.string);
+        }
+        return Utility.appendTo(context.string, appendable);
+    }
+
     /**
      * This is the core entrypoint to the number formatting pipeline. It performs self-regulation: a
      * static code path for the first few calls, and compiling a more efficient data structure if
@@ -203,7 +290,20 @@ public String getAffixImpl(boolean isPrefix, boolean isNegative) {
         }
     }
 
+    /**
+     * Builds the data structures for formatting right away, as if the call count threshold had
+     * been reached.
+     */
+    void compile() {
+        if (compiled == null) {
+            compiled = new NumberFormatterImpl(resolve());
+        }
+    }
+
     private boolean computeCompiled() {
+        if (compiled != null) {
+            return true;
+        }
         MacroProps macros = resolve();
         // NOTE: In Java, the atomic increment logic is slightly different than ICU4C.
         // It seems to be more efficient to make just one function call instead of two.
@@ -212,10 +312,8 @@ private boolean computeCompiled() {
         if (currentCount == macros.threshold.longValue()) {
             compiled = new NumberFormatterImpl(macros);
             return true;
-        } else if (compiled != null) {
-            return true;
         } else {
-            return false;
+            return compiled != null;
         }
     }
 
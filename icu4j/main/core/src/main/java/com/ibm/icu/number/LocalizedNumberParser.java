@@ -0,0 +1,523 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: http://www.unicode.org/copyright.html
+package com.ibm.icu.number;
+
+import com.ibm.icu.impl.StaticUnicodeSets;
+import com.ibm.icu.impl.number.DecimalFormatProperties;
+import com.ibm.icu.impl.number.DecimalFormatProperties.ParseMode;
+import com.ibm.icu.impl.number.DecimalQuantity_DualStorageBCD;
+import com.ibm.icu.impl.number.MacroProps;
+import com.ibm.icu.impl.number.PatternStringParser;
+import com.ibm.icu.impl.number.RoundingUtils;
+import com.ibm.icu.impl.number.parse.NumberParserImpl;
+import com.ibm.icu.impl.number.parse.ParsedNumber;
+import com.ibm.icu.impl.number.parse.ParsingUtils;
+import com.ibm.icu.number.NumberFormatter.GroupingStrategy;
+import com.ibm.icu.text.DecimalFormatSymbols;
+import com.ibm.icu.text.NumberFormat;
+import com.ibm.icu.text.NumberingSystem;
+import com.ibm.icu.text.UnicodeSet;
+import com.ibm.icu.util.Currency;
+import com.ibm.icu.util.MeasureUnit;
+import com.ibm.icu.util.ULocale;
+import java.math.BigDecimal;
+
+/**
+ * A parser for localized numbers, the counterpart of {@link LocalizedNumberFormatter}.
+ *
+ * <p>The parser is lenient, like {@link com.ibm.icu.text.DecimalFormat#parse(String)}: it accepts
+ * the numbers that the corresponding formatter produces, and many variations of them, for example
+ * without grouping separators. Parsing stops at the first character that is not part of the
+ * number.
+ *
+ * <p>Text that consists of up to 15 ASCII digits, optionally with a leading minus sign and a
+ * decimal separator, is parsed without allocating any objects. This makes the parser suitable for
+ * reading large amounts of data, for example from CSV files:
+ *
+ * <pre>
+ * LocalizedNumberParser parser = LocalizedNumberParser.forLocale(ULocale.GERMANY);
+ * double d = parser.parseDouble(line, start, end);  // "1234,5" is 1234.5
+ * </pre>
+ *
+ * <p>Instances of this class are immutable and thread-safe.
+ *
+ * @see NumberFormatter
+ * @draft ICU 79
+ */
+public final class LocalizedNumberParser {
+    private static final UnicodeSet IGNORABLES =
+            StaticUnicodeSets.get(StaticUnicodeSets.Key.DEFAULT_IGNORABLES);
+
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+
+    private final NumberParserImpl parser;
+    private final int parseFlags;
+
+    /* The decimal separator for the fast path, or -1 if the fast path is not possible. */
+    private final int fastPathDecimalSeparator;
+
+    /* Whether the fast path can accept a fraction. */
+    private final boolean fastPathFraction;
+
+    private LocalizedNumberParser(
+            DecimalFormatProperties properties, DecimalFormatSymbols symbols) {
+        parser = NumberParserImpl.createParserFromProperties(properties, symbols, false);
+        parseFlags = parser.getParseFlags();
+
+        // The fast path produces the same results as the parser for plain digits, as long as the
+        // parser is lenient and does not scale or validate the number.
+        String decimalSeparator =
+                (parseFlags & ParsingUtils.PARSE_FLAG_MONETARY_SEPARATORS) != 0
+                        ? symbols.getMonetaryDecimalSeparatorString()
+                        : symbols.getDecimalSeparatorString();
+        ParseMode parseMode = properties.getParseMode();
+        if ((parseMode == null || parseMode == ParseMode.LENIENT)
+                && RoundingUtils.scaleFromProperties(properties) == null
+                && !properties.getDecimalPatternMatchRequired()
+                && decimalSeparator.length() == 1) {
+            fastPathDecimalSeparator = decimalSeparator.charAt(0);
+        } else {
+            fastPathDecimalSeparator = -1;
+        }
+        fastPathFraction = (parseFlags & ParsingUtils.PARSE_FLAG_INTEGER_ONLY) == 0;
+    }
+
+    /**
+     * Returns a parser for the numbers of the given locale.
+     *
+     * @param locale The locale.
+     * @return A parser.
+     * @draft ICU 79
+     */
+    public static LocalizedNumberParser forLocale(ULocale locale) {
+        String pattern = getPattern(locale, NumberFormat.NUMBERSTYLE);
+        return forPattern(pattern, locale);
+    }
+
+    /**
+     * Returns a parser for the numbers that are formatted by {@code
+     * NumberFormatter.forSkeleton(skeleton).locale(locale)}. Percent and permille signs,
+     * currencies, scaling, grouping and numbering systems are taken into account. Other units are
+     * not parsed; parsing stops before them.
+     *
+     * @param skeleton The number skeleton string.
+     * @param locale The locale.
+     * @return A parser.
+     * @throws SkeletonSyntaxException If the given string is not a valid number formatting
+     *     skeleton.
+     * @draft ICU 79
+     */
+    public static LocalizedNumberParser forSkeleton(String skeleton, ULocale locale) {
+        MacroProps macros = NumberFormatter.forSkeleton(skeleton).locale(locale).resolve();
+
+        DecimalFormatSymbols symbols;
+        if (macros.symbols instanceof DecimalFormatSymbols) {
+            symbols = (DecimalFormatSymbols) macros.symbols;
+        } else if (macros.symbols instanceof NumberingSystem) {
+            symbols =
+                    DecimalFormatSymbols.forNumberingSystem(
+                            locale, (NumberingSystem) macros.symbols);
+        } else {
+            symbols = DecimalFormatSymbols.getInstance(locale);
+        }
+
+        String pattern;
+        Currency currency = null;
+        if (macros.unit instanceof Currency) {
+            currency = (Currency) macros.unit;
+            pattern = getPattern(locale, NumberFormat.CURRENCYSTYLE);
+        } else if (MeasureUnit.PERCENT.equals(macros.unit)) {
+            pattern = getPattern(locale, NumberFormat.PERCENTSTYLE);
+        } else if (MeasureUnit.PERMILLE.equals(macros.unit)) {
+            pattern = getPattern(locale, NumberFormat.NUMBERSTYLE) + "‰";
+        } else {
+            pattern = getPattern(locale, NumberFormat.NUMBERSTYLE);
+        }
+        DecimalFormatProperties properties = PatternStringParser.parseToProperties(pattern);
+        properties.setCurrency(currency);
+        // Unlike in patterns, percent and permille units do not scale the number in skeletons.
+        properties.setMagnitudeMultiplier(0);
+        properties.setMultiplier(null);
+        if (macros.scale != null) {
+            properties.setMagnitudeMultiplier(macros.scale.magnitude);
+            properties.setMultiplier(macros.scale.arbitrary);
+        }
+        if (macros.grouping == GroupingStrategy.OFF) {
+            properties.setGroupingUsed(false);
+        }
+        return new LocalizedNumberParser(properties, symbols);
+    }
+
+    /**
+     * Returns a parser for the numbers that match the given decimal format pattern in the given
+     * locale, like {@link com.ibm.icu.text.DecimalFormat#parse(String)} with the pattern.
+     *
+     * @param pattern The decimal format pattern.
+     * @param locale The locale.
+     * @return A parser.
+     * @throws IllegalArgumentException If the pattern is not valid.
+     * @draft ICU 79
+     */
+    public static LocalizedNumberParser forPattern(String pattern, ULocale locale) {
+        return new LocalizedNumberParser(
+                PatternStringParser.parseToProperties(pattern),
+                DecimalFormatSymbols.getInstance(locale));
+    }
+
+    /**
+     * Returns a parser for the given properties and symbols.
+     *
+     * @internal
+     * @deprecated This API is ICU internal only.
+     */
+    @Deprecated
+    public static LocalizedNumberParser forProperties(
+            DecimalFormatProperties properties, DecimalFormatSymbols symbols) {
+        return new LocalizedNumberParser(properties.clone(), symbols);
+    }
+
+    /**
+     * Parses a number from text[start, end). The number starts at start, possibly after white
+     * space, and ends at the first character that is not part of it.
+     *
+     * @param text The text.
+     * @param start The start of the range to parse.
+     * @param end The end of the range to parse.
+     * @param result Receives the number, and where it ends. Its previous contents are discarded.
+     * @return Whether a number was parsed; the same as {@code result.isSuccess()}.
+     * @throws IndexOutOfBoundsException If the range is not within the text.
+     * @draft ICU 79
+     */
+    public boolean parse(CharSequence text, int start, int end, Result result) {
+        checkRange(text, start, end);
+        result.parseFlags = parseFlags;
+        result.start = start;
+        long fast = parseFast(text, start, end);
+        if (fast >= 0) {
+            result.fast = true;
+            result.negative = isNegative(fast);
+            result.digits = getDigits(fast);
+            result.fractionDigits = getFractionDigits(fast);
+            result.end = end;
+            return true;
+        }
+        result.fast = false;
+        if (result.parsed == null) {
+            result.parsed = new ParsedNumber();
+        }
+        ParsedNumber parsed = result.parsed;
+        parsed.clear();
+        if (start < end) {
+            parser.parse(text.subSequence(start, end).toString(), true, parsed);
+        }
+        return parsed.success();
+    }
+
+    /**
+     * Parses the whole text as a number, ignoring white space around it.
+     *
+     * @param text The text.
+     * @return The number, as a Long if it is an integer that fits into a long, as a Double if it
+     *     is NaN, infinite or negative zero, and otherwise as a {@link java.math.BigDecimal}.
+     * @throws NumberFormatException If the text is not a number.
+     * @draft ICU 79
+     */
+    public Number parse(CharSequence text) {
+        Result result = new Result();
+        parseFully(text, 0, text.length(), result);
+        return result.getNumber();
+    }
+
+    /**
+     * Parses text[start, end) as an integer, ignoring white space around it. Integers with up to
+     * 15 ASCII digits are parsed without allocating any objects.
+     *
+     * @param text The text.
+     * @param start The start of the range to parse.
+     * @param end The end of the range to parse.
+     * @return The integer.
+     * @throws NumberFormatException If the range is not a number, or if the number is not an
+     *     integer that fits into a long.
+     * @throws IndexOutOfBoundsException If the range is not within the text.
+     * @draft ICU 79
+     */
+    public long parseLong(CharSequence text, int start, int end) {
+        checkRange(text, start, end);
+        long fast = parseFast(text, start, end);
+        if (fast >= 0 && getFractionDigits(fast) == 0) {
+            return isNegative(fast) ? -getDigits(fast) : getDigits(fast);
+        }
+        Result result = new Result();
+        parseFully(text, start, end, result);
+        Number number = result.getNumber();
+        if (number instanceof Long) {
+            return number.longValue();
+        } else if (number instanceof BigDecimal) {
+            try {
+                return ((BigDecimal) number).longValueExact();
+            } catch (ArithmeticException e) {
+                // fall through
+            }
+        } else if (number.doubleValue() == 0) {
+            return 0; // negative zero
+        }
+        throw new NumberFormatException("Not a long: \"" + text.subSequence(start, end) + "\"");
+    }
+
+    /**
+     * Parses text[start, end) as a double, ignoring white space around it. Numbers with up to 15
+     * ASCII digits are parsed without allocating any objects. Other numbers are rounded to the
+     * nearest double.
+     *
+     * @param text The text.
+     * @param start The start of the range to parse.
+     * @param end The end of the range to parse.
+     * @return The number.
+     * @throws NumberFormatException If the range is not a number.
+     * @throws IndexOutOfBoundsException If the range is not within the text.
+     * @draft ICU 79
+     */
+    public double parseDouble(CharSequence text, int start, int end) {
+        checkRange(text, start, end);
+        long fast = parseFast(text, start, end);
+        if (fast >= 0) {
+            return toDouble(isNegative(fast), getDigits(fast), getFractionDigits(fast));
+        }
+        Result result = new Result();
+        parseFully(text, start, end, result);
+        return result.doubleValue();
+    }
+
+    /*
+     * Returns the locale's pattern for a NumberFormat style. The lookup is ICU internal API, which
+     * is deprecated only to keep it out of the public API; NumberFormatterImpl uses it as well.
+     */
+    @SuppressWarnings("deprecation")
+    private static String getPattern(ULocale locale, int style) {
+        return NumberFormat.getPatternForStyle(locale, style);
+    }
+
+    /* Parses the range, which must contain nothing but the number and white space. */
+    private void parseFully(CharSequence text, int start, int end, Result result) {
+        if (parse(text, start, end, result)) {
+            int i = result.getEnd();
+            while (i < end && IGNORABLES.contains(text.charAt(i))) {
+                i++;
+            }
+            if (i == end) {
+                return;
+            }
+        }
+        throw new NumberFormatException("Not a number: \"" + text.subSequence(start, end) + "\"");
+    }
+
+    private static void checkRange(CharSequence text, int start, int end) {
+        if (start < 0 || end < start || end > text.length()) {
+            throw new IndexOutOfBoundsException(
+                    "start " + start + ", end " + end + ", length " + text.length());
+        }
+    }
+
+    // The fast path returns its result packed into a long: the digits in the low 50 bits, the
+    // number of fraction digits in the 5 bits above them, and the sign in bit 62.
+    private static final int FAST_MAX_DIGITS = 15;
+    private static final int FRACTION_SHIFT = 50;
+    private static final long NEGATIVE_BIT = 1L << 62;
+
+    private static long getDigits(long fast) {
+        return fast & ((1L << FRACTION_SHIFT) - 1);
+    }
+
+    private static int getFractionDigits(long fast) {
+        return (int) (fast >>> FRACTION_SHIFT) & 0x1f;
+    }
+
+    private static boolean isNegative(long fast) {
+        return (fast & NEGATIVE_BIT) != 0;
+    }
+
+    /*
+     * Parses text[start, end) if it is -?[0-9]+(D[0-9]+)? with at most 15 digits, where D is the
+     * decimal separator. Returns the packed result, or -1 if the range does not match.
+     */
+    private long parseFast(CharSequence text, int start, int end) {
+        if (fastPathDecimalSeparator < 0 || start == end) {
+            return -1;
+        }
+        int i = start;
+        boolean negative = text.charAt(i) == '-';
+        if (negative) {
+            i++;
+        }
+        long digits = 0;
+        int digitCount = 0;
+        int fractionDigits = -1;
+        for (; i < end; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digitCount > FAST_MAX_DIGITS) {
+                    return -1;
+                }
+                digits = digits * 10 + (c - '0');
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                }
+            } else if (c == fastPathDecimalSeparator && fractionDigits < 0 && fastPathFraction) {
+                fractionDigits = 0;
+            } else {
+                return -1;
+            }
+        }
+        if (digitCount == 0 || fractionDigits == 0) {
+            // No digits, or a decimal separator at the end.
+            return -1;
+        }
+        if (fractionDigits < 0) {
+            fractionDigits = 0;
+        }
+        while (fractionDigits > 0 && digits % 10 == 0) {
+            digits /= 10;
+            fractionDigits--;
+        }
+        return digits | ((long) fractionDigits << FRACTION_SHIFT) | (negative ? NEGATIVE_BIT : 0);
+    }
+
+    /* Computes the double for the result of the fast path. */
+    private static double toDouble(boolean negative, long digits, int fractionDigits) {
+        // The digits are less than 2^53, so that both numbers are exact and the quotient is
+        // correctly rounded.
+        double value = digits / POWERS_OF_TEN[fractionDigits];
+        return negative ? -value : value;
+    }
+
+    /**
+     * The result of parsing a number with a {@link LocalizedNumberParser}. A Result can be reused
+     * for many calls to {@link LocalizedNumberParser#parse(CharSequence, int, int, Result)}.
+     *
+     * <p>This class is not thread-safe.
+     *
+     * @draft ICU 79
+     */
+    public static final class Result {
+        private ParsedNumber parsed; // created when needed
+        private int parseFlags;
+        private int start;
+
+        // The result of the fast path, if fast is true: (-1)^negative * digits * 10^-fractionDigits
+        private boolean fast;
+        private boolean negative;
+        private long digits;
+        private int fractionDigits;
+        private int end;
+
+        /**
+         * Creates an empty result.
+         *
+         * @draft ICU 79
+         */
+        public Result() {}
+
+        /**
+         * Returns whether a number was parsed.
+         *
+         * @draft ICU 79
+         */
+        public boolean isSuccess() {
+            return fast || (parsed != null && parsed.success());
+        }
+
+        /**
+         * Returns the index in the text after the last character of the number. If parsing failed,
+         * returns the index where the failure was detected.
+         *
+         * @draft ICU 79
+         */
+        public int getEnd() {
+            return fast ? end : start + (parsed == null ? 0 : parsed.charEnd);
+        }
+
+        /**
+         * Returns the number, as a Long if it is an integer that fits into a long, as a Double if
+         * it is NaN, infinite or negative zero, and otherwise as a {@link java.math.BigDecimal};
+         * the same as {@link com.ibm.icu.text.DecimalFormat#parse(String)}, except for the type of
+         * BigDecimal.
+         *
+         * @throws IllegalStateException If parsing failed.
+         * @draft ICU 79
+         */
+        public Number getNumber() {
+            checkSuccess();
+            if (!fast) {
+                return parsed.getNumber(parseFlags);
+            }
+            if (negative
+                    && digits == 0
+                    && (parseFlags & ParsingUtils.PARSE_FLAG_INTEGER_ONLY) == 0) {
+                return -0.0;
+            }
+            long value = negative ? -digits : digits;
+            boolean forceBigDecimal =
+                    (parseFlags & ParsingUtils.PARSE_FLAG_FORCE_BIG_DECIMAL) != 0;
+            if (fractionDigits == 0 && !forceBigDecimal) {
+                return value;
+            }
+            return BigDecimal.valueOf(value, fractionDigits);
+        }
+
+        /**
+         * Returns the number as a long. A fraction is truncated, and an integer that does not fit
+         * into a long is converted like {@link BigDecimal#longValue()}. NaN is 0, and infinity is
+         * {@link Long#MAX_VALUE} or {@link Long#MIN_VALUE}.
+         *
+         * @throws IllegalStateException If parsing failed.
+         * @draft ICU 79
+         */
+        public long longValue() {
+            checkSuccess();
+            if (!fast) {
+                return getNumber().longValue();
+            }
+            long value = digits;
+            for (int i = 0; i < fractionDigits; i++) {
+                value /= 10;
+            }
+            return negative ? -value : value;
+        }
+
+        /**
+         * Returns the number as a double, rounded to the nearest double if necessary.
+         *
+         * @throws IllegalStateException If parsing failed.
+         * @draft ICU 79
+         */
+        public double doubleValue() {
+            checkSuccess();
+            if (!fast) {
+                DecimalQuantity_DualStorageBCD quantity = parsed.quantity;
+                if (quantity == null || quantity.isZeroish()) {
+                    // NaN, infinity or zero
+                    return parsed.getNumber(parseFlags).doubleValue();
+                }
+                return quantity.toDouble();
+            }
+            return toDouble(negative, digits, fractionDigits);
+        }
+
+        /**
+         * Returns the ISO code of the currency that was parsed, or null if there was none.
+         *
+         * @draft ICU 79
+         */
+        public String getCurrencyCode() {
+            return fast || parsed == null ? null : parsed.currencyCode;
+        }
+
+        private void checkSuccess() {
+            if (!isSuccess()) {
+                throw new IllegalStateException("No number was parsed");
+            }
+        }
+    }
+}
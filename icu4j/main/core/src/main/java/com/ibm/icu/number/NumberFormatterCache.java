@@ -0,0 +1,230 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: http://www.unicode.org/copyright.html
+package com.ibm.icu.number;
+
+import com.ibm.icu.impl.ICUConfig;
+import com.ibm.icu.util.ULocale;
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A global cache of localized number formatters, keyed by number skeleton string and locale.
+ *
+ * <p>A {@link LocalizedNumberFormatter} builds its internal data structures only after it has been
+ * used a number of times, so formatters that are created for every call, for example by a template
+ * engine that receives skeleton strings, are always slow. The formatters returned by this class
+ * are shared, and their data structures are built when they are added to the cache.
+ *
+ * <p>The number of cached formatters is bounded. When the cache is full, a formatter that has not
+ * been used recently is removed. The maximum size can be set with the system property or ICU
+ * configuration property {@code com.ibm.icu.number.NumberFormatterCache.maxSize}; the default is
+ * 512.
+ *
+ * <p>Example:
+ *
+ * <pre>
+ * String s = NumberFormatterCache.get("currency/EUR .00", ULocale.GERMANY)
+ *         .format(1234.5).toString();
+ * </pre>
+ *
+ * <p>This class is thread-safe.
+ *
+ * @see NumberFormatter#forSkeleton
+ * @draft ICU 79
+ */
+public final class NumberFormatterCache {
+    private static final int MAX_SIZE =
+            Math.max(
+                    1,
+                    Integer.parseInt(
+                            ICUConfig.get(
+                                    "com.ibm.icu.number.NumberFormatterCache.maxSize", "512")));
+
+    private static final ConcurrentHashMap<Key, Entry> map = new ConcurrentHashMap<>();
+
+    /* The keys in the order in which they were added, for evicting with the CLOCK algorithm. */
+    private static final ArrayDeque<Key> clock = new ArrayDeque<>();
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder evictions = new LongAdder();
+
+    private NumberFormatterCache() {}
+
+    /**
+     * Returns the formatter for the given number skeleton string and locale, the same as {@code
+     * NumberFormatter.forSkeleton(skeleton).locale(locale)}, from the cache. If it is not in the
+     * cache, it is created, and its data structures are built right away.
+     *
+     * @param skeleton The skeleton string.
+     * @param locale The locale.
+     * @return A formatter, which may be shared with other callers.
+     * @throws SkeletonSyntaxException If the given string is not a valid number formatting
+     *     skeleton.
+     * @draft ICU 79
+     */
+    public static LocalizedNumberFormatter get(String skeleton, ULocale locale) {
+        Key key = new Key(skeleton, locale);
+        Entry entry = map.get(key);
+        if (entry != null) {
+            hits.increment();
+            // Only write when needed, so that hits on the same entry do not contend.
+            if (!entry.used) {
+                entry.used = true;
+            }
+            return entry.formatter;
+        }
+        misses.increment();
+        LocalizedNumberFormatter formatter = NumberFormatter.forSkeleton(skeleton).locale(locale);
+        formatter.compile();
+        entry = new Entry(formatter);
+        Entry previous = map.putIfAbsent(key, entry);
+        if (previous != null) {
+            // Another thread added it at the same time.
+            return previous.formatter;
+        }
+        synchronized (clock) {
+            clock.addLast(key);
+            evict();
+        }
+        return formatter;
+    }
+
+    /**
+     * Adds the formatters for all combinations of the given skeletons and locales to the cache, so
+     * that later calls to {@link #get} do not build them. Formatters that are already in the cache
+     * are kept. If there are more combinations than fit in the cache, some of them are removed
+     * again.
+     *
+     * @param skeletons The skeleton strings.
+     * @param locales The locales.
+     * @throws SkeletonSyntaxException If one of the strings is not a valid number formatting
+     *     skeleton.
+     * @draft ICU 79
+     */
+    public static void warmUp(Iterable<String> skeletons, ULocale... locales) {
+        for (String skeleton : skeletons) {
+            for (ULocale locale : locales) {
+                if (!map.containsKey(new Key(skeleton, locale))) {
+                    get(skeleton, locale);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the maximum number of formatters in the cache.
+     *
+     * @draft ICU 79
+     */
+    public static int getMaximumSize() {
+        return MAX_SIZE;
+    }
+
+    /**
+     * Returns the number of formatters in the cache.
+     *
+     * @draft ICU 79
+     */
+    public static int size() {
+        return map.size();
+    }
+
+    /**
+     * Returns the number of calls to {@link #get} that found the formatter in the cache.
+     *
+     * @draft ICU 79
+     */
+    public static long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of calls to {@link #get}, including those from {@link #warmUp}, that
+     * created a formatter.
+     *
+     * @draft ICU 79
+     */
+    public static long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of formatters that were removed because the cache was full.
+     *
+     * @draft ICU 79
+     */
+    public static long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Removes all formatters from the cache. The counts are not reset.
+     *
+     * @draft ICU 79
+     */
+    public static void clear() {
+        synchronized (clock) {
+            map.clear();
+            clock.clear();
+        }
+    }
+
+    /*
+     * Removes entries until the cache is no longer larger than the maximum size. An entry that was
+     * used since the clock hand last passed it gets a second chance. Must be called with the clock
+     * locked.
+     */
+    private static void evict() {
+        while (clock.size() > MAX_SIZE) {
+            Key key = clock.pollFirst();
+            Entry entry = map.get(key);
+            if (entry == null) {
+                continue;
+            }
+            if (entry.used) {
+                entry.used = false;
+                clock.addLast(key);
+            } else {
+                map.remove(key);
+                evictions.increment();
+            }
+        }
+    }
+
+    private static final class Key {
+        final String skeleton;
+        final ULocale locale;
+        final int hash;
+
+        Key(String skeleton, ULocale locale) {
+            this.skeleton = skeleton;
+            this.locale = locale;
+            hash = skeleton.hashCode() * 31 + locale.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key o = (Key) other;
+            return skeleton.equals(o.skeleton) && locale.equals(o.locale);
+        }
+    }
+
+    private static final class Entry {
+        final LocalizedNumberFormatter formatter;
+        volatile boolean used;
+
+        Entry(LocalizedNumberFormatter formatter) {
+            this.formatter = formatter;
+        }
+    }
+}
@@ -84,7 +84,18 @@ public static int getPrefixSuffixStatic(
 
     /** Evaluates the "safe" MicroPropsGenerator created by "fromMacros". */
     public MicroProps format(DecimalQuantity inValue, FormattedStringBuilder outString) {
-        MicroProps result = preProcess(inValue);
+        return format(inValue, outString, null);
+    }
+
+    /**
+     * Like format(), but the MicroProps may be written into the given output, which can be reused
+     * for many calls.
+     *
+     * @param output A MicroProps instance to reuse, or null.
+     */
+    public MicroProps format(
+            DecimalQuantity inValue, FormattedStringBuilder outString, MicroProps output) {
+        MicroProps result = preProcess(inValue, output);
         int length = writeNumber(result, inValue, outString, 0);
         writeAffixes(result, outString, 0, length);
         return result;
@@ -94,7 +105,11 @@ public MicroProps format(DecimalQuantity inValue, FormattedStringBuilder outStri
      * Like format(), but saves the result into an output MicroProps without additional processing.
      */
     public MicroProps preProcess(DecimalQuantity inValue) {
-        MicroProps micros = microPropsGenerator.processQuantity(inValue);
+        return preProcess(inValue, null);
+    }
+
+    private MicroProps preProcess(DecimalQuantity inValue, MicroProps output) {
+        MicroProps micros = microPropsGenerator.processQuantity(inValue, output);
         if (micros.integerWidth.maxInt == -1) {
             inValue.setMinInteger(micros.integerWidth.minInt);
         } else {
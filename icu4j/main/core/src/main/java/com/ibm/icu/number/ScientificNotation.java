@@ -147,8 +147,8 @@ private ScientificHandler(
         }
 
         @Override
-        public MicroProps processQuantity(DecimalQuantity quantity) {
-            MicroProps micros = parent.processQuantity(quantity);
+        public MicroProps processQuantity(DecimalQuantity quantity, MicroProps output) {
+            MicroProps micros = parent.processQuantity(quantity, output);
             assert micros.rounder != null;
 
             // Do not apply scientific notation to special doubles
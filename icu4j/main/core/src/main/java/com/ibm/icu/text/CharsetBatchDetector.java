@@ -0,0 +1,194 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: http://www.unicode.org/copyright.html
+package com.ibm.icu.text;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Detects the charsets of many documents, in parallel on a {@link ForkJoinPool}.
+ *
+ * <p>This is meant for large numbers of small documents, for example crawled web pages. Unlike
+ * {@link CharsetDetector}, a batch detector is thread-safe and can be shared. Each worker thread
+ * reuses one CharsetDetector and its buffers for all of the documents that it processes.
+ *
+ * <p>The results are compact ints rather than {@link CharsetMatch} objects: each one holds the id
+ * of the best matching charset and the confidence of the match, which can be extracted with {@link
+ * #getCharsetName(int)} and {@link #getConfidence(int)}. The best match is the same as the one
+ * returned by {@link CharsetDetector#detect()} with the default settings.
+ *
+ * @draft ICU 79
+ */
+public final class CharsetBatchDetector {
+    /**
+     * The result for a document that does not match any charset.
+     *
+     * @draft ICU 79
+     */
+    public static final int NO_MATCH = -1;
+
+    /* Smallest number of documents that a task processes without splitting further. */
+    private static final int MIN_BATCH = 16;
+
+    /*
+     * Names returned by CharsetMatch.getName(), indexed by charset id. The table is seeded with the
+     * known names; a name that a recognizer reports but that is not in it gets the next id the
+     * first time that it is seen.
+     */
+    private static final List<String> CHARSET_NAMES = new CopyOnWriteArrayList<String>();
+    private static final Map<String, Integer> CHARSET_IDS =
+            new ConcurrentHashMap<String, Integer>();
+
+    static {
+        for (String name : CharsetDetector.getAllDetectableCharsets()) {
+            getCharsetId(name);
+        }
+        // The single byte recognizers report the Windows variants when there are C1 bytes.
+        String[] windows = {
+            "windows-1250", "windows-1252", "windows-1253", "windows-1254", "windows-1255"
+        };
+        for (String name : windows) {
+            getCharsetId(name);
+        }
+    }
+
+    private static int getCharsetId(String name) {
+        Integer id = CHARSET_IDS.get(name);
+        if (id != null) {
+            return id;
+        }
+        synchronized (CHARSET_IDS) {
+            id = CHARSET_IDS.get(name);
+            if (id == null) {
+                // Add the name before publishing its id, so that getCharsetName() finds it.
+                id = CHARSET_NAMES.size();
+                CHARSET_NAMES.add(name);
+                CHARSET_IDS.put(name, id);
+            }
+            return id;
+        }
+    }
+
+    private final ForkJoinPool pool;
+
+    private final ThreadLocal<CharsetDetector> detectors =
+            new ThreadLocal<CharsetDetector>() {
+                @Override
+                protected CharsetDetector initialValue() {
+                    return new CharsetDetector();
+                }
+            };
+
+    /**
+     * Constructs a batch detector that runs on the common ForkJoinPool.
+     *
+     * @draft ICU 79
+     */
+    public CharsetBatchDetector() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a batch detector that runs on the given pool.
+     *
+     * @param pool the pool for the detection tasks
+     * @draft ICU 79
+     */
+    public CharsetBatchDetector(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("pool must not be null");
+        }
+        this.pool = pool;
+    }
+
+    /**
+     * Detects the charset of one document, on the calling thread.
+     *
+     * @param document the input text of unknown encoding
+     * @return the compact result, or {@link #NO_MATCH}
+     * @draft ICU 79
+     */
+    public int detect(byte[] document) {
+        CharsetDetector detector = detectors.get();
+        detector.setText(document);
+        CharsetMatch match = detector.detect();
+        // Do not keep the document alive through the pooled detector.
+        detector.setText(EMPTY);
+        if (match == null) {
+            return NO_MATCH;
+        }
+        return (getCharsetId(match.getName()) << 8) | match.getConfidence();
+    }
+
+    /**
+     * Detects the charsets of the documents in parallel.
+     *
+     * @param documents the input texts of unknown encodings
+     * @return the compact results, in the order of the documents
+     * @draft ICU 79
+     */
+    public int[] detectAll(List<byte[]> documents) {
+        byte[][] array = documents.toArray(new byte[documents.size()][]);
+        int[] results = new int[array.length];
+        pool.invoke(new DetectTask(array, results, 0, array.length));
+        return results;
+    }
+
+    /**
+     * Returns the name of the charset in a result, as returned by {@link CharsetMatch#getName()}.
+     *
+     * @param result a result from this class
+     * @return the charset name, or null for {@link #NO_MATCH}
+     * @draft ICU 79
+     */
+    public static String getCharsetName(int result) {
+        return result == NO_MATCH ? null : CHARSET_NAMES.get(result >>> 8);
+    }
+
+    /**
+     * Returns the confidence in a result, as returned by {@link CharsetMatch#getConfidence()}.
+     *
+     * @param result a result from this class
+     * @return the confidence 0..100, or 0 for {@link #NO_MATCH}
+     * @draft ICU 79
+     */
+    public static int getConfidence(int result) {
+        return result == NO_MATCH ? 0 : result & 0xff;
+    }
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final class DetectTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final byte[][] documents;
+        private final int[] results;
+        private final int start;
+        private final int limit;
+
+        DetectTask(byte[][] documents, int[] results, int start, int limit) {
+            this.documents = documents;
+            this.results = results;
+            this.start = start;
+            this.limit = limit;
+        }
+
+        @Override
+        protected void compute() {
+            if (limit - start <= MIN_BATCH) {
+                for (int i = start; i < limit; ++i) {
+                    results[i] = detect(documents[i]);
+                }
+            } else {
+                int middle = (start + limit) >>> 1;
+                invokeAll(
+                        new DetectTask(documents, results, start, middle),
+                        new DetectTask(documents, results, middle, limit));
+            }
+        }
+    }
+}
@@ -11,6 +11,7 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -69,6 +70,7 @@ public CharsetDetector() {}
      */
     public CharsetDetector setDeclaredEncoding(String encoding) {
         fDeclaredEncoding = encoding;
+        fCurrentBestValid = false;
         return this;
     }
 
@@ -82,6 +84,8 @@ public CharsetDetector setDeclaredEncoding(String encoding) {
     public CharsetDetector setText(byte[] in) {
         fRawInput = in;
         fRawLength = in.length;
+        fFedInput = false;
+        fCurrentBestValid = false;
 
         return this;
     }
@@ -118,10 +122,102 @@ public CharsetDetector setText(InputStream in) throws IOException {
             remainingLength -= bytesRead;
         }
         fInputStream.reset();
+        fFedInput = false;
+        fCurrentBestValid = false;
 
         return this;
     }
 
+    /**
+     * Append input text (byte) data for incremental charset detection, for example as chunks of
+     * an upload arrive. The first call after setText() or after construction starts a new input.
+     *
+     * <p>Detection looks at no more than the first 8000 bytes of the input, and that is all that
+     * the detector keeps. Once they have been fed, the rest of the buffer is not consumed and
+     * {@link #isConclusive()} returns true.
+     *
+     * <p>The CharsetMatch objects returned for fed input only cover the bytes fed so far.
+     *
+     * @param in the next bytes of the input text; its position is advanced past the bytes that
+     *     were taken
+     * @return This CharsetDetector
+     * @draft ICU 79
+     */
+    public CharsetDetector feed(ByteBuffer in) {
+        if (!fFedInput) {
+            // Do not append to a buffer that may have come from the caller.
+            fRawInput = new byte[kBufSize];
+            fRawLength = 0;
+            fInputStream = null;
+            fFedInput = true;
+            fCurrentBestValid = false;
+        }
+        int length = Math.min(in.remaining(), kBufSize - fRawLength);
+        if (length > 0) {
+            in.get(fRawInput, fRawLength, length);
+            fRawLength += length;
+            fCurrentBestValid = false;
+        }
+        return this;
+    }
+
+    /**
+     * Return the charset that best matches the input data so far. This is the same as {@link
+     * #detect()}, and is meant to be called between calls to {@link #feed(ByteBuffer)}.
+     *
+     * <p>The result is kept until the input or the detector settings change, so calling this
+     * method and {@link #isConclusive()} after the same input runs the detection only once. The
+     * recognizers do not work incrementally, though: after more input has been fed, detection runs
+     * again over all of the input so far, which is at most 8000 bytes. To keep the total cost low,
+     * feed the input in chunks of a reasonable size rather than byte by byte.
+     *
+     * @return a CharsetMatch object representing the best matching charset, or <code>null</code> if
+     *     there are no matches.
+     * @draft ICU 79
+     */
+    public CharsetMatch currentBest() {
+        if (!fCurrentBestValid) {
+            fCurrentBest = detect();
+            fCurrentBestValid = true;
+        }
+        return fCurrentBest;
+    }
+
+    /**
+     * Return true if more input would not change the detection result, or would not be worth
+     * reading: either the detector has all of the input that it looks at, or the best match so far
+     * has at least the confidence set with {@link #setConclusiveConfidence(int)}. By default, that
+     * is 100, which is reached for example with a byte order mark or with a run of valid UTF-8
+     * multi-byte sequences.
+     *
+     * <p>This uses the same, kept, result as {@link #currentBest()}.
+     *
+     * @return true if detection can stop
+     * @draft ICU 79
+     */
+    public boolean isConclusive() {
+        if (fRawLength >= kBufSize) {
+            return true;
+        }
+        CharsetMatch best = currentBest();
+        return best != null && best.getConfidence() >= fConclusiveConfidence;
+    }
+
+    /**
+     * Set the confidence at which {@link #isConclusive()} considers the best match to be final.
+     *
+     * @param confidence the confidence threshold, 0..100; the default is 100
+     * @return This CharsetDetector
+     * @draft ICU 79
+     */
+    public CharsetDetector setConclusiveConfidence(int confidence) {
+        if (confidence < 0 || confidence > 100) {
+            throw new IllegalArgumentException("Invalid confidence: " + confidence);
+        }
+        fConclusiveConfidence = confidence;
+        return this;
+    }
+
     /**
      * Return the charset that best matches the supplied input data.
      *
@@ -140,17 +236,28 @@ public CharsetDetector setText(InputStream in) throws IOException {
      * @stable ICU 3.4
      */
     public CharsetMatch detect() {
-        //   TODO:  A better implementation would be to copy the detect loop from
-        //          detectAll(), and cut it short as soon as a match with a high confidence
-        //          is found.  This is something to be done later, after things are otherwise
-        //          working.
-        CharsetMatch matches[] = detectAll();
+        MungeInput(); // Strip html markup, collect byte stats.
 
-        if (matches == null || matches.length == 0) {
-            return null;
+        //  Same result as detectAll()[0]: among matches with equal confidence,
+        //    the one from the later recognizer wins.
+        //  Skip the recognizers that cannot reach the best confidence so far.
+        CharsetMatch best = null;
+        for (int i = 0; i < ALL_CS_RECOGNIZERS.size(); i++) {
+            CSRecognizerInfo rcinfo = ALL_CS_RECOGNIZERS.get(i);
+            boolean active =
+                    (fEnabledRecognizers != null)
+                            ? fEnabledRecognizers[i]
+                            : rcinfo.isDefaultEnabled;
+            if (active
+                    && (best == null
+                            || rcinfo.recognizer.getMaxConfidence() >= best.getConfidence())) {
+                CharsetMatch m = rcinfo.recognizer.match(this);
+                if (m != null && (best == null || m.getConfidence() >= best.getConfidence())) {
+                    best = m;
+                }
+            }
         }
-
-        return matches[0];
+        return best;
     }
 
     /**
@@ -307,6 +414,7 @@ public boolean enableInputFilter(boolean filter) {
         boolean previous = fStripTags;
 
         fStripTags = filter;
+        fCurrentBestValid = false;
 
         return previous;
     }
@@ -380,6 +488,8 @@ private void MungeInput() {
             fByteStats[val]++;
         }
 
+        fNGramCounts.clear();
+
         fC1Bytes = false;
         for (int i = 0x80; i <= 0x9F; i += 1) {
             if (fByteStats[i] != 0) {
@@ -406,6 +516,11 @@ private void MungeInput() {
     boolean fC1Bytes = // True if any bytes in the range 0x80 - 0x9F are in the input;
             false;
 
+    // N-gram statistics shared by the single byte recognizers,
+    //   computed on demand for each distinct byte map.
+    List<CharsetRecog_sbcs.NGramCounts> fNGramCounts =
+            new ArrayList<CharsetRecog_sbcs.NGramCounts>();
+
     String fDeclaredEncoding;
 
     byte[] fRawInput; // Original, untouched input bytes.
@@ -423,6 +538,13 @@ private void MungeInput() {
     private boolean fStripTags = // If true, setText() will strip tags from input text.
             false;
 
+    private boolean fFedInput; // True if fRawInput is our own buffer filled by feed().
+
+    private int fConclusiveConfidence = 100; // See isConclusive().
+
+    private CharsetMatch fCurrentBest; // The result of currentBest(), if fCurrentBestValid.
+    private boolean fCurrentBestValid;
+
     private boolean[] fEnabledRecognizers; // If not null, active set of charset recognizers had
 
     // been changed from the default. The array index is
@@ -554,6 +676,7 @@ public CharsetDetector setDetectableCharset(String encoding, boolean enabled) {
         if (fEnabledRecognizers != null) {
             fEnabledRecognizers[modIdx] = enabled;
         }
+        fCurrentBestValid = false;
 
         return this;
     }
@@ -87,7 +87,7 @@ private static int search(int[] table, int value) {
             return index;
         }
 
-        private void lookup(int thisNgram) {
+        protected void lookup(int thisNgram) {
             ngramCount += 1;
 
             if (search(ngramList, thisNgram) >= 0) {
@@ -139,6 +139,10 @@ public int parse(CharsetDetector det, byte spaceCh) {
             // TODO: Is this OK? The buffer could have ended in the middle of a word...
             addByte(spaceChar);
 
+            return confidence(hitCount, ngramCount);
+        }
+
+        static int confidence(int hitCount, int ngramCount) {
             double rawPercent = (double) hitCount / (double) ngramCount;
 
             //                if (rawPercent <= 2.0) {
@@ -155,6 +159,109 @@ public int parse(CharsetDetector det, byte spaceCh) {
         }
     }
 
+    /**
+     * The n-grams of the input text mapped through one byte map, with the number of times that each
+     * one occurs. They are collected in a single pass over the input and shared by all of the
+     * recognizers and languages that use the same byte map, so that matching a language only
+     * needs one lookup per n-gram of the language. Gives the same results as NGramParser.parse().
+     */
+    static final class NGramCounts extends NGramParser {
+        private final byte[] map;
+        private final byte space;
+
+        /* open-addressing hash table of n-grams; 0 marks an empty slot (n-grams are never 0) */
+        private int[] keys = new int[256];
+        private int[] counts = new int[256];
+        private int distinct;
+        private int total;
+
+        private NGramCounts(CharsetDetector det, byte[] theByteMap, byte spaceCh) {
+            super(null, theByteMap);
+            map = theByteMap;
+            space = spaceCh;
+            spaceChar = spaceCh;
+            parseCharacters(det);
+            addByte(spaceChar);
+        }
+
+        /**
+         * Returns the n-gram counts of the detector's input for the byte map and space character,
+         * computing them on first use for the current input.
+         */
+        static NGramCounts get(CharsetDetector det, byte[] byteMap, byte spaceChar) {
+            for (NGramCounts c : det.fNGramCounts) {
+                if (c.map == byteMap && c.space == spaceChar) {
+                    return c;
+                }
+            }
+            NGramCounts c = new NGramCounts(det, byteMap, spaceChar);
+            det.fNGramCounts.add(c);
+            return c;
+        }
+
+        @Override
+        protected void lookup(int thisNgram) {
+            ++total;
+            int mask = keys.length - 1;
+            int i = (thisNgram * 0x9E3779B1) >>> 16 & mask;
+            int key;
+            while ((key = keys[i]) != thisNgram) {
+                if (key == 0) {
+                    keys[i] = thisNgram;
+                    counts[i] = 1;
+                    if (++distinct * 2 > keys.length) {
+                        grow();
+                    }
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            ++counts[i];
+        }
+
+        private void grow() {
+            int[] oldKeys = keys;
+            int[] oldCounts = counts;
+            keys = new int[oldKeys.length * 2];
+            counts = new int[oldKeys.length * 2];
+            int mask = keys.length - 1;
+            for (int j = 0; j < oldKeys.length; ++j) {
+                int key = oldKeys[j];
+                if (key != 0) {
+                    int i = (key * 0x9E3779B1) >>> 16 & mask;
+                    while (keys[i] != 0) {
+                        i = (i + 1) & mask;
+                    }
+                    keys[i] = key;
+                    counts[i] = oldCounts[j];
+                }
+            }
+        }
+
+        int confidence(int[] ngramList) {
+            // Look up the (sorted) n-grams of the language in the counts,
+            // rather than each n-gram of the input in the language table.
+            int mask = keys.length - 1;
+            int hitCount = 0;
+            for (int k = 0; k < ngramList.length; ++k) {
+                int ngram = ngramList[k];
+                if (k > 0 && ngram == ngramList[k - 1]) {
+                    continue;
+                }
+                int i = (ngram * 0x9E3779B1) >>> 16 & mask;
+                int key;
+                while ((key = keys[i]) != 0) {
+                    if (key == ngram) {
+                        hitCount += counts[i];
+                        break;
+                    }
+                    i = (i + 1) & mask;
+                }
+            }
+            return confidence(hitCount, total);
+        }
+    }
+
     static class NGramParser_IBM420 extends NGramParser {
         private byte alef = 0x00;
 
@@ -491,8 +598,13 @@ int match(CharsetDetector det, int[] ngrams, byte[] byteMap) {
     }
 
     int match(CharsetDetector det, int[] ngrams, byte[] byteMap, byte spaceChar) {
-        NGramParser parser = new NGramParser(ngrams, byteMap);
-        return parser.parse(det, spaceChar);
+        return NGramCounts.get(det, byteMap, spaceChar).confidence(ngrams);
+    }
+
+    /** NGramParser.parse() caps the confidence below 100. */
+    @Override
+    int getMaxConfidence() {
+        return 99;
     }
 
     int matchIBM420(CharsetDetector det, int[] ngrams, byte[] byteMap, byte spaceChar) {
@@ -47,4 +47,14 @@ public String getLanguage() {
      *     was no match.
      */
     abstract CharsetMatch match(CharsetDetector det);
+
+    /**
+     * Get the highest confidence that {@link #match} can return. CharsetDetector.detect() skips the
+     * recognizers that cannot reach the confidence of the best match found so far.
+     *
+     * @return the maximum confidence, 0..100.
+     */
+    int getMaxConfidence() {
+        return 100;
+    }
 }
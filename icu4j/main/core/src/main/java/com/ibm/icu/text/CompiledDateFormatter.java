@@ -0,0 +1,1130 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: http://www.unicode.org/copyright.html
+package com.ibm.icu.text;
+
+import com.ibm.icu.impl.DayPeriodRules;
+import com.ibm.icu.impl.Grego;
+import com.ibm.icu.text.TimeZoneFormat.Style;
+import com.ibm.icu.util.GregorianCalendar;
+import com.ibm.icu.util.ICUUncheckedIOException;
+import com.ibm.icu.util.SimpleTimeZone;
+import com.ibm.icu.util.TimeZone;
+import com.ibm.icu.util.ULocale;
+import java.io.IOException;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An immutable date formatter for a fixed date/time pattern in the Gregorian calendar.
+ *
+ * <p>The pattern is compiled once, when the formatter is created, so formatting does not parse
+ * the pattern or use a {@link com.ibm.icu.util.Calendar}. The calendar fields are computed for
+ * each call on the stack of the calling thread, so one formatter can be shared by all threads, like
+ * {@link java.time.format.DateTimeFormatter}. Where a {@link SimpleDateFormat} and a {@link
+ * com.ibm.icu.util.Calendar} would be kept per thread, keep one {@code CompiledDateFormatter}.
+ *
+ * <p>The pattern syntax is the same as for {@link SimpleDateFormat}, and the output is the same as
+ * that of a {@link SimpleDateFormat} with a {@link GregorianCalendar} for the same locale, with
+ * these differences:
+ *
+ * <ul>
+ *   <li>Dates are always in the proleptic Gregorian calendar, like in {@code java.time}, even if
+ *       the locale requests another calendar, and also before the Gregorian cutover in 1582.
+ *   <li>No capitalization context is applied.
+ *   <li>Numbers use the digits of the locale's decimal numbering system. Locales with an
+ *       algorithmic numbering system, such as {@code he@numbers=hebr}, are not supported.
+ * </ul>
+ *
+ * <p>Example:
+ *
+ * <pre>
+ * CompiledDateFormatter formatter =
+ *         CompiledDateFormatter.forPattern("yyyy-MM-dd HH:mm:ss.SSS zzz", ULocale.US)
+ *                 .withTimeZone(TimeZone.getTimeZone("America/Los_Angeles"));
+ * String s = formatter.format(System.currentTimeMillis());
+ * </pre>
+ *
+ * <p>Instances of this class are immutable and thread-safe.
+ *
+ * @see SimpleDateFormat
+ * @draft ICU 79
+ */
+public final class CompiledDateFormatter {
+
+    private static final int MAX_DIGITS = Integer.MAX_VALUE;
+
+    // Julian day of January 1, 1970 Gregorian, for the 'g' field.
+    private static final int JULIAN_1970_CE = 2440588;
+
+    private final String pattern;
+    private final ULocale locale;
+    private final TimeZone timeZone;
+    private final FieldWriter[] writers;
+    private final int firstDayOfWeek;
+    private final int minimalDaysInFirstWeek;
+
+    // Whether the pattern has a field that depends on the date, on the time of day, or on the
+    // time zone, for formatting TemporalAccessors that have only some of them.
+    private final boolean needsDate;
+    private final boolean needsTime;
+    private final boolean needsTimeZone;
+
+    private CompiledDateFormatter(
+            String pattern,
+            ULocale locale,
+            TimeZone timeZone,
+            FieldWriter[] writers,
+            int firstDayOfWeek,
+            int minimalDaysInFirstWeek,
+            boolean needsDate,
+            boolean needsTime,
+            boolean needsTimeZone) {
+        this.pattern = pattern;
+        this.locale = locale;
+        this.timeZone = timeZone;
+        this.writers = writers;
+        this.firstDayOfWeek = firstDayOfWeek;
+        this.minimalDaysInFirstWeek = minimalDaysInFirstWeek;
+        this.needsDate = needsDate;
+        this.needsTime = needsTime;
+        this.needsTimeZone = needsTimeZone;
+    }
+
+    /**
+     * Returns a formatter for the given pattern and locale, in the default time zone.
+     *
+     * @param pattern The pattern, in the syntax of {@link SimpleDateFormat}.
+     * @param locale The locale.
+     * @return A formatter.
+     * @throws IllegalArgumentException If the pattern contains a field that is not valid, or if
+     *     the locale uses an algorithmic numbering system.
+     * @draft ICU 79
+     */
+    public static CompiledDateFormatter forPattern(String pattern, ULocale locale) {
+        return compile(pattern, locale, frozen(TimeZone.getDefault()));
+    }
+
+    /**
+     * Returns a formatter for the best pattern for the given skeleton and locale, in the default
+     * time zone.
+     *
+     * @param skeleton The skeleton, such as {@code "yMMMdjmm"}.
+     * @param locale The locale.
+     * @return A formatter.
+     * @throws IllegalArgumentException If the locale uses an algorithmic numbering system.
+     * @see DateTimePatternGenerator#getBestPattern(String)
+     * @draft ICU 79
+     */
+    public static CompiledDateFormatter forSkeleton(String skeleton, ULocale locale) {
+        String pattern = DateTimePatternGenerator.getInstance(locale).getBestPattern(skeleton);
+        return forPattern(pattern, locale);
+    }
+
+    /**
+     * Returns a formatter that is the same as this one, but formats times in the given time zone.
+     *
+     * @param zone The time zone. The formatter keeps a frozen copy.
+     * @return A formatter.
+     * @draft ICU 79
+     */
+    public CompiledDateFormatter withTimeZone(TimeZone zone) {
+        return new CompiledDateFormatter(
+                pattern,
+                locale,
+                frozen(zone),
+                writers,
+                firstDayOfWeek,
+                minimalDaysInFirstWeek,
+                needsDate,
+                needsTime,
+                needsTimeZone);
+    }
+
+    /**
+     * Returns the pattern of this formatter.
+     *
+     * @draft ICU 79
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Returns the locale of this formatter.
+     *
+     * @draft ICU 79
+     */
+    public ULocale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Returns the time zone of this formatter. It is frozen.
+     *
+     * @draft ICU 79
+     */
+    public TimeZone getTimeZone() {
+        return timeZone;
+    }
+
+    /**
+     * Formats the given time in the time zone of this formatter.
+     *
+     * @param epochMillis The time, in milliseconds since 1970-01-01T00:00:00Z.
+     * @return The formatted string.
+     * @draft ICU 79
+     */
+    public String format(long epochMillis) {
+        StringBuilder sb = new StringBuilder(pattern.length() + 16);
+        formatToBuilder(epochMillis, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Formats the given time in the time zone of this formatter, and appends the result to the
+     * given Appendable.
+     *
+     * @param epochMillis The time, in milliseconds since 1970-01-01T00:00:00Z.
+     * @param appendable The Appendable to which to append the formatted string.
+     * @return The same Appendable, for chaining.
+     * @throws ICUUncheckedIOException if the Appendable throws IOException.
+     * @draft ICU 79
+     */
+    public <A extends Appendable> A formatTo(long epochMillis, A appendable) {
+        if (appendable instanceof StringBuilder) {
+            formatToBuilder(epochMillis, (StringBuilder) appendable);
+            return appendable;
+        }
+        StringBuilder sb = new StringBuilder(pattern.length() + 16);
+        formatToBuilder(epochMillis, sb);
+        return appendTo(sb, appendable);
+    }
+
+    /**
+     * Formats the given date and time.
+     *
+     * <p>A temporal with an instant, such as a {@link java.time.ZonedDateTime}, an {@link
+     * java.time.OffsetDateTime} or an {@link java.time.Instant}, is formatted in its own time zone
+     * or offset, if it has one, and otherwise in the time zone of this formatter. A local date or
+     * time, such as a {@link java.time.LocalDateTime}, is formatted as it is, and time zone fields
+     * show the time zone of this formatter at that local time.
+     *
+     * @param temporal The date and time.
+     * @return The formatted string.
+     * @throws java.time.DateTimeException If the pattern needs a field that the temporal does not
+     *     have, for example a year for a {@link java.time.LocalTime}.
+     * @draft ICU 79
+     */
+    public String format(TemporalAccessor temporal) {
+        StringBuilder sb = new StringBuilder(pattern.length() + 16);
+        formatToBuilder(temporal, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Formats the given date and time like {@link #format(TemporalAccessor)}, and appends the
+     * result to the given Appendable.
+     *
+     * @param temporal The date and time.
+     * @param appendable The Appendable to which to append the formatted string.
+     * @return The same Appendable, for chaining.
+     * @throws java.time.DateTimeException If the pattern needs a field that the temporal does not
+     *     have.
+     * @throws ICUUncheckedIOException if the Appendable throws IOException.
+     * @draft ICU 79
+     */
+    public <A extends Appendable> A formatTo(TemporalAccessor temporal, A appendable) {
+        if (appendable instanceof StringBuilder) {
+            formatToBuilder(temporal, (StringBuilder) appendable);
+            return appendable;
+        }
+        StringBuilder sb = new StringBuilder(pattern.length() + 16);
+        formatToBuilder(temporal, sb);
+        return appendTo(sb, appendable);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @draft ICU 79
+     */
+    @Override
+    public String toString() {
+        return "<CompiledDateFormatter " + pattern + " " + locale + " " + timeZone.getID() + ">";
+    }
+
+    private void formatToBuilder(long epochMillis, StringBuilder sb) {
+        Fields fields = new Fields(this);
+        fields.setTime(epochMillis, timeZone);
+        write(fields, sb);
+    }
+
+    private void formatToBuilder(TemporalAccessor temporal, StringBuilder sb) {
+        Fields fields = new Fields(this);
+        if (temporal.isSupported(ChronoField.INSTANT_SECONDS)) {
+            long epochMillis =
+                    Math.addExact(
+                            Math.multiplyExact(
+                                    temporal.getLong(ChronoField.INSTANT_SECONDS), 1000L),
+                            temporal.getLong(ChronoField.MILLI_OF_SECOND));
+            fields.setTime(epochMillis, getTimeZone(temporal));
+        } else {
+            long epochDay =
+                    needsDate || temporal.isSupported(ChronoField.EPOCH_DAY)
+                            ? temporal.getLong(ChronoField.EPOCH_DAY)
+                            : 0;
+            long nanoOfDay =
+                    needsTime || temporal.isSupported(ChronoField.NANO_OF_DAY)
+                            ? temporal.getLong(ChronoField.NANO_OF_DAY)
+                            : 0;
+            fields.setLocalTime(epochDay, (int) (nanoOfDay / 1000000), timeZone, needsTimeZone);
+        }
+        write(fields, sb);
+    }
+
+    private void write(Fields fields, StringBuilder sb) {
+        for (FieldWriter writer : writers) {
+            writer.write(fields, sb);
+        }
+    }
+
+    /* Returns the time zone of the temporal, or the time zone of this formatter. */
+    private TimeZone getTimeZone(TemporalAccessor temporal) {
+        if (!needsTimeZone && !needsDate && !needsTime) {
+            return timeZone;
+        }
+        ZoneId zoneId = temporal.query(TemporalQueries.zone());
+        if (zoneId == null) {
+            return timeZone;
+        }
+        if (!(zoneId instanceof ZoneOffset)) {
+            TimeZone zone = TimeZone.getFrozenTimeZone(zoneId.getId());
+            if (!TimeZone.UNKNOWN_ZONE_ID.equals(zone.getID())) {
+                return zone;
+            }
+            if (!temporal.isSupported(ChronoField.OFFSET_SECONDS)) {
+                return timeZone;
+            }
+            zoneId = ZoneOffset.ofTotalSeconds(temporal.get(ChronoField.OFFSET_SECONDS));
+        }
+        ZoneOffset offset = (ZoneOffset) zoneId;
+        return new SimpleTimeZone(offset.getTotalSeconds() * 1000, offset.getId());
+    }
+
+    private static <A extends Appendable> A appendTo(CharSequence text, A appendable) {
+        try {
+            appendable.append(text);
+            return appendable;
+        } catch (IOException e) {
+            throw new ICUUncheckedIOException(e);
+        }
+    }
+
+    private static TimeZone frozen(TimeZone zone) {
+        return zone.isFrozen() ? zone : zone.cloneAsThawed().freeze();
+    }
+
+    private static CompiledDateFormatter compile(String pattern, ULocale locale, TimeZone zone) {
+        NumberingSystem ns = NumberingSystem.getInstance(locale);
+        if (ns.isAlgorithmic() || ns.getRadix() != 10) {
+            throw new IllegalArgumentException(
+                    "Algorithmic numbering systems are not supported: " + ns.getName());
+        }
+        Compiler compiler = new Compiler(pattern, locale, ns);
+        GregorianCalendar cal = new GregorianCalendar(locale);
+        return new CompiledDateFormatter(
+                pattern,
+                locale,
+                zone,
+                compiler.compile(),
+                cal.getFirstDayOfWeek(),
+                cal.getMinimalDaysInFirstWeek(),
+                compiler.needsDate,
+                compiler.needsTime,
+                compiler.needsTimeZone);
+    }
+
+    /**
+     * The calendar fields of one date, computed on the stack of the formatting thread. The week
+     * fields are computed only if a writer needs them.
+     */
+    private static final class Fields {
+        final CompiledDateFormatter formatter;
+        final int[] date = new int[5];
+
+        long epochDay;
+        int millisInDay;
+        TimeZone zone;
+        long time;
+
+        // Week fields, computed when first needed.
+        boolean hasWeekFields;
+        int weekOfYear;
+        int yearWoy;
+
+        Fields(CompiledDateFormatter formatter) {
+            this.formatter = formatter;
+        }
+
+        void setTime(long epochMillis, TimeZone zone) {
+            int[] offsets = new int[2];
+            zone.getOffset(epochMillis, false, offsets);
+            long local = epochMillis + offsets[0] + offsets[1];
+            this.zone = zone;
+            this.time = epochMillis;
+            setDay(Math.floorDiv(local, Grego.MILLIS_PER_DAY));
+            millisInDay = Math.floorMod(local, Grego.MILLIS_PER_DAY);
+        }
+
+        void setLocalTime(long epochDay, int millisInDay, TimeZone zone, boolean needsTimeZone) {
+            setDay(epochDay);
+            this.millisInDay = millisInDay;
+            this.zone = zone;
+            if (needsTimeZone) {
+                long local = epochDay * Grego.MILLIS_PER_DAY + millisInDay;
+                int[] offsets = new int[2];
+                zone.getOffset(local, true, offsets);
+                time = local - offsets[0] - offsets[1];
+            }
+        }
+
+        private void setDay(long epochDay) {
+            this.epochDay = epochDay;
+            Grego.dayToFields(epochDay, date);
+        }
+
+        int extendedYear() {
+            return date[0];
+        }
+
+        int month() {
+            return date[1];
+        }
+
+        int dayOfMonth() {
+            return date[2];
+        }
+
+        int dayOfWeek() {
+            return date[3];
+        }
+
+        int dayOfYear() {
+            return date[4];
+        }
+
+        int hourOfDay() {
+            return millisInDay / Grego.MILLIS_PER_HOUR;
+        }
+
+        int minute() {
+            return (millisInDay / Grego.MILLIS_PER_MINUTE) % 60;
+        }
+
+        int second() {
+            return (millisInDay / Grego.MILLIS_PER_SECOND) % 60;
+        }
+
+        int era() {
+            return extendedYear() > 0 ? GregorianCalendar.AD : GregorianCalendar.BC;
+        }
+
+        int yearOfEra() {
+            int year = extendedYear();
+            return year > 0 ? year : 1 - year;
+        }
+
+        int localDayOfWeek() {
+            int dowLocal = dayOfWeek() - formatter.firstDayOfWeek + 1;
+            return dowLocal < 1 ? dowLocal + 7 : dowLocal;
+        }
+
+        int weekOfYear() {
+            computeWeekFields();
+            return weekOfYear;
+        }
+
+        int yearWoy() {
+            computeWeekFields();
+            return yearWoy;
+        }
+
+        int weekOfMonth() {
+            return weekNumber(dayOfMonth(), dayOfMonth(), dayOfWeek());
+        }
+
+        /* Same as Calendar.computeWeekFields(), for the Gregorian calendar. */
+        private void computeWeekFields() {
+            if (hasWeekFields) {
+                return;
+            }
+            int eyear = extendedYear();
+            int dayOfWeek = dayOfWeek();
+            int dayOfYear = dayOfYear();
+            int firstDayOfWeek = formatter.firstDayOfWeek;
+            int minDays = formatter.minimalDaysInFirstWeek;
+
+            yearWoy = eyear;
+            int relDow = (dayOfWeek + 7 - firstDayOfWeek) % 7; // 0..6
+            int relDowJan1 = (dayOfWeek - dayOfYear + 7001 - firstDayOfWeek) % 7; // 0..6
+            int woy = (dayOfYear - 1 + relDowJan1) / 7; // 0..53
+            if ((7 - relDowJan1) >= minDays) {
+                ++woy;
+            }
+
+            // Adjust for weeks at the year end that overlap into the previous or next year.
+            if (woy == 0) {
+                int prevDoy = dayOfYear + yearLength(eyear - 1);
+                woy = weekNumber(prevDoy, prevDoy, dayOfWeek);
+                yearWoy--;
+            } else {
+                int lastDoy = yearLength(eyear);
+                if (dayOfYear >= (lastDoy - 5)) {
+                    int lastRelDow = (relDow + lastDoy - dayOfYear) % 7;
+                    if (lastRelDow < 0) {
+                        lastRelDow += 7;
+                    }
+                    if (((6 - lastRelDow) >= minDays) && ((dayOfYear + 7 - relDow) > lastDoy)) {
+                        woy = 1;
+                        yearWoy++;
+                    }
+                }
+            }
+            weekOfYear = woy;
+            hasWeekFields = true;
+        }
+
+        /* Same as Calendar.weekNumber(int, int, int). */
+        private int weekNumber(int desiredDay, int dayOfPeriod, int dayOfWeek) {
+            int periodStartDayOfWeek =
+                    (dayOfWeek - formatter.firstDayOfWeek - dayOfPeriod + 1) % 7;
+            if (periodStartDayOfWeek < 0) {
+                periodStartDayOfWeek += 7;
+            }
+            int weekNo = (desiredDay + periodStartDayOfWeek - 1) / 7;
+            if ((7 - periodStartDayOfWeek) >= formatter.minimalDaysInFirstWeek) {
+                ++weekNo;
+            }
+            return weekNo;
+        }
+
+        private static int yearLength(int year) {
+            return Grego.isLeapYear(year) ? 366 : 365;
+        }
+    }
+
+    /** Writes one field or literal of the pattern. */
+    private abstract static class FieldWriter {
+        abstract void write(Fields fields, StringBuilder sb);
+    }
+
+    private static final class LiteralWriter extends FieldWriter {
+        private final String text;
+
+        LiteralWriter(String text) {
+            this.text = text;
+        }
+
+        @Override
+        void write(Fields fields, StringBuilder sb) {
+            sb.append(text);
+        }
+    }
+
+    /** The digits of a decimal numbering system, and the minus sign. */
+    private static final class Digits {
+        // The digits if they are all BMP characters, otherwise null.
+        private final char[] chars;
+        private final String[] strings;
+        private final char minusSign;
+
+        Digits(NumberingSystem ns, ULocale locale) {
+            String description = ns.getDescription();
+            strings = new String[10];
+            char[] chars = new char[10];
+            boolean bmp = true;
+            for (int i = 0, offset = 0; i < 10; i++) {
+                int c = description.codePointAt(offset);
+                strings[i] = new String(Character.toChars(c));
+                offset += Character.charCount(c);
+                if (c > 0xffff) {
+                    bmp = false;
+                } else {
+                    chars[i] = (char) c;
+                }
+            }
+            this.chars = bmp ? chars : null;
+            // The first char of the minus sign, like DateNumberFormat.
+            minusSign = DecimalFormatSymbols.getInstance(locale).getMinusSignString().charAt(0);
+        }
+
+        /* Same as DateNumberFormat.format(long) with minDigits and maxDigits. */
+        void append(int value, int minDigits, int maxDigits, StringBuilder sb) {
+            long number = value;
+            if (number < 0) {
+                sb.append(minusSign);
+                number = -number;
+            }
+            // Count the digits, and keep only the last maxDigits of them.
+            int count = 1;
+            long divisor = 1;
+            while (number / divisor >= 10 && count < maxDigits) {
+                divisor *= 10;
+                count++;
+            }
+            appendZeros(minDigits - count, sb);
+            for (; divisor > 0; divisor /= 10) {
+                appendDigit((int) (number / divisor % 10), sb);
+            }
+        }
+
+        void appendZeros(int count, StringBuilder sb) {
+            for (int i = 0; i < count; i++) {
+                appendDigit(0, sb);
+            }
+        }
+
+        private void appendDigit(int digit, StringBuilder sb) {
+            if (chars != null) {
+                sb.append(chars[digit]);
+            } else {
+                sb.append(strings[digit]);
+            }
+        }
+    }
+
+    private static final class NumberWriter extends FieldWriter {
+        private final char field;
+        private final int minDigits;
+        private final int maxDigits;
+        private final Digits digits;
+
+        NumberWriter(char field, int minDigits, int maxDigits, Digits digits) {
+            this.field = field;
+            this.minDigits = minDigits;
+            this.maxDigits = maxDigits;
+            this.digits = digits;
+        }
+
+        @Override
+        void write(Fields fields, StringBuilder sb) {
+            digits.append(value(fields), minDigits, maxDigits, sb);
+        }
+
+        private int value(Fields fields) {
+            switch (field) {
+                case 'y':
+                case 'U':
+                    return fields.yearOfEra();
+                case 'Y':
+                    return fields.yearWoy();
+                case 'u':
+                case 'r':
+                    return fields.extendedYear();
+                case 'M':
+                case 'L':
+                    return fields.month() + 1;
+                case 'Q':
+                case 'q':
+                    return fields.month() / 3 + 1;
+                case 'd':
+                    return fields.dayOfMonth();
+                case 'D':
+                    return fields.dayOfYear();
+                case 'F':
+                    return (fields.dayOfMonth() - 1) / 7 + 1;
+                case 'w':
+                    return fields.weekOfYear();
+                case 'W':
+                    return fields.weekOfMonth();
+                case 'e':
+                case 'c':
+                    return fields.localDayOfWeek();
+                case 'g':
+                    return (int) (fields.epochDay + JULIAN_1970_CE);
+                case 'H':
+                    return fields.hourOfDay();
+                case 'k':
+                    int hourOfDay = fields.hourOfDay();
+                    return hourOfDay == 0 ? 24 : hourOfDay;
+                case 'K':
+                    return fields.hourOfDay() % 12;
+                case 'h':
+                    int hour = fields.hourOfDay() % 12;
+                    return hour == 0 ? 12 : hour;
+                case 'm':
+                    return fields.minute();
+                case 's':
+                    return fields.second();
+                case 'A':
+                    return fields.millisInDay;
+                default:
+                    throw new AssertionError();
+            }
+        }
+    }
+
+    /* Writes the fractional seconds, left-justified, like SimpleDateFormat. */
+    private static final class FractionWriter extends FieldWriter {
+        private final int count;
+        private final Digits digits;
+
+        FractionWriter(int count, Digits digits) {
+            this.count = count;
+            this.digits = digits;
+        }
+
+        @Override
+        void write(Fields fields, StringBuilder sb) {
+            int value = fields.millisInDay % Grego.MILLIS_PER_SECOND;
+            if (count == 1) {
+                value /= 100;
+            } else if (count == 2) {
+                value /= 10;
+            }
+            digits.append(value, Math.min(3, count), MAX_DIGITS, sb);
+            if (count > 3) {
+                digits.appendZeros(count - 3, sb);
+            }
+        }
+    }
+
+    private static final class TextWriter extends FieldWriter {
+        private final char field;
+        private final String[] names;
+
+        TextWriter(char field, String[] names) {
+            this.field = field;
+            this.names = names;
+        }
+
+        @Override
+        void write(Fields fields, StringBuilder sb) {
+            int index;
+            switch (field) {
+                case 'G':
+                    index = fields.era();
+                    break;
+                case 'M':
+                case 'L':
+                    index = fields.month();
+                    break;
+                case 'Q':
+                case 'q':
+                    index = fields.month() / 3;
+                    break;
+                case 'E':
+                case 'e':
+                case 'c':
+                    index = fields.dayOfWeek();
+                    break;
+                case 'a':
+                    index = fields.hourOfDay() < 12 ? 0 : 1;
+                    break;
+                default:
+                    throw new AssertionError();
+            }
+            if (names != null && index >= 0 && index < names.length) {
+                sb.append(names[index]);
+            }
+        }
+    }
+
+    private static final class TimeZoneWriter extends FieldWriter {
+        private final Style style;
+        private final TimeZoneFormat tzFormat;
+
+        TimeZoneWriter(Style style, TimeZoneFormat tzFormat) {
+            this.style = style;
+            this.tzFormat = tzFormat;
+        }
+
+        @Override
+        void write(Fields fields, StringBuilder sb) {
+            sb.append(tzFormat.format(style, fields.zone, fields.time));
+        }
+    }
+
+    /* Writes 'b' or 'B', like SimpleDateFormat. */
+    private static final class DayPeriodWriter extends FieldWriter {
+        private final boolean flexible;
+        private final String[] dayPeriods;
+        private final FieldWriter amPmWriter;
+        private final DayPeriodRules rules;
+        private final boolean hasMinute;
+        private final boolean hasSecond;
+
+        DayPeriodWriter(
+                boolean flexible,
+                String[] dayPeriods,
+                FieldWriter amPmWriter,
+                DayPeriodRules rules,
+                boolean hasMinute,
+                boolean hasSecond) {
+            this.flexible = flexible;
+            this.dayPeriods = dayPeriods;
+            this.amPmWriter = amPmWriter;
+            this.rules = rules;
+            this.hasMinute = hasMinute;
+            this.hasSecond = hasSecond;
+        }
+
+        @Override
+        void write(Fields fields, StringBuilder sb) {
+            int hour = fields.hourOfDay();
+            int minute = hasMinute ? fields.minute() : 0;
+            int second = hasSecond ? fields.second() : 0;
+            String text = null;
+            if (!flexible) {
+                // Only "noon" is output; "midnight" is suppressed like in SimpleDateFormat.
+                if (hour == 12 && minute == 0 && second == 0) {
+                    text = dayPeriods[DayPeriodRules.DayPeriod.NOON.ordinal()];
+                }
+            } else {
+                DayPeriodRules.DayPeriod period;
+                if (hour == 0 && minute == 0 && second == 0 && rules.hasMidnight()) {
+                    period = DayPeriodRules.DayPeriod.MIDNIGHT;
+                } else if (hour == 12 && minute == 0 && second == 0 && rules.hasNoon()) {
+                    period = DayPeriodRules.DayPeriod.NOON;
+                } else {
+                    period = rules.getDayPeriodForHour(hour);
+                }
+                if (period != DayPeriodRules.DayPeriod.AM
+                        && period != DayPeriodRules.DayPeriod.PM
+                        && period != DayPeriodRules.DayPeriod.MIDNIGHT) {
+                    text = dayPeriods[period.ordinal()];
+                }
+                if (text == null
+                        && (period == DayPeriodRules.DayPeriod.MIDNIGHT
+                                || period == DayPeriodRules.DayPeriod.NOON)) {
+                    period = rules.getDayPeriodForHour(hour);
+                    text = dayPeriods[period.ordinal()];
+                }
+                if (period == DayPeriodRules.DayPeriod.AM
+                        || period == DayPeriodRules.DayPeriod.PM) {
+                    text = null;
+                }
+            }
+            if (text == null) {
+                amPmWriter.write(fields, sb);
+            } else {
+                sb.append(text);
+            }
+        }
+    }
+
+    /* Compiles a pattern into writers, following SimpleDateFormat.subFormat(). */
+    private static final class Compiler {
+        private final String pattern;
+        private final ULocale locale;
+        private final DateFormatSymbols symbols;
+        private final Digits digits;
+        private TimeZoneFormat tzFormat;
+        private DayPeriodRules dayPeriodRules;
+        private boolean hasMinute;
+        private boolean hasSecond;
+
+        boolean needsDate;
+        boolean needsTime;
+        boolean needsTimeZone;
+
+        Compiler(String pattern, ULocale locale, NumberingSystem ns) {
+            this.pattern = pattern;
+            this.locale = locale;
+            this.symbols = new DateFormatSymbols(new GregorianCalendar(locale), locale);
+            this.digits = new Digits(ns, locale);
+        }
+
+        FieldWriter[] compile() {
+            List<Object> items = parse();
+            List<FieldWriter> writers = new ArrayList<>(items.size());
+            for (Object item : items) {
+                if (item instanceof String) {
+                    writers.add(new LiteralWriter((String) item));
+                } else {
+                    char[] field = (char[]) item;
+                    FieldWriter writer = compileField(field[0], field[1]);
+                    if (writer != null) {
+                        writers.add(writer);
+                    }
+                }
+            }
+            return writers.toArray(new FieldWriter[writers.size()]);
+        }
+
+        /*
+         * Splits the pattern into literal strings and fields, like
+         * SimpleDateFormat.getPatternItems(). A field is a char[] of the pattern letter and the
+         * count.
+         */
+        private List<Object> parse() {
+            List<Object> items = new ArrayList<>();
+            StringBuilder text = new StringBuilder();
+            boolean isPrevQuote = false;
+            boolean inQuote = false;
+            char itemType = 0; // 0 for string literal, otherwise date/time pattern character
+            int itemLength = 1;
+            for (int i = 0; i < pattern.length(); i++) {
+                char ch = pattern.charAt(i);
+                if (ch == '\'') {
+                    if (isPrevQuote) {
+                        text.append('\'');
+                        isPrevQuote = false;
+                    } else {
+                        isPrevQuote = true;
+                        if (itemType != 0) {
+                            items.add(new char[] {itemType, (char) itemLength});
+                            itemType = 0;
+                        }
+                    }
+                    inQuote = !inQuote;
+                } else {
+                    isPrevQuote = false;
+                    if (inQuote) {
+                        text.append(ch);
+                    } else if ((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z')) {
+                        if (ch == itemType) {
+                            itemLength++;
+                        } else {
+                            if (itemType == 0) {
+                                addText(text, items);
+                            } else {
+                                items.add(new char[] {itemType, (char) itemLength});
+                            }
+                            itemType = ch;
+                            itemLength = 1;
+                        }
+                        if (ch == 'm') {
+                            hasMinute = true;
+                        } else if (ch == 's') {
+                            hasSecond = true;
+                        }
+                    } else {
+                        if (itemType != 0) {
+                            items.add(new char[] {itemType, (char) itemLength});
+                            itemType = 0;
+                        }
+                        text.append(ch);
+                    }
+                }
+            }
+            if (itemType == 0) {
+                addText(text, items);
+            } else {
+                items.add(new char[] {itemType, (char) itemLength});
+            }
+            return items;
+        }
+
+        private static void addText(StringBuilder text, List<Object> items) {
+            if (text.length() > 0) {
+                // Merge adjacent literals, for example around a quoted string.
+                int last = items.size() - 1;
+                if (last >= 0 && items.get(last) instanceof String) {
+                    items.set(last, items.get(last) + text.toString());
+                } else {
+                    items.add(text.toString());
+                }
+                text.setLength(0);
+            }
+        }
+
+        private FieldWriter compileField(char ch, int count) {
+            DateFormatSymbols s = symbols;
+            switch (ch) {
+                case 'G':
+                    needsDate = true;
+                    return new TextWriter(
+                            ch, count == 5 ? s.narrowEras : count == 4 ? s.eraNames : s.eras);
+                case 'y':
+                case 'Y':
+                case 'U':
+                    needsDate = true;
+                    return count == 2
+                            ? new NumberWriter(ch, 2, 2, digits)
+                            : new NumberWriter(ch, count, MAX_DIGITS, digits);
+                case 'M':
+                case 'L':
+                    needsDate = true;
+                    boolean format = ch == 'M';
+                    if (count == 5) {
+                        return new TextWriter(
+                                ch, format ? s.narrowMonths : s.standaloneNarrowMonths);
+                    } else if (count == 4) {
+                        return new TextWriter(ch, format ? s.months : s.standaloneMonths);
+                    } else if (count == 3) {
+                        return new TextWriter(
+                                ch, format ? s.shortMonths : s.standaloneShortMonths);
+                    }
+                    return new NumberWriter(ch, count, MAX_DIGITS, digits);
+                case 'E':
+                    needsDate = true;
+                    return dayOfWeekWriter(ch, count);
+                case 'e':
+                    needsDate = true;
+                    if (count < 3) {
+                        return new NumberWriter(ch, count, MAX_DIGITS, digits);
+                    }
+                    return dayOfWeekWriter(ch, count);
+                case 'c':
+                    needsDate = true;
+                    if (count < 3) {
+                        return new NumberWriter(ch, 1, MAX_DIGITS, digits);
+                    } else if (count == 5) {
+                        return new TextWriter(ch, s.standaloneNarrowWeekdays);
+                    } else if (count == 4) {
+                        return new TextWriter(ch, s.standaloneWeekdays);
+                    } else if (count == 6 && s.standaloneShorterWeekdays != null) {
+                        return new TextWriter(ch, s.standaloneShorterWeekdays);
+                    }
+                    return new TextWriter(ch, s.standaloneShortWeekdays);
+                case 'Q':
+                case 'q':
+                    needsDate = true;
+                    boolean formatQ = ch == 'Q';
+                    if (count >= 5) {
+                        return new TextWriter(
+                                ch, formatQ ? s.narrowQuarters : s.standaloneNarrowQuarters);
+                    } else if (count == 4) {
+                        return new TextWriter(ch, formatQ ? s.quarters : s.standaloneQuarters);
+                    } else if (count == 3) {
+                        return new TextWriter(
+                                ch, formatQ ? s.shortQuarters : s.standaloneShortQuarters);
+                    }
+                    return new NumberWriter(ch, count, MAX_DIGITS, digits);
+                case 'd':
+                case 'D':
+                case 'F':
+                case 'w':
+                case 'W':
+                case 'u':
+                case 'r':
+                case 'g':
+                    needsDate = true;
+                    return new NumberWriter(ch, count, MAX_DIGITS, digits);
+                case 'H':
+                case 'k':
+                case 'K':
+                case 'h':
+                case 'm':
+                case 's':
+                case 'A':
+                    needsTime = true;
+                    return new NumberWriter(ch, count, MAX_DIGITS, digits);
+                case 'S':
+                    needsTime = true;
+                    return new FractionWriter(count, digits);
+                case 'a':
+                    needsTime = true;
+                    return amPmWriter(count);
+                case 'b':
+                case 'B':
+                    needsTime = true;
+                    String[] dayPeriods =
+                            count <= 3
+                                    ? s.abbreviatedDayPeriods
+                                    : count == 5 ? s.narrowDayPeriods : s.wideDayPeriods;
+                    if (ch == 'B' && dayPeriodRules == null) {
+                        dayPeriodRules = DayPeriodRules.getInstance(locale);
+                    }
+                    return new DayPeriodWriter(
+                            ch == 'B',
+                            dayPeriods,
+                            amPmWriter(count),
+                            dayPeriodRules,
+                            hasMinute,
+                            hasSecond);
+                case 'l':
+                    // Deprecated placeholder for the leap month marker, ignored.
+                    return null;
+                default:
+                    Style style = timeZoneStyle(ch, count);
+                    if (style == null) {
+                        throw new IllegalArgumentException(
+                                "Illegal pattern character '" + ch + "' in \"" + pattern + '"');
+                    }
+                    needsTimeZone = true;
+                    if (tzFormat == null) {
+                        tzFormat = TimeZoneFormat.getInstance(locale);
+                    }
+                    return new TimeZoneWriter(style, tzFormat);
+            }
+        }
+
+        private FieldWriter dayOfWeekWriter(char ch, int count) {
+            DateFormatSymbols s = symbols;
+            if (count == 5) {
+                return new TextWriter(ch, s.narrowWeekdays);
+            } else if (count == 4) {
+                return new TextWriter(ch, s.weekdays);
+            } else if (count == 6 && s.shorterWeekdays != null) {
+                return new TextWriter(ch, s.shorterWeekdays);
+            }
+            return new TextWriter(ch, s.shortWeekdays);
+        }
+
+        private FieldWriter amPmWriter(int count) {
+            DateFormatSymbols s = symbols;
+            if (count == 4 && s.ampmsWide != null) {
+                return new TextWriter('a', s.ampmsWide);
+            } else if (count == 5 && s.ampmsNarrow != null) {
+                return new TextWriter('a', s.ampmsNarrow);
+            }
+            return new TextWriter('a', s.ampms);
+        }
+
+        /* Returns the time zone format style of a field, or null if it is not valid. */
+        private static Style timeZoneStyle(char ch, int count) {
+            switch (ch) {
+                case 'z':
+                    return count < 4 ? Style.SPECIFIC_SHORT : Style.SPECIFIC_LONG;
+                case 'Z':
+                    return count < 4
+                            ? Style.ISO_BASIC_LOCAL_FULL
+                            : count == 5 ? Style.ISO_EXTENDED_FULL : Style.LOCALIZED_GMT;
+                case 'v':
+                    return count == 1
+                            ? Style.GENERIC_SHORT
+                            : count == 4 ? Style.GENERIC_LONG : null;
+                case 'V':
+                    return pick(
+                            count,
+                            Style.ZONE_ID_SHORT,
+                            Style.ZONE_ID,
+                            Style.EXEMPLAR_LOCATION,
+                            Style.GENERIC_LOCATION);
+                case 'O':
+                    return count == 1
+                            ? Style.LOCALIZED_GMT_SHORT
+                            : count == 4 ? Style.LOCALIZED_GMT : null;
+                case 'X':
+                    return pick(
+                            count,
+                            Style.ISO_BASIC_SHORT,
+                            Style.ISO_BASIC_FIXED,
+                            Style.ISO_EXTENDED_FIXED,
+                            Style.ISO_BASIC_FULL,
+                            Style.ISO_EXTENDED_FULL);
+                case 'x':
+                    return pick(
+                            count,
+                            Style.ISO_BASIC_LOCAL_SHORT,
+                            Style.ISO_BASIC_LOCAL_FIXED,
+                            Style.ISO_EXTENDED_LOCAL_FIXED,
+                            Style.ISO_BASIC_LOCAL_FULL,
+                            Style.ISO_EXTENDED_LOCAL_FULL);
+                default:
+                    return null;
+            }
+        }
+
+        private static Style pick(int count, Style... styles) {
+            return count <= styles.length ? styles[count - 1] : null;
+        }
+    }
+}
@@ -734,11 +734,11 @@ public void doFormat(long number, StringBuilder toInsertInto, int pos, int recur
             int pluralRuleEnd = ruleText.indexOf(")$", pluralRuleStart);
             int initialLength = toInsertInto.length();
             if (pluralRuleEnd < ruleText.length() - 1) {
-                toInsertInto.insert(pos, ruleText.substring(pluralRuleEnd + 2));
+                toInsertInto.insert(pos, ruleText, pluralRuleEnd + 2, ruleText.length());
             }
             toInsertInto.insert(pos, rulePatternFormat.format(number / power(radix, exponent)));
             if (pluralRuleStart > 0) {
-                toInsertInto.insert(pos, ruleText.substring(0, pluralRuleStart));
+                toInsertInto.insert(pos, ruleText, 0, pluralRuleStart);
             }
             lengthOffset = ruleText.length() - (toInsertInto.length() - initialLength);
         }
@@ -781,7 +781,7 @@ public void doFormat(double number, StringBuilder toInsertInto, int pos, int rec
             int pluralRuleEnd = ruleText.indexOf(")$", pluralRuleStart);
             int initialLength = toInsertInto.length();
             if (pluralRuleEnd < ruleText.length() - 1) {
-                toInsertInto.insert(pos, ruleText.substring(pluralRuleEnd + 2));
+                toInsertInto.insert(pos, ruleText, pluralRuleEnd + 2, ruleText.length());
             }
             double pluralVal = number;
             if (0 <= pluralVal && pluralVal < 1) {
@@ -794,7 +794,7 @@ public void doFormat(double number, StringBuilder toInsertInto, int pos, int rec
             }
             toInsertInto.insert(pos, rulePatternFormat.format((long) (pluralVal)));
             if (pluralRuleStart > 0) {
-                toInsertInto.insert(pos, ruleText.substring(0, pluralRuleStart));
+                toInsertInto.insert(pos, ruleText, 0, pluralRuleStart);
             }
             lengthOffset = ruleText.length() - (toInsertInto.length() - initialLength);
         }
@@ -75,6 +75,16 @@ final class NFRuleSet {
     /** Limit of recursion. It's about a 64 bit number formatted in base 2. */
     private static final int RECURSION_LIMIT = 64;
 
+    /** The numbers below this limit are cached when the owner's format cache is enabled. */
+    static final int FORMAT_CACHE_LIMIT = 1000;
+
+    /**
+     * The text of the numbers below FORMAT_CACHE_LIMIT, filled in as they are formatted, or null
+     * if the format cache is off. Threads may fill in the same entry at the same time; they store
+     * equal strings.
+     */
+    private String[] formatCache;
+
     // -----------------------------------------------------------------------
     // construction
     // -----------------------------------------------------------------------
@@ -278,6 +288,19 @@ public void makeIntoFractionRuleSet() {
         isFractionRuleSet = true;
     }
 
+    /**
+     * Turns the cache of the text of small numbers on and off. Fraction rule sets are not cached.
+     *
+     * @param enabled true to cache the text of the numbers below FORMAT_CACHE_LIMIT
+     */
+    void setFormatCacheEnabled(boolean enabled) {
+        if (!enabled || isFractionRuleSet) {
+            formatCache = null;
+        } else if (formatCache == null) {
+            formatCache = new String[FORMAT_CACHE_LIMIT];
+        }
+    }
+
     // -----------------------------------------------------------------------
     // boilerplate
     // -----------------------------------------------------------------------
@@ -422,6 +445,19 @@ public void format(long number, StringBuilder toInsertInto, int pos, int recursi
             throw new IllegalStateException(
                     "Recursion limit exceeded when applying ruleSet " + name);
         }
+        String[] cache = formatCache;
+        if (cache != null && number >= 0 && number < cache.length) {
+            // The text of a number does not depend on the text around it.
+            String text = cache[(int) number];
+            if (text != null) {
+                toInsertInto.insert(pos, text);
+                return;
+            }
+            int length = toInsertInto.length();
+            findNormalRule(number).doFormat(number, toInsertInto, pos, recursionCount + 1);
+            cache[(int) number] = toInsertInto.substring(pos, pos + toInsertInto.length() - length);
+            return;
+        }
         NFRule applicableRule = findNormalRule(number);
         applicableRule.doFormat(number, toInsertInto, pos, ++recursionCount);
     }
@@ -826,6 +862,9 @@ public Number parse(
     }
 
     public void setDecimalFormatSymbols(DecimalFormatSymbols newSymbols) {
+        if (formatCache != null) {
+            formatCache = new String[FORMAT_CACHE_LIMIT];
+        }
         for (NFRule rule : rules) {
             rule.setDecimalFormatSymbols(newSymbols);
         }
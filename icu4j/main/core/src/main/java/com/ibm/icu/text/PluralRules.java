@@ -177,6 +177,12 @@ public class PluralRules implements Serializable {
     private static final long serialVersionUID = 1;
 
     private final RuleList rules;
+
+    /* Integers below this limit are looked up in a table. */
+    private static final int SMALL_INTEGER_LIMIT = 1000;
+
+    /* The keywords for the integers below SMALL_INTEGER_LIMIT, computed when first needed. */
+    private transient volatile String[] smallIntegerKeywords;
     private final transient Set<String> keywords;
     private final transient StandardPluralRanges standardPluralRanges;
 
@@ -373,6 +379,11 @@ public boolean isFulfilled(IFixedDecimal n) {
                     return true;
                 }
 
+                @Override
+                public boolean isFulfilledByInteger(long n) {
+                    return true;
+                }
+
                 @Override
                 public boolean isLimited(SampleType sampleType) {
                     return false;
@@ -1395,6 +1406,13 @@ private interface Constraint extends Serializable {
          */
         boolean isFulfilled(IFixedDecimal n);
 
+        /*
+         * Returns true if the integer fulfills the constraint, like isFulfilled() with a
+         * FixedDecimal for the integer without visible fraction digits and without exponent.
+         * @param n the integer to test, >= 0.
+         */
+        boolean isFulfilledByInteger(long n);
+
         /*
          * Returns false if an unlimited number of values fulfills the
          * constraint.
@@ -1762,6 +1780,37 @@ public boolean isFulfilled(IFixedDecimal number) {
                     || operand == Operand.j && number.getPluralOperand(Operand.v) != 0)) {
                 return !inRange;
             }
+            return isInRange(n) == inRange;
+        }
+
+        @Override
+        public boolean isFulfilledByInteger(long n) {
+            // Only the integer operands are not zero.
+            if (operand != Operand.n && operand != Operand.i && operand != Operand.j) {
+                n = 0;
+            }
+            return isIntegerInRange(n) == inRange;
+        }
+
+        /*
+         * Like isInRange(), in long arithmetic, which is exact also above 2^53. The bounds were
+         * parsed as longs.
+         */
+        private boolean isIntegerInRange(long n) {
+            if (mod != 0) {
+                n %= mod;
+            }
+            boolean test = n >= (long) lowerBound && n <= (long) upperBound;
+            if (test && range_list != null) {
+                test = false;
+                for (int i = 0; !test && i < range_list.length; i += 2) {
+                    test = n >= range_list[i] && n <= range_list[i + 1];
+                }
+            }
+            return test;
+        }
+
+        private boolean isInRange(double n) {
             if (mod != 0) {
                 n = n % mod; // java % handles double numerator the way we want
             }
@@ -1772,7 +1821,7 @@ public boolean isFulfilled(IFixedDecimal number) {
                     test = n >= range_list[i] && n <= range_list[i + 1];
                 }
             }
-            return inRange == test;
+            return test;
         }
 
         @Override
@@ -1868,6 +1917,11 @@ public boolean isFulfilled(IFixedDecimal n) {
             return a.isFulfilled(n) && b.isFulfilled(n);
         }
 
+        @Override
+        public boolean isFulfilledByInteger(long n) {
+            return a.isFulfilledByInteger(n) && b.isFulfilledByInteger(n);
+        }
+
         @Override
         public boolean isLimited(SampleType sampleType) {
             // we ignore the case where both a and b are unlimited but no values
@@ -1894,6 +1948,11 @@ public boolean isFulfilled(IFixedDecimal n) {
             return a.isFulfilled(n) || b.isFulfilled(n);
         }
 
+        @Override
+        public boolean isFulfilledByInteger(long n) {
+            return a.isFulfilledByInteger(n) || b.isFulfilledByInteger(n);
+        }
+
         @Override
         public boolean isLimited(SampleType sampleType) {
             return a.isLimited(sampleType) && b.isLimited(sampleType);
@@ -1949,6 +2008,10 @@ public boolean appliesTo(IFixedDecimal n) {
             return constraint.isFulfilled(n);
         }
 
+        public boolean appliesToInteger(long n) {
+            return constraint.isFulfilledByInteger(n);
+        }
+
         public boolean isLimited(SampleType sampleType) {
             return constraint.isLimited(sampleType);
         }
@@ -2027,6 +2090,16 @@ public String select(IFixedDecimal n) {
             return r.getKeyword();
         }
 
+        /* Like select(), for an integer n >= 0 without visible fraction digits and exponent. */
+        public String selectInteger(long n) {
+            for (Rule rule : rules) {
+                if (rule.appliesToInteger(n)) {
+                    return rule.getKeyword();
+                }
+            }
+            return null;
+        }
+
         public Set<String> getKeywords() {
             Set<String> result = new LinkedHashSet<>();
             for (Rule rule : rules) {
@@ -2237,9 +2310,55 @@ public int hashCode() {
      * @stable ICU 4.0
      */
     public String select(double number) {
+        // FixedDecimal truncates the i operand to an int: larger integers keep that behavior.
+        if (number >= 0 && number <= Integer.MAX_VALUE && number == (int) number) {
+            return selectInteger((int) number);
+        }
+        return rules.select(new FixedDecimal(number));
+    }
+
+    /**
+     * Given an integer, returns the keyword of the first rule that applies to the number. For
+     * integers in the range of an int, this is the same as {@link #select(double)}, but faster.
+     * Integers from 0 to 10^18 are evaluated exactly, with long arithmetic, while select(double)
+     * rounds integers above 2^53. Other integers are evaluated with a FixedDecimal, like in
+     * select(double).
+     *
+     * <p>Calls with an int or long argument that used select(double) before this method was added
+     * now use this method.
+     *
+     * @param number The number for which the rule has to be determined.
+     * @return The keyword of the selected rule.
+     * @draft ICU 79
+     */
+    public String select(long number) {
+        if (number >= 0 && number <= FixedDecimal.MAX) {
+            return selectInteger(number);
+        }
         return rules.select(new FixedDecimal(number));
     }
 
+    /*
+     * Returns the keyword for an integer 0 <= n <= FixedDecimal.MAX, without creating a
+     * FixedDecimal. The rules are evaluated with the integer operands n, i and j, while the other
+     * operands are zero.
+     */
+    private String selectInteger(long n) {
+        if (n >= SMALL_INTEGER_LIMIT) {
+            return rules.selectInteger(n);
+        }
+        String[] keywords = smallIntegerKeywords;
+        if (keywords == null) {
+            // Racing threads compute the same table.
+            keywords = new String[SMALL_INTEGER_LIMIT];
+            for (int i = 0; i < SMALL_INTEGER_LIMIT; i++) {
+                keywords[i] = rules.selectInteger(i);
+            }
+            smallIntegerKeywords = keywords;
+        }
+        return keywords[(int) n];
+    }
+
     /**
      * Given a formatted number, returns the keyword of the first rule that applies to the number.
      *
@@ -10,7 +10,7 @@
 
 import com.ibm.icu.impl.Utility;
 
-class Quantifier implements UnicodeMatcher {
+class Quantifier implements SegmentMatcher {
 
     private UnicodeMatcher matcher;
 
@@ -33,11 +33,20 @@ public Quantifier(UnicodeMatcher theMatcher, int theMinCount, int theMaxCount) {
     /** Implement UnicodeMatcher API. */
     @Override
     public int matches(Replaceable text, int[] offset, int limit, boolean incremental) {
+        return matches(text, offset, limit, incremental, null);
+    }
+
+    /** Implement SegmentMatcher API. */
+    @Override
+    public int matches(
+            Replaceable text, int[] offset, int limit, boolean incremental, int[] segmentMatches) {
         int start = offset[0];
         int count = 0;
         while (count < maxCount) {
             int pos = offset[0];
-            int m = matcher.matches(text, offset, limit, incremental);
+            int m =
+                    SegmentMatcher.matches(
+                            matcher, text, offset, limit, incremental, segmentMatches);
             if (m == U_MATCH) {
                 ++count;
                 if (pos == offset[0]) {
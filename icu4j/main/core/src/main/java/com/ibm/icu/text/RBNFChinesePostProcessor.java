@@ -11,10 +11,6 @@
 
 /** A post-processor for Chinese text. */
 final class RBNFChinesePostProcessor implements RBNFPostProcessor {
-    // private NFRuleSet lastRuleSet;
-    private boolean longForm;
-    private int format;
-
     private static final String[] rulesetNames = {
         "%traditional", "%simplified", "%accounting", "%time"
     };
@@ -33,9 +29,9 @@ public void init(RuleBasedNumberFormat formatter, String rules) {}
     @Override
     public void process(StringBuilder buf, NFRuleSet ruleSet) {
         // markers depend on what rule set we are using
-
-        // Commented by johnvu on the if statement since lastRuleSet is never initialized
-        // if (ruleSet != lastRuleSet) {
+        // (local variables, so that formatters can be shared across threads)
+        boolean longForm = false;
+        int format = 0;
         String name = ruleSet.getName();
         for (int i = 0; i < rulesetNames.length; ++i) {
             if (rulesetNames[i].equals(name)) {
@@ -44,7 +40,6 @@ public void process(StringBuilder buf, NFRuleSet ruleSet) {
                 break;
             }
         }
-        // }
 
         if (longForm) {
             for (int i = buf.indexOf("*"); i != -1; i = buf.indexOf("*", i)) {
@@ -15,6 +15,9 @@
 import com.ibm.icu.impl.PatternProps;
 import com.ibm.icu.lang.UCharacter;
 import com.ibm.icu.math.BigDecimal;
+import com.ibm.icu.util.Currency;
+import com.ibm.icu.util.CurrencyAmount;
+import com.ibm.icu.util.Freezable;
 import com.ibm.icu.util.ULocale;
 import com.ibm.icu.util.ULocale.Category;
 import com.ibm.icu.util.UResourceBundle;
@@ -521,6 +524,12 @@
  * <p>See the resource data and the demo program for annotated examples of real rule sets using
  * these features.
  *
+ * <p>Threads may share a formatter that none of them modifies. Call {@link #freeze()} before
+ * sharing it: a frozen formatter creates up front the objects that it would otherwise create when
+ * they are first needed, and its setters throw an exception. A formatter that spells out many
+ * numbers can remember the text of the small numbers they are built from; see {@link
+ * #setFormatCacheEnabled}.
+ *
  * <p><em>User subclasses are not supported.</em> While clients may write subclasses, such code will
  * not necessarily work and will not be guaranteed to work stably from release to release.
  *
@@ -531,7 +540,8 @@
  * @see PluralRules
  * @stable ICU 2.0
  */
-public class RuleBasedNumberFormat extends NumberFormat implements Cloneable {
+public class RuleBasedNumberFormat extends NumberFormat
+        implements Cloneable, Freezable<RuleBasedNumberFormat> {
 
     // -----------------------------------------------------------------------
     // constants
@@ -685,6 +695,11 @@ public class RuleBasedNumberFormat extends NumberFormat implements Cloneable {
     private boolean capitalizationForStandAlone = false;
     private transient BreakIterator capitalizationBrkIter = null;
 
+    /** Whether the rule sets cache the text of small numbers. Off by default. */
+    private transient boolean formatCacheEnabled = false;
+
+    private transient volatile boolean frozen = false;
+
     private static final boolean DEBUG = ICUDebug.enabled("rbnf");
 
     // -----------------------------------------------------------------------
@@ -892,6 +907,64 @@ public RuleBasedNumberFormat clone() {
         return (RuleBasedNumberFormat) super.clone();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @draft ICU 79
+     */
+    @Override
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Freezes this formatter, so that it can be shared by threads that format and parse numbers.
+     * The objects that formatting creates when they are first needed are created now. After this
+     * call, the setters throw an UnsupportedOperationException.
+     *
+     * @return this formatter
+     * @draft ICU 79
+     */
+    @Override
+    public RuleBasedNumberFormat freeze() {
+        getDecimalFormat();
+        getDefaultInfinityRule();
+        getDefaultNaNRule();
+        initPostProcessor();
+        frozen = true;
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @draft ICU 79
+     */
+    @Override
+    public RuleBasedNumberFormat cloneAsThawed() {
+        RuleBasedNumberFormat result = clone();
+        result.frozen = false;
+        // Clones share their rule sets. Give the copy its own ones, built from the description
+        // like in readObject(), so that its setters do not modify this formatter.
+        RuleBasedNumberFormat temp = new RuleBasedNumberFormat(toString(), locale);
+        result.ruleSets = temp.ruleSets;
+        result.ruleSetsMap = temp.ruleSetsMap;
+        result.defaultRuleSet =
+                defaultRuleSet == null ? null : temp.ruleSetsMap.get(defaultRuleSet.getName());
+        result.decimalFormat = temp.decimalFormat;
+        result.defaultInfinityRule = temp.defaultInfinityRule;
+        result.defaultNaNRule = temp.defaultNaNRule;
+        result.setDecimalFormatSymbols(getDecimalFormatSymbols());
+        result.setFormatCacheEnabled(formatCacheEnabled);
+        return result;
+    }
+
+    private void checkFrozen() {
+        if (isFrozen()) {
+            throw new UnsupportedOperationException("Attempt to modify frozen object");
+        }
+    }
+
     /**
      * Tests two RuleBasedNumberFormats for equality.
      *
@@ -1361,6 +1434,7 @@ public Number parse(String text, ParsePosition parsePosition) {
      * @stable ICU 2.0
      */
     public void setLenientParseMode(boolean enabled) {
+        checkFrozen();
         lenientParse = enabled;
         if (enabled) {
             // Eagerly initialize the scanner provider so that getLenientScannerProvider()
@@ -1391,6 +1465,7 @@ public boolean lenientParseEnabled() {
      * @stable ICU 4.4
      */
     public void setLenientScannerProvider(RbnfLenientScannerProvider scannerProvider) {
+        checkFrozen();
         this.scannerProvider = scannerProvider;
     }
 
@@ -1438,6 +1513,7 @@ private void initializeLenientScannerProvider() {
      * @stable ICU 2.0
      */
     public void setDefaultRuleSet(String ruleSetName) {
+        checkFrozen();
         if (ruleSetName == null) {
             if (publicRuleSetNames.length > 0) {
                 defaultRuleSet = findRuleSet(publicRuleSetNames[0]);
@@ -1492,6 +1568,7 @@ public String getDefaultRuleSetName() {
      * @stable ICU 49
      */
     public void setDecimalFormatSymbols(DecimalFormatSymbols newSymbols) {
+        checkFrozen();
         if (newSymbols != null) {
             decimalFormatSymbols = newSymbols.clone();
             if (decimalFormat != null) {
@@ -1524,6 +1601,7 @@ public void setDecimalFormatSymbols(DecimalFormatSymbols newSymbols) {
     // lazily initialize relevant items
     @Override
     public void setContext(DisplayContext context) {
+        checkFrozen();
         super.setContext(context);
         if (!capitalizationInfoIsSet
                 && (context == DisplayContext.CAPITALIZATION_FOR_UI_LIST_OR_MENU
@@ -1568,6 +1646,7 @@ public int getRoundingMode() {
      */
     @Override
     public void setRoundingMode(int roundingMode) {
+        checkFrozen();
         if (roundingMode < BigDecimal.ROUND_UP || roundingMode > BigDecimal.ROUND_UNNECESSARY) {
             throw new IllegalArgumentException("Invalid rounding mode: " + roundingMode);
         }
@@ -1575,6 +1654,133 @@ public void setRoundingMode(int roundingMode) {
         this.roundingMode = roundingMode;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @draft ICU 79
+     */
+    @Override
+    public void setMaximumFractionDigits(int newValue) {
+        checkFrozen();
+        super.setMaximumFractionDigits(newValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @draft ICU 79
+     */
+    @Override
+    public void setMinimumFractionDigits(int newValue) {
+        checkFrozen();
+        super.setMinimumFractionDigits(newValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @draft ICU 79
+     */
+    @Override
+    public void setMaximumIntegerDigits(int newValue) {
+        checkFrozen();
+        super.setMaximumIntegerDigits(newValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @draft ICU 79
+     */
+    @Override
+    public void setMinimumIntegerDigits(int newValue) {
+        checkFrozen();
+        super.setMinimumIntegerDigits(newValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @draft ICU 79
+     */
+    @Override
+    public void setGroupingUsed(boolean newValue) {
+        checkFrozen();
+        super.setGroupingUsed(newValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @draft ICU 79
+     */
+    @Override
+    public void setParseIntegerOnly(boolean value) {
+        checkFrozen();
+        super.setParseIntegerOnly(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @draft ICU 79
+     */
+    @Override
+    public void setParseStrict(boolean value) {
+        checkFrozen();
+        super.setParseStrict(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @draft ICU 79
+     */
+    @Override
+    public void setCurrency(Currency theCurrency) {
+        checkFrozen();
+        super.setCurrency(theCurrency);
+    }
+
+    /**
+     * {@inheritDoc} The rules do not use the currency, so this formats the number without setting
+     * the currency, which also works for a frozen formatter.
+     *
+     * @draft ICU 79
+     */
+    @Override
+    public StringBuffer format(CurrencyAmount currAmt, StringBuffer toAppendTo, FieldPosition pos) {
+        return format(currAmt.getNumber(), toAppendTo, pos);
+    }
+
+    /**
+     * {@icu} Turns the format cache on and off. When it is on, each rule set remembers the text it
+     * produces for the numbers from 0 to 999, and reuses it whenever such a number is formatted
+     * again, on its own or as a part of a larger number. For example, a spellout formatter then
+     * builds "one hundred twenty-three thousand four hundred fifty-six" from the cached texts of
+     * 123 and 456. The cache takes memory for each rule set, so it is off by default.
+     *
+     * @param enabled true to turn the cache on, false to turn it off and drop the cached texts.
+     * @draft ICU 79
+     */
+    public void setFormatCacheEnabled(boolean enabled) {
+        checkFrozen();
+        formatCacheEnabled = enabled;
+        for (NFRuleSet ruleSet : ruleSets) {
+            ruleSet.setFormatCacheEnabled(enabled);
+        }
+    }
+
+    /**
+     * {@icu} Returns true if the format cache is on.
+     *
+     * @see #setFormatCacheEnabled
+     * @draft ICU 79
+     */
+    public boolean isFormatCacheEnabled() {
+        return formatCacheEnabled;
+    }
+
     // -----------------------------------------------------------------------
     // package-internal API
     // -----------------------------------------------------------------------
@@ -2032,6 +2238,14 @@ private String format(long number, NFRuleSet ruleSet) {
 
     /** Post-process the rules if we have a post-processor. */
     private void postProcess(StringBuilder result, NFRuleSet ruleSet) {
+        initPostProcessor();
+        if (postProcessor != null) {
+            postProcessor.process(result, ruleSet);
+        }
+    }
+
+    /** Creates the post-processor from the postProcessRules, if there are any. */
+    private void initPostProcessor() {
         if (postProcessRules != null) {
             if (postProcessor == null) {
                 int ix = postProcessRules.indexOf(";");
@@ -2055,11 +2269,8 @@ private void postProcess(StringBuilder result, NFRuleSet ruleSet) {
                                         + e.getMessage());
                     postProcessor = null;
                     postProcessRules = null; // don't try again
-                    return;
                 }
             }
-
-            postProcessor.process(result, ruleSet);
         }
     }
 
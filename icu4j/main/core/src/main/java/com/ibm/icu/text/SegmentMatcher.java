@@ -0,0 +1,36 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: http://www.unicode.org/copyright.html
+package com.ibm.icu.text;
+
+/**
+ * A UnicodeMatcher of transliteration rules that records the offsets of segment matches, or that
+ * contains matchers that do. The offsets are not kept in the matchers, because the rules are
+ * shared by threads: the caller allocates them for each transliteration and passes them down.
+ */
+interface SegmentMatcher extends UnicodeMatcher {
+
+    /**
+     * Same as {@link #matches(Replaceable, int[], int, boolean)}, recording the segment matches.
+     * Segment n (1-based) has its start at segmentMatches[2n-2] and its limit at
+     * segmentMatches[2n-1], or -1 if it has not matched.
+     *
+     * @param segmentMatches the segment match offsets of the current match, or null to not record
+     *     them
+     */
+    int matches(
+            Replaceable text, int[] offset, int limit, boolean incremental, int[] segmentMatches);
+
+    /** Calls the matcher, passing the segment match offsets if it is a SegmentMatcher. */
+    static int matches(
+            UnicodeMatcher matcher,
+            Replaceable text,
+            int[] offset,
+            int limit,
+            boolean incremental,
+            int[] segmentMatches) {
+        return matcher instanceof SegmentMatcher
+                ? ((SegmentMatcher) matcher)
+                        .matches(text, offset, limit, incremental, segmentMatches)
+                : matcher.matches(text, offset, limit, incremental);
+    }
+}
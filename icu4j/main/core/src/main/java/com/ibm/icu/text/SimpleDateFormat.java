@@ -11,6 +11,7 @@
 
 import com.ibm.icu.impl.DateNumberFormat;
 import com.ibm.icu.impl.DayPeriodRules;
+import com.ibm.icu.impl.Grego;
 import com.ibm.icu.impl.ICUCache;
 import com.ibm.icu.impl.ICUData;
 import com.ibm.icu.impl.ICUResourceBundle;
@@ -24,6 +25,7 @@
 import com.ibm.icu.util.BasicTimeZone;
 import com.ibm.icu.util.BasicTimeZone.LocalOption;
 import com.ibm.icu.util.Calendar;
+import com.ibm.icu.util.GregorianCalendar;
 import com.ibm.icu.util.HebrewCalendar;
 import com.ibm.icu.util.Output;
 import com.ibm.icu.util.TimeZone;
@@ -722,6 +724,12 @@ private static boolean isSyntaxChar(char ch) {
      */
     private transient boolean hasHanYearChar;
 
+    /**
+     * The fields of the GregorianCalendar being formatted, computed without the calendar. Created
+     * when first needed; not shared with clones.
+     */
+    private transient GregorianFields gregorianFields;
+
     /*
      *  Capitalization setting, introduced in ICU 50
      *  Special serialization, see writeObject & readObject below
@@ -1209,6 +1217,142 @@ private StringBuffer format(
             StringBuffer toAppendTo,
             FieldPosition pos,
             List<FieldPosition> attributes) {
+        GregorianFields fields = null;
+        if (GregorianFields.canCompute(cal)) {
+            if (gregorianFields == null) {
+                gregorianFields = new GregorianFields();
+            }
+            fields = gregorianFields;
+            fields.setCalendar(cal);
+        }
+        try {
+            return formatItems(cal, capitalizationContext, toAppendTo, pos, attributes);
+        } finally {
+            if (fields != null) {
+                fields.setCalendar(null);
+            }
+        }
+    }
+
+    /* Returns cal.get(field), computed without the calendar if possible. */
+    private int getField(Calendar cal, int field) {
+        GregorianFields fields = gregorianFields;
+        if (fields != null && fields.calendar == cal) {
+            return fields.get(field);
+        }
+        return cal.get(field);
+    }
+
+    /**
+     * The fields of a plain GregorianCalendar, computed from its time with Grego for formatting.
+     * Calendar.computeFields() computes all fields and their stamps for each time. This computes
+     * only the zone offsets and the time of day for each time, and the date fields only when the
+     * pattern asks for one of them, and only once per day, so that formatting consecutive
+     * timestamps, like in a log, does not compute the same date again. Fields that are not
+     * computed here, like the week fields, are taken from the calendar.
+     */
+    private static final class GregorianFields {
+        // Times before the Gregorian cutover, or less than this after it, are left to the
+        // calendar, so that no zone offset can move them across it.
+        private static final long CUTOVER_MARGIN = 2L * Grego.MILLIS_PER_DAY;
+
+        // Same as Calendar.EPOCH_JULIAN_DAY.
+        private static final int EPOCH_JULIAN_DAY = 2440588;
+
+        /* The calendar being formatted, or null. */
+        Calendar calendar;
+
+        private final int[] offsets = new int[2];
+        private long day;
+        private int millisInDay;
+
+        // The date fields of dateDay, as from Grego.dayToFields().
+        private final int[] date = new int[5];
+        private long dateDay = Long.MIN_VALUE;
+
+        static boolean canCompute(Calendar cal) {
+            // Subclasses may compute their fields differently.
+            return cal.getClass() == GregorianCalendar.class
+                    && cal.getTimeInMillis()
+                            >= ((GregorianCalendar) cal).getGregorianChange().getTime()
+                                    + CUTOVER_MARGIN;
+        }
+
+        void setCalendar(Calendar cal) {
+            calendar = cal;
+            if (cal != null) {
+                long time = cal.getTimeInMillis();
+                cal.getTimeZone().getOffset(time, false, offsets);
+                long localMillis = time + offsets[0] + offsets[1];
+                day = Grego.floorDivide(localMillis, Grego.MILLIS_PER_DAY);
+                millisInDay = (int) (localMillis - day * Grego.MILLIS_PER_DAY);
+            }
+        }
+
+        /* Same as calendar.get(field), for the current time of the calendar. */
+        int get(int field) {
+            switch (field) {
+                case Calendar.ERA:
+                    return date()[0] < 1 ? GregorianCalendar.BC : GregorianCalendar.AD;
+                case Calendar.YEAR:
+                    int eyear = date()[0];
+                    return eyear < 1 ? 1 - eyear : eyear;
+                case Calendar.EXTENDED_YEAR:
+                    return date()[0];
+                case Calendar.MONTH:
+                case Calendar.ORDINAL_MONTH:
+                    return date()[1];
+                case Calendar.DATE:
+                    return date()[2];
+                case Calendar.DAY_OF_WEEK:
+                    return date()[3];
+                case Calendar.DAY_OF_YEAR:
+                    return date()[4];
+                case Calendar.DAY_OF_WEEK_IN_MONTH:
+                    return (date()[2] - 1) / 7 + 1;
+                case Calendar.DOW_LOCAL:
+                    int dowLocal = date()[3] - calendar.getFirstDayOfWeek() + 1;
+                    return dowLocal < 1 ? dowLocal + 7 : dowLocal;
+                case Calendar.JULIAN_DAY:
+                    return (int) day + EPOCH_JULIAN_DAY;
+                case Calendar.MILLISECONDS_IN_DAY:
+                    return millisInDay;
+                case Calendar.MILLISECOND:
+                    return millisInDay % 1000;
+                case Calendar.SECOND:
+                    return millisInDay / 1000 % 60;
+                case Calendar.MINUTE:
+                    return millisInDay / Grego.MILLIS_PER_MINUTE % 60;
+                case Calendar.HOUR_OF_DAY:
+                    return millisInDay / Grego.MILLIS_PER_HOUR;
+                case Calendar.HOUR:
+                    return millisInDay / Grego.MILLIS_PER_HOUR % 12;
+                case Calendar.AM_PM:
+                    return millisInDay / Grego.MILLIS_PER_HOUR / 12;
+                case Calendar.ZONE_OFFSET:
+                    return offsets[0];
+                case Calendar.DST_OFFSET:
+                    return offsets[1];
+                default:
+                    return calendar.get(field);
+            }
+        }
+
+        private int[] date() {
+            if (dateDay != day) {
+                Grego.dayToFields(day, date);
+                dateDay = day;
+            }
+            return date;
+        }
+    }
+
+    private StringBuffer formatItems(
+            Calendar cal,
+            DisplayContext capitalizationContext,
+            StringBuffer toAppendTo,
+            FieldPosition pos,
+            List<FieldPosition> attributes) {
         // Initialize
         pos.setBeginIndex(0);
         pos.setEndIndex(0);
@@ -1534,7 +1678,7 @@ protected void subFormat(
         if (field >= 0) {
             value =
                     (patternCharIndex != DateFormat.RELATED_YEAR)
-                            ? cal.get(field)
+                            ? getField(cal, field)
                             : cal.getRelatedYear();
         }
 
@@ -1744,7 +1888,7 @@ protected void subFormat(
                 }
                 // For alpha day-of-week, we don't want DOW_LOCAL,
                 // we need the standard DAY_OF_WEEK.
-                value = cal.get(Calendar.DAY_OF_WEEK);
+                value = getField(cal, Calendar.DAY_OF_WEEK);
             // fall through, do not break here
             case 9: // 'E' - DAY_OF_WEEK
                 if (count == 5) {
@@ -1898,7 +2042,7 @@ protected void subFormat(
                 }
                 // For alpha day-of-week, we don't want DOW_LOCAL,
                 // we need the standard DAY_OF_WEEK.
-                value = cal.get(Calendar.DAY_OF_WEEK);
+                value = getField(cal, Calendar.DAY_OF_WEEK);
                 if (count == 5) {
                     safeAppend(formatData.standaloneNarrowWeekdays, value, buf);
                     capContextUsageType = DateFormatSymbols.CapitalizationContextUsage.DAY_NARROW;
@@ -1946,7 +2090,7 @@ protected void subFormat(
                     // or end of day.
                     // For ICU 57 output of "midnight" is temporarily suppressed.
 
-                    int hour = cal.get(Calendar.HOUR_OF_DAY);
+                    int hour = getField(cal, Calendar.HOUR_OF_DAY);
                     String toAppend = null;
 
                     // For "midnight" and "noon":
@@ -1954,12 +2098,12 @@ protected void subFormat(
                     // This means minutes and seconds, if present, must be zero.
                     if ((
                             /*hour == 0 ||*/ hour == 12)
-                            && (!hasMinute || cal.get(Calendar.MINUTE) == 0)
-                            && (!hasSecond || cal.get(Calendar.SECOND) == 0)) {
+                            && (!hasMinute || getField(cal, Calendar.MINUTE) == 0)
+                            && (!hasSecond || getField(cal, Calendar.SECOND) == 0)) {
                         // Stealing am/pm value to use as our array index.
                         // It works out: am/midnight are both 0, pm/noon are both 1,
                         // 12 am is 12 midnight, and 12 pm is 12 noon.
-                        value = cal.get(Calendar.AM_PM);
+                        value = getField(cal, Calendar.AM_PM);
 
                         if (count <= 3) {
                             toAppend = formatData.abbreviatedDayPeriods[value];
@@ -2001,14 +2145,14 @@ protected void subFormat(
                     DayPeriodRules ruleSet = DayPeriodRules.getInstance(getLocale());
 
                     // Get current display time.
-                    int hour = cal.get(Calendar.HOUR_OF_DAY);
+                    int hour = getField(cal, Calendar.HOUR_OF_DAY);
                     int minute = 0;
                     int second = 0;
                     if (hasMinute) {
-                        minute = cal.get(Calendar.MINUTE);
+                        minute = getField(cal, Calendar.MINUTE);
                     }
                     if (hasSecond) {
-                        second = cal.get(Calendar.SECOND);
+                        second = getField(cal, Calendar.SECOND);
                     }
 
                     // Determine day period.
@@ -4576,6 +4720,7 @@ public void setTimeZoneFormat(TimeZoneFormat tzfmt) {
     public SimpleDateFormat clone() {
         SimpleDateFormat other = (SimpleDateFormat) super.clone();
         other.formatData = formatData.clone();
+        other.gregorianFields = null;
         // We must create a new copy of work buffer used by
         // the fast numeric field format code.
         if (this.decimalBuf != null) {
@@ -10,6 +10,8 @@
 
 import com.ibm.icu.text.UnicodeSet.SpanCondition;
 import com.ibm.icu.util.OutputInt;
+import java.io.IOException;
+import java.nio.CharBuffer;
 
 /**
  * A helper class used to count, replace, and trim CharSequences based on UnicodeSet matches. An
@@ -312,6 +314,165 @@ public String replaceFrom(
         return result.toString();
     }
 
+    /**
+     * Delete all matching spans in the text read from source, according to the spanCondition, and
+     * append the remaining text to destination. Same as {@link #deleteFrom(CharSequence,
+     * SpanCondition)} but the text is processed chunk by chunk, so it need not be in memory all at
+     * once.
+     *
+     * @param source the text to process, for example a {@link java.io.Reader} or a {@link
+     *     CharBuffer}
+     * @param destination receives the modified text, for example a {@link java.io.Writer} or a
+     *     {@link StringBuilder}
+     * @param spanCondition specify whether to modify the matching spans (CONTAINED or SIMPLE) or
+     *     the non-matching (NOT_CONTAINED)
+     * @throws IOException if reading from source or appending to destination fails
+     * @draft ICU 79
+     */
+    public void deleteFrom(Readable source, Appendable destination, SpanCondition spanCondition)
+            throws IOException {
+        replaceFrom(source, destination, "", CountMethod.WHOLE_SPAN, spanCondition);
+    }
+
+    /**
+     * Replace all matching spans in the text read from source by replacement, according to the
+     * countMethod and spanCondition, and append the result to destination. Same as {@link
+     * #replaceFrom(CharSequence, CharSequence, CountMethod, SpanCondition)} but the text is
+     * processed chunk by chunk, so it need not be in memory all at once.
+     *
+     * <p>Text that is not modified is appended as soon as it is known not to be part of a matching
+     * span. The memory used is proportional to the chunk size, except that a matching span for a
+     * UnicodeSet with strings and SIMPLE or CONTAINED is buffered until its end is found.
+     *
+     * @param source the text to process, for example a {@link java.io.Reader} or a {@link
+     *     CharBuffer}
+     * @param destination receives the modified text, for example a {@link java.io.Writer} or a
+     *     {@link StringBuilder}
+     * @param replacement replacement sequence. To delete, use ""
+     * @param countMethod whether to treat an entire span as a match, or individual elements as
+     *     matches
+     * @param spanCondition specify whether to modify the matching spans (CONTAINED or SIMPLE) or
+     *     the non-matching (NOT_CONTAINED)
+     * @throws IOException if reading from source or appending to destination fails
+     * @draft ICU 79
+     */
+    // OutputInt and spanAndCount() are ICU internal API, deprecated only to keep them out of the
+    // public API; the in-memory countIn() and replaceFrom() count elements the same way.
+    @SuppressWarnings("deprecation")
+    public void replaceFrom(
+            Readable source,
+            Appendable destination,
+            CharSequence replacement,
+            CountMethod countMethod,
+            SpanCondition spanCondition)
+            throws IOException {
+        SpanCondition copySpan =
+                spanCondition == SpanCondition.NOT_CONTAINED
+                        ? SpanCondition.SIMPLE
+                        : SpanCondition.NOT_CONTAINED;
+        final boolean remove = replacement.length() == 0;
+        // A span that reaches the end of the buffered text may continue in the next chunk.
+        // Code point spans and NOT_CONTAINED spans can be split, except for the last
+        // (maxStringLength - 1) units where a string element may begin.
+        // Other spans over strings must be buffered completely.
+        int maxStringLength = 1;
+        for (String string : unicodeSet.strings()) {
+            maxStringLength = Math.max(maxStringLength, string.length());
+        }
+        final int keepLength = maxStringLength - 1;
+        final boolean modifySpanSplittable =
+                keepLength == 0 || spanCondition == SpanCondition.NOT_CONTAINED;
+        final boolean copySpanSplittable =
+                keepLength == 0 || copySpan == SpanCondition.NOT_CONTAINED;
+
+        char[] buffer = new char[Math.max(STREAM_CHUNK_SIZE, 2 * maxStringLength)];
+        int start = 0;
+        int limit = 0;
+        boolean eof = false;
+        boolean modifying = true;
+        boolean continuing = false; // true if part of the current span was already processed
+        OutputInt spanCount = new OutputInt();
+        for (; ; ) {
+            if (start == limit) {
+                start = limit = 0;
+            } else if (start > 0) {
+                System.arraycopy(buffer, start, buffer, 0, limit - start);
+                limit -= start;
+                start = 0;
+            }
+            if (limit == buffer.length) {
+                // The current span is not splittable and fills the buffer.
+                char[] newBuffer = new char[2 * buffer.length];
+                System.arraycopy(buffer, 0, newBuffer, 0, limit);
+                buffer = newBuffer;
+            }
+            int count = source.read(CharBuffer.wrap(buffer, limit, buffer.length - limit));
+            if (count < 0) {
+                eof = true;
+            } else {
+                limit += count;
+            }
+            // Do not split a surrogate pair across chunks.
+            int textLimit = limit;
+            if (!eof && textLimit > start && Character.isHighSurrogate(buffer[textLimit - 1])) {
+                --textLimit;
+            }
+            CharBuffer text = CharBuffer.wrap(buffer, 0, textLimit);
+            while (start < textLimit) {
+                boolean splittable = modifying ? modifySpanSplittable : copySpanSplittable;
+                int end;
+                if (modifying && countMethod == CountMethod.MIN_ELEMENTS) {
+                    end = unicodeSet.spanAndCount(text, start, spanCondition, spanCount);
+                } else {
+                    end = unicodeSet.span(text, start, modifying ? spanCondition : copySpan);
+                }
+                // The span end is final if no string element can begin at or before it
+                // and extend beyond the buffered text.
+                boolean spanEnded = eof || end < textLimit - keepLength;
+                if (!spanEnded) {
+                    // Process only the part of the span that cannot change with more text.
+                    end = splittable ? textLimit - keepLength : start;
+                    if (start < end && end < textLimit && Character.isLowSurrogate(buffer[end])) {
+                        --end;
+                    }
+                    if (end <= start) {
+                        break;
+                    }
+                    if (modifying && countMethod == CountMethod.MIN_ELEMENTS) {
+                        unicodeSet.spanAndCount(
+                                CharBuffer.wrap(buffer, 0, end), start, spanCondition, spanCount);
+                    }
+                }
+                if (!modifying) {
+                    destination.append(text, start, end);
+                } else if (remove) {
+                    // do nothing
+                } else if (countMethod == CountMethod.WHOLE_SPAN) {
+                    if (!continuing && end > start) {
+                        destination.append(replacement);
+                    }
+                } else {
+                    for (int i = spanCount.value; i > 0; --i) {
+                        destination.append(replacement);
+                    }
+                }
+                start = end;
+                if (!spanEnded) {
+                    continuing = true;
+                    break;
+                }
+                continuing = false;
+                modifying = !modifying;
+            }
+            if (eof) {
+                return;
+            }
+        }
+    }
+
+    /** Number of chars read from a Readable at a time by the streaming methods. */
+    private static final int STREAM_CHUNK_SIZE = 4096;
+
     /**
      * Options for the trim() method
      *
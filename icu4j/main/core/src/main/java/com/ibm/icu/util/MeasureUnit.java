@@ -53,6 +53,13 @@ public class MeasureUnit implements Serializable {
     private static boolean cacheIsLoading = false;
     private static final Object MEASURE_UNIT_LOCK = new Object();
 
+    // Cache of the units returned by forIdentifier(), keyed by both the given and the canonical
+    // identifier, so that equivalent identifiers return the same object. It is cleared when it
+    // reaches IDENTIFIER_CACHE_LIMIT entries, so that identifiers from untrusted input cannot fill
+    // the memory.
+    private static final int IDENTIFIER_CACHE_LIMIT = 1000;
+    private static final Map<String, MeasureUnit> identifierCache = new ConcurrentHashMap<>();
+
     /**
      * If type set to null, measureUnitImpl is in use instead of type and subType.
      *
@@ -413,6 +420,9 @@ protected MeasureUnit(String type, String subType) {
      *
      * <p>Note: A dimensionless <code>MeasureUnit</code> is represented as <code>null</code>.
      *
+     * <p>Recently used identifiers are cached, so repeated calls with the same identifier usually
+     * return the same object without parsing it again.
+     *
      * <p>Example usage:
      *
      * <pre>
@@ -429,7 +439,23 @@ public static MeasureUnit forIdentifier(String identifier) {
             return NoUnit.BASE;
         }
 
-        return MeasureUnitImpl.forIdentifier(identifier).build();
+        MeasureUnit result = identifierCache.get(identifier);
+        if (result != null) {
+            return result;
+        }
+        result = MeasureUnitImpl.forIdentifier(identifier).build();
+        if (identifierCache.size() >= IDENTIFIER_CACHE_LIMIT) {
+            identifierCache.clear();
+        }
+        String canonicalIdentifier = result.getIdentifier();
+        if (canonicalIdentifier != null) {
+            MeasureUnit canonical = identifierCache.putIfAbsent(canonicalIdentifier, result);
+            if (canonical != null) {
+                result = canonical;
+            }
+        }
+        identifierCache.putIfAbsent(identifier, result);
+        return result;
     }
 
     /**
@@ -751,7 +777,8 @@ public List<MeasureUnit> splitToSingleUnits() {
      */
     @Override
     public int hashCode() {
-        return 31 * type.hashCode() + subType.hashCode();
+        // Consistent with equals(), and also works for units that have no type.
+        return getIdentifier().hashCode();
     }
 
     /**
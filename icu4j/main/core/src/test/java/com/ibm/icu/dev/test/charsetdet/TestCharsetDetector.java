@@ -12,6 +12,7 @@
 import com.ibm.icu.dev.test.TestUtil;
 import com.ibm.icu.dev.test.TestUtil.JavaVendor;
 import com.ibm.icu.impl.Utility;
+import com.ibm.icu.text.CharsetBatchDetector;
 import com.ibm.icu.text.CharsetDetector;
 import com.ibm.icu.text.CharsetMatch;
 import java.io.ByteArrayInputStream;
@@ -19,7 +20,11 @@
 import java.io.InputStream;
 import java.io.Reader;
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import javax.xml.parsers.DocumentBuilder;
@@ -979,6 +984,147 @@ public void TestReusingDetector() throws Exception {
                 match2a.getName());
     }
 
+    @Test
+    public void TestDetectIsBestOfDetectAll() throws Exception {
+        // detect() skips recognizers that cannot win, and the single byte recognizers
+        // share their n-gram statistics; the result must still be the first of detectAll().
+        String[] texts = {
+            "The quick brown fox jumps over the lazy dog, and then it runs away. ",
+            "Der Fuchs springt \u00fcber den faulen Hund, und dann l\u00e4uft er weg. ",
+            "\u0411\u044b\u0441\u0442\u0440\u0430\u044f \u043b\u0438\u0441\u0430"
+                    + " \u043f\u0440\u044b\u0433\u0430\u0435\u0442 \u0447\u0435\u0440\u0435\u0437"
+                    + " \u0441\u043e\u0431\u0430\u043a\u0443. ",
+            "\u65e5\u672c\u8a9e\u306e\u30c6\u30ad\u30b9\u30c8\u3067\u3059\u3002",
+        };
+        String[] charsets = {
+            "UTF-8", "UTF-16LE", "ISO-8859-1", "windows-1251", "KOI8-R", "Shift_JIS", "EUC-JP"
+        };
+        CharsetDetector detector = new CharsetDetector();
+        for (String text : texts) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 50; ++i) {
+                sb.append(text);
+            }
+            for (String charset : charsets) {
+                if (!Charset.forName(charset).newEncoder().canEncode(sb)) {
+                    continue;
+                }
+                detector.setText(sb.toString().getBytes(charset));
+                CharsetMatch[] all = detector.detectAll();
+                CharsetMatch best = detector.detect();
+                String message = charset + " " + text;
+                assertEquals(message, all[0].getName(), best.getName());
+                assertEquals(message, all[0].getConfidence(), best.getConfidence());
+                assertEquals(message, all[0].getLanguage(), best.getLanguage());
+            }
+        }
+    }
+
+    @Test
+    public void TestIncrementalDetection() throws Exception {
+        CharsetDetector detector = new CharsetDetector();
+
+        // A byte order mark is conclusive right away.
+        byte[] utf16 = "\ufeffSome text in UTF-16".getBytes("UTF-16LE");
+        ByteBuffer in = ByteBuffer.wrap(utf16);
+        in.limit(4);
+        detector.feed(in);
+        assertTrue("conclusive after the BOM", detector.isConclusive());
+        assertEquals("UTF-16 with BOM", "UTF-16LE", detector.currentBest().getName());
+
+        // Plain Latin-1 text is not conclusive until the detector has all that it looks at;
+        // the remaining input is not consumed.
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < 10000) {
+            sb.append("Le renard br\u00fble saute par-dessus le chien paresseux. ");
+        }
+        byte[] latin1 = sb.toString().getBytes("ISO-8859-1");
+        detector.setText(new byte[0]);
+        in = ByteBuffer.wrap(latin1);
+        int chunks = 0;
+        while (!detector.isConclusive()) {
+            in.limit(Math.min(in.position() + 1000, latin1.length));
+            detector.feed(in);
+            ++chunks;
+        }
+        assertEquals("chunks fed", 8, chunks);
+        assertTrue("input left over", in.position() < latin1.length);
+        CharsetMatch best = detector.currentBest();
+
+        CharsetDetector whole = new CharsetDetector();
+        whole.setText(latin1);
+        CharsetMatch expected = whole.detect();
+        assertEquals("fed vs. whole input", expected.getName(), best.getName());
+        assertEquals("fed vs. whole input", expected.getConfidence(), best.getConfidence());
+
+        // A lower threshold stops earlier.
+        detector.setText(new byte[0]).setConclusiveConfidence(expected.getConfidence());
+        detector.feed(ByteBuffer.wrap(latin1, 0, 1000));
+        assertTrue("conclusive with a lower threshold", detector.isConclusive());
+
+        // The result is kept until the input or the settings change.
+        CharsetMatch kept = detector.currentBest();
+        assertSame("same input", kept, detector.currentBest());
+        detector.feed(ByteBuffer.wrap(utf16));
+        assertNotSame("more input", kept, detector.currentBest());
+        kept = detector.currentBest();
+        detector.setDeclaredEncoding("ISO-8859-1");
+        assertNotSame("declared encoding", kept, detector.currentBest());
+
+        // An empty first feed() after setText() still starts a new, empty input.
+        detector = new CharsetDetector();
+        detector.setText(utf16);
+        assertEquals("setText", "UTF-16LE", detector.currentBest().getName());
+        detector.feed(ByteBuffer.allocate(0));
+        CharsetMatch empty = new CharsetDetector().setText(new byte[0]).detect();
+        assertEquals("empty feed", empty.getName(), detector.currentBest().getName());
+    }
+
+    @Test
+    public void TestBatchDetection() throws Exception {
+        String[] texts = {
+            "The quick brown fox jumps over the lazy dog. ",
+            "Le renard br\u00fble saute par-dessus le chien paresseux. ",
+            "\u0411\u044b\u0441\u0442\u0440\u0430\u044f \u043b\u0438\u0441\u0430. ",
+            "\u65e5\u672c\u8a9e\u306e\u30c6\u30ad\u30b9\u30c8\u3002",
+        };
+        String[] charsets = {"UTF-8", "UTF-16BE", "windows-1252", "KOI8-R", "Shift_JIS"};
+        List<byte[]> documents = new ArrayList<byte[]>();
+        documents.add(new byte[0]);
+        for (int repeat = 1; repeat < 40; repeat += 3) {
+            for (String text : texts) {
+                StringBuilder sb = new StringBuilder();
+                for (int i = 0; i < repeat; ++i) {
+                    sb.append(text);
+                }
+                for (String charset : charsets) {
+                    if (Charset.forName(charset).newEncoder().canEncode(sb)) {
+                        documents.add(sb.toString().getBytes(charset));
+                    }
+                }
+            }
+        }
+
+        CharsetBatchDetector batch = new CharsetBatchDetector();
+        int[] results = batch.detectAll(documents);
+        assertEquals("number of results", documents.size(), results.length);
+        for (int i = 0; i < results.length; ++i) {
+            CharsetMatch expected = new CharsetDetector().setText(documents.get(i)).detect();
+            String message = "document " + i;
+            if (expected == null) {
+                assertEquals(message, CharsetBatchDetector.NO_MATCH, results[i]);
+                continue;
+            }
+            assertEquals(
+                    message, expected.getName(), CharsetBatchDetector.getCharsetName(results[i]));
+            assertEquals(
+                    message,
+                    expected.getConfidence(),
+                    CharsetBatchDetector.getConfidence(results[i]));
+            assertEquals(message, results[i], batch.detect(documents.get(i)));
+        }
+    }
+
     private static byte[] createData1() {
         return bytesFromString(
                 "3B 3B 3B 20 2D 2A 2D 20 4D 6F 64 65 3A 20 4C 49 53 50 3B 20 53 79 6E 74 61 78 "
@@ -0,0 +1,242 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: http://www.unicode.org/copyright.html
+package com.ibm.icu.dev.test.format;
+
+import com.ibm.icu.dev.test.CoreTestFmwk;
+import com.ibm.icu.text.CompiledDateFormatter;
+import com.ibm.icu.text.SimpleDateFormat;
+import com.ibm.icu.util.GregorianCalendar;
+import com.ibm.icu.util.TimeZone;
+import com.ibm.icu.util.ULocale;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class CompiledDateFormatterTest extends CoreTestFmwk {
+
+    private static final String[] PATTERNS = {
+        "yyyy-MM-dd'T'HH:mm:ss.SSSXXX",
+        "G GGGG GGGGG y yy yyy yyyyy",
+        "M MM MMM MMMM MMMMM L LL LLL LLLL LLLLL",
+        "d dd D DDD F g A",
+        "E EEEE EEEEE EEEEEE e ee eee eeee eeeee eeeeee",
+        "c cc ccc cccc ccccc cccccc",
+        "Q QQ QQQ QQQQ QQQQQ q qq qqq qqqq qqqqq",
+        "Y YY YYYY-'W'ww-e w W",
+        "u uuuu r U",
+        "H HH k kk K KK h hh m mm s ss",
+        "S SS SSS SSSS SSSSSS",
+        "h:mm a aaaa aaaaa",
+        "h:mm b bbbb bbbbb",
+        "h B BBBB BBBBB",
+        "h:mm:ss B",
+        "z zzzz Z ZZZZ ZZZZZ",
+        "v vvvv V VV VVV VVVV O OOOO",
+        "X XX XXX XXXX XXXXX x xx xxx xxxx xxxxx",
+        "'o''clock' '' h 'at' 'yyyy'",
+        "EEEE, MMMM d, y 'at' h:mm:ss a zzzz",
+    };
+
+    private static final String[] LOCALES = {
+        "en", "de", "fr", "ja", "ar", "fa", "hi", "th-u-nu-thai", "en-GB", "zh-Hant",
+    };
+
+    private static final String[] ZONES = {
+        "America/Los_Angeles", "Europe/Berlin", "Asia/Kolkata", "Etc/GMT", "Australia/Lord_Howe",
+    };
+
+    /* Returns a SimpleDateFormat in the proleptic Gregorian calendar. */
+    private static SimpleDateFormat gregorianFormat(String pattern, ULocale locale, TimeZone zone) {
+        ULocale gregorian = locale.setKeywordValue("calendar", "gregorian");
+        SimpleDateFormat sdf = new SimpleDateFormat(pattern, gregorian);
+        GregorianCalendar cal = new GregorianCalendar(zone, gregorian);
+        cal.setGregorianChange(new Date(Long.MIN_VALUE));
+        sdf.setCalendar(cal);
+        return sdf;
+    }
+
+    private static long[] testTimes() {
+        Random random = new Random(4711);
+        long[] times = new long[60];
+        times[0] = 0;
+        times[1] = -1;
+        times[2] = 951782400000L; // 2000-02-29
+        times[3] = 1735603200000L; // 2024-12-31
+        times[4] = 1735689600000L; // 2025-01-01
+        times[5] = -62135596800000L; // 0001-01-01
+        times[6] = -62135596800001L;
+        times[7] = 1700049600000L; // 12:00 UTC
+        for (int i = 8; i < times.length; i++) {
+            // Years -1000 to 3000.
+            times[i] = -93692592000000L + (long) (random.nextDouble() * 126230400000000L);
+        }
+        return times;
+    }
+
+    @Test
+    public void TestMatchesSimpleDateFormat() {
+        long[] times = testTimes();
+        for (String localeId : LOCALES) {
+            ULocale locale = ULocale.forLanguageTag(localeId);
+            for (String zoneId : ZONES) {
+                TimeZone zone = TimeZone.getTimeZone(zoneId);
+                for (String pattern : PATTERNS) {
+                    SimpleDateFormat sdf = gregorianFormat(pattern, locale, zone);
+                    CompiledDateFormatter formatter =
+                            CompiledDateFormatter.forPattern(pattern, locale).withTimeZone(zone);
+                    for (long time : times) {
+                        String expected = sdf.format(new Date(time));
+                        String actual = formatter.format(time);
+                        if (!expected.equals(actual)) {
+                            errln(
+                                    localeId
+                                            + " "
+                                            + zoneId
+                                            + " \""
+                                            + pattern
+                                            + "\" "
+                                            + time
+                                            + ": expected \""
+                                            + expected
+                                            + "\", got \""
+                                            + actual
+                                            + '"');
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void TestSkeleton() {
+        ULocale locale = ULocale.GERMANY;
+        TimeZone zone = TimeZone.getTimeZone("Europe/Berlin");
+        CompiledDateFormatter formatter =
+                CompiledDateFormatter.forSkeleton("yMMMMdjmm", locale).withTimeZone(zone);
+        assertEquals("pattern", "d. MMMM y 'um' HH:mm", formatter.getPattern());
+        assertEquals("format", "29. Februar 2000 um 01:00", formatter.format(951782400000L));
+        assertEquals("locale", locale, formatter.getLocale());
+        assertEquals("zone", "Europe/Berlin", formatter.getTimeZone().getID());
+        assertTrue("frozen zone", formatter.getTimeZone().isFrozen());
+    }
+
+    @Test
+    public void TestTemporal() {
+        CompiledDateFormatter formatter =
+                CompiledDateFormatter.forPattern("yyyy-MM-dd HH:mm:ss.SSS zzzz", ULocale.US)
+                        .withTimeZone(TimeZone.getTimeZone("America/New_York"));
+        long time = 1700049600123L;
+
+        assertEquals(
+                "Instant", formatter.format(time), formatter.format(Instant.ofEpochMilli(time)));
+
+        ZonedDateTime zoned = Instant.ofEpochMilli(time).atZone(ZoneId.of("Europe/Paris"));
+        assertEquals(
+                "ZonedDateTime",
+                formatter.withTimeZone(TimeZone.getTimeZone("Europe/Paris")).format(time),
+                formatter.format(zoned));
+
+        OffsetDateTime offset = Instant.ofEpochMilli(time).atOffset(ZoneOffset.ofHours(5));
+        assertEquals(
+                "OffsetDateTime",
+                "2023-11-15 17:00:00.123 GMT+05:00",
+                formatter.format(offset));
+
+        LocalDateTime local = LocalDateTime.of(2023, 7, 4, 9, 30, 15, 250000000);
+        assertEquals(
+                "LocalDateTime",
+                "2023-07-04 09:30:15.250 Eastern Daylight Time",
+                formatter.format(local));
+
+        CompiledDateFormatter dateOnly =
+                CompiledDateFormatter.forPattern("EEEE d MMM y", ULocale.UK);
+        assertEquals(
+                "LocalDate", "Tuesday 4 Jul 2023", dateOnly.format(LocalDate.of(2023, 7, 4)));
+
+        try {
+            dateOnly.format(LocalTime.NOON);
+            fail("LocalTime has no date fields");
+        } catch (UnsupportedTemporalTypeException expected) {
+            // expected
+        }
+
+        StringBuilder sb = new StringBuilder("Date: ");
+        assertEquals(
+                "formatTo",
+                "Date: Tuesday 4 Jul 2023",
+                dateOnly.formatTo(LocalDate.of(2023, 7, 4), sb).toString());
+        StringBuffer buffer = new StringBuffer("Date: ");
+        assertEquals(
+                "formatTo Appendable",
+                "Date: Tuesday 4 Jul 2023",
+                dateOnly.formatTo(LocalDate.of(2023, 7, 4), buffer).toString());
+    }
+
+    @Test
+    public void TestInvalidPatterns() {
+        String[] patterns = {"yyyy-jj", "vv", "VVVVV", "OO", "XXXXXX", "xxxxxx", "T"};
+        for (String pattern : patterns) {
+            try {
+                CompiledDateFormatter.forPattern(pattern, ULocale.ENGLISH);
+                errln("Expected an exception for \"" + pattern + '"');
+            } catch (IllegalArgumentException expected) {
+                // expected
+            }
+        }
+        try {
+            CompiledDateFormatter.forPattern("y", new ULocale("he@numbers=hebr"));
+            errln("Expected an exception for an algorithmic numbering system");
+        } catch (IllegalArgumentException expected) {
+            // expected
+        }
+    }
+
+    @Test
+    public void TestThreadSafety() throws InterruptedException {
+        final CompiledDateFormatter formatter =
+                CompiledDateFormatter.forPattern("EEEE, d MMMM y HH:mm:ss zzzz", ULocale.FRANCE)
+                        .withTimeZone(TimeZone.getTimeZone("Europe/Paris"));
+        final long[] times = testTimes();
+        final String[] expected = new String[times.length];
+        for (int i = 0; i < times.length; i++) {
+            expected[i] = formatter.format(times[i]);
+        }
+        final AtomicReference<String> failure = new AtomicReference<>();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final int offset = t;
+            threads[t] =
+                    new Thread(
+                            () -> {
+                                StringBuilder sb = new StringBuilder();
+                                for (int n = 0; n < 200; n++) {
+                                    int i = (n + offset) % times.length;
+                                    sb.setLength(0);
+                                    formatter.formatTo(times[i], sb);
+                                    if (!expected[i].equals(sb.toString())) {
+                                        failure.set(expected[i] + " != " + sb);
+                                    }
+                                }
+                            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull("concurrent formatting", failure.get());
+    }
+}
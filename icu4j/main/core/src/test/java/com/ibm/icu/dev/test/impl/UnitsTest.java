@@ -661,6 +661,80 @@ class TestData {
                     test.input.doubleValue(),
                     converter2.convertInverse(test.expected).doubleValue(),
                     inverseMaxDelta);
+
+            // Test the double precision and batch conversions of a cached UnitsConverter
+            UnitsConverter cached = UnitsConverter.getInstance(source, target);
+            assertTrue(
+                    "testConverter cached: " + test.sourceIdentifier,
+                    cached
+                            == UnitsConverter.getInstance(
+                                    MeasureUnitImpl.forIdentifier(test.sourceIdentifier),
+                                    MeasureUnitImpl.forIdentifier(test.targetIdentifier)));
+            assertEquals(
+                    "testConverter double: " + test.sourceIdentifier + " to "
+                            + test.targetIdentifier,
+                    test.expected.doubleValue(),
+                    cached.convert(test.input.doubleValue()),
+                    maxDelta);
+            double[] values = {test.input.doubleValue(), 0, -test.input.doubleValue()};
+            double[] results = new double[values.length];
+            cached.convert(values, results);
+            for (int i = 0; i < values.length; i++) {
+                assertEquals(
+                        "testConverter batch: " + test.sourceIdentifier + " to "
+                                + test.targetIdentifier + " " + values[i],
+                        converter.convert(BigDecimal.valueOf(values[i])).doubleValue(),
+                        results[i],
+                        maxDelta);
+            }
+        }
+    }
+
+    @Test
+    public void testComplexUnitsConverterBatch() {
+        String[][] tests = {
+            {"meter", "foot-and-inch"},
+            {"meter", "inch-and-foot"},
+            {"kilogram", "stone-and-pound-and-ounce"},
+            {"second", "hour-and-minute-and-second"},
+            {"celsius", "fahrenheit"},
+            {"foot", "meter"},
+        };
+        double[] values = {0, 1, 1.8288, 2, 66.123, -2.5, 12345.678};
+        for (String[] test : tests) {
+            MeasureUnitImpl input = MeasureUnitImpl.forIdentifier(test[0]);
+            MeasureUnitImpl output = MeasureUnitImpl.forIdentifier(test[1]);
+            ComplexUnitsConverter converter =
+                    new ComplexUnitsConverter(input, output, new ConversionRates());
+            ComplexUnitsConverter cached = ComplexUnitsConverter.getInstance(input, output);
+            assertTrue(
+                    "cached: " + test[1],
+                    cached
+                            == ComplexUnitsConverter.getInstance(
+                                    MeasureUnitImpl.forIdentifier(test[0]),
+                                    MeasureUnitImpl.forIdentifier(test[1])));
+
+            int n = converter.units_.size();
+            double[] results = new double[values.length * n];
+            cached.convert(values, results);
+            for (int k = 0; k < values.length; k++) {
+                List<Measure> measures =
+                        converter.convert(BigDecimal.valueOf(values[k]), null).measures;
+                for (int i = 0; i < n; i++) {
+                    double expected = measures.get(i).getNumber().doubleValue();
+                    assertEquals(
+                            test[0] + " to " + test[1] + " " + values[k] + " [" + i + "]",
+                            expected,
+                            results[k * n + i],
+                            1e-9 * Math.max(1, Math.abs(expected)));
+                }
+            }
+
+            try {
+                cached.convert(values, new double[values.length * n - 1]);
+                fail("IllegalArgumentException expected for " + test[1]);
+            } catch (IllegalArgumentException expected) {
+            }
         }
     }
 
@@ -898,6 +972,58 @@ public String toString() {
                     fail("Test failed: " + testCase + "; Got unexpected result: " + measures);
                 }
             }
+
+            // Test the cached UnitsRouter for the same input.
+            UnitsRouter cachedRouter =
+                    UnitsRouter.getInstance(
+                            testCase.inputUnit.first, testCase.locale, testCase.usage);
+            UnitsRouter.RouteResult result = cachedRouter.route(testCase.input, null);
+            assertEquals(
+                    "For " + testCase + ", cached router measures",
+                    measures,
+                    result.complexConverterResult.measures);
+            assertEquals(
+                    "For " + testCase + ", cached router output unit",
+                    result.outputUnit.build(),
+                    result.outputMeasureUnit);
+        }
+    }
+
+    @Test
+    public void testUnitsRouterCache() {
+        UnitsRouter router =
+                UnitsRouter.getInstance("meter", new ULocale("en-US"), "person-height");
+        assertTrue(
+                "same region",
+                router == UnitsRouter.getInstance("meter", new ULocale("es-US"), "person-height"));
+        assertTrue(
+                "different usage",
+                router != UnitsRouter.getInstance("meter", new ULocale("en-US"), "road"));
+        assertTrue(
+                "different input unit",
+                router != UnitsRouter.getInstance("foot", new ULocale("en-US"), "person-height"));
+        assertTrue(
+                "different region",
+                router != UnitsRouter.getInstance("meter", new ULocale("en-GB"), "person-height"));
+        assertTrue(
+                "measure keyword",
+                router
+                        != UnitsRouter.getInstance(
+                                "meter", new ULocale("en-US-u-ms-metric"), "person-height"));
+
+        UnitsRouter temperature = UnitsRouter.getInstance("celsius", ULocale.US, "default");
+        UnitsRouter celsius =
+                UnitsRouter.getInstance("celsius", new ULocale("en-US-u-mu-celsius"), "default");
+        assertTrue("mu keyword", temperature != celsius);
+        assertEquals(
+                "mu keyword output unit",
+                MeasureUnit.CELSIUS,
+                celsius.route(BigDecimal.ONE, null).outputMeasureUnit);
+
+        try {
+            router.getOutputUnits().clear();
+            fail("the output units of a cached router must not be modifiable");
+        } catch (UnsupportedOperationException expected) {
         }
     }
 
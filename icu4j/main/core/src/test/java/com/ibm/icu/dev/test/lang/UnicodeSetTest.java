@@ -29,6 +29,10 @@
 import com.ibm.icu.text.UnicodeSetSpanner.CountMethod;
 import com.ibm.icu.text.UnicodeSetSpanner.TrimOption;
 import com.ibm.icu.util.OutputInt;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.CharBuffer;
 import java.text.NumberFormat;
 import java.text.ParsePosition;
 import java.util.ArrayList;
@@ -43,6 +47,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Random;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.StringJoiner;
@@ -1833,6 +1838,53 @@ public void TestFrozen() {
         checkModification(test, false);
     }
 
+    @Test
+    public void TestFrozenComplexSets() {
+        // Large, fragmented sets use a two-level bitmap when frozen.
+        // Compare with the thawed inversion list lookup.
+        String[] patterns = {
+            "[:Assigned:]",
+            "[:XID_Continue:]",
+            "[:Emoji:]",
+            "[[:Han:]-[:Ideographic:]]",
+            "[[\\U00010000-\\U0010FFFF]&[:Lo:]]",
+            "[[:Nd:][:Cf:]]",
+        };
+        for (String pattern : patterns) {
+            UnicodeSet thawed = new UnicodeSet(pattern);
+            UnicodeSet frozen = thawed.cloneAsThawed().freeze();
+            for (int c = 0; c <= 0x10ffff; ++c) {
+                if (thawed.contains(c) != frozen.contains(c)) {
+                    errln(pattern + " frozen.contains(U+" + Utility.hex(c) + ") is wrong");
+                    break;
+                }
+            }
+            // Range boundaries, without surrogate code points which could pair up.
+            StringBuilder sb = new StringBuilder();
+            for (UnicodeSet.EntryRange range : thawed.ranges()) {
+                int[] boundaries = {range.codepoint, range.codepointEnd, range.codepointEnd + 1};
+                for (int c : boundaries) {
+                    if (c <= 0x10ffff && (c < 0xd800 || c > 0xdfff)) {
+                        sb.appendCodePoint(c);
+                    }
+                }
+            }
+            String s = sb.toString();
+            for (int i = 0; i < s.length(); i = s.offsetByCodePoints(i, 1)) {
+                for (SpanCondition condition : SpanCondition.values()) {
+                    assertEquals(
+                            pattern + " span " + i,
+                            thawed.span(s, i, condition),
+                            frozen.span(s, i, condition));
+                    assertEquals(
+                            pattern + " spanBack " + i,
+                            thawed.spanBack(s, i, condition),
+                            frozen.spanBack(s, i, condition));
+                }
+            }
+        }
+    }
+
     /** Test Generic support */
     @Test
     public void TestGenerics() {
@@ -2979,6 +3031,73 @@ public void TestReplaceAndDelete() {
                         "ababc acb", "X", CountMethod.WHOLE_SPAN, SpanCondition.NOT_CONTAINED));
     }
 
+    @Test
+    public void TestReplaceAndDeleteStreaming() throws IOException {
+        String[] patterns = {
+            "[._]", "[{ab}]", "[a{ab}{bc}]", "[ab{abc}{cx}]", "[\\U0001F600_]", "[^a]", "[]"
+        };
+        String[] alphabet = {"a", "b", "c", "x", "_", ".", "😀"};
+        Random random = new Random(27);
+        for (String pattern : patterns) {
+            UnicodeSetSpanner m = new UnicodeSetSpanner(new UnicodeSet(pattern).freeze());
+            for (int n = 0; n < 200; ++n) {
+                StringBuilder sb = new StringBuilder();
+                for (int length = random.nextInt(60); length > 0; --length) {
+                    sb.append(alphabet[random.nextInt(alphabet.length)]);
+                }
+                String s = sb.toString();
+                for (CountMethod countMethod : CountMethod.values()) {
+                    for (SpanCondition spanCondition : SpanCondition.values()) {
+                        for (String replacement : new String[] {"", "XY"}) {
+                            String expected =
+                                    m.replaceFrom(s, replacement, countMethod, spanCondition);
+                            StringBuilder actual = new StringBuilder();
+                            m.replaceFrom(
+                                    new ChunkedReader(s, random),
+                                    actual,
+                                    replacement,
+                                    countMethod,
+                                    spanCondition);
+                            assertEquals(
+                                    pattern + " " + countMethod + " " + spanCondition + " " + s,
+                                    expected,
+                                    actual.toString());
+                        }
+                    }
+                }
+                StringWriter writer = new StringWriter();
+                m.deleteFrom(CharBuffer.wrap(s), writer, SpanCondition.SIMPLE);
+                assertEquals(pattern + " deleteFrom " + s, m.deleteFrom(s), writer.toString());
+            }
+        }
+    }
+
+    /** Returns the text in random chunks of 0 to 4 chars. */
+    private static final class ChunkedReader extends Reader {
+        private final String text;
+        private final Random random;
+        private int index;
+
+        ChunkedReader(String text, Random random) {
+            this.text = text;
+            this.random = random;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) {
+            if (index == text.length()) {
+                return -1;
+            }
+            int count = Math.min(Math.min(len, random.nextInt(5)), text.length() - index);
+            text.getChars(index, index + count, cbuf, off);
+            index += count;
+            return count;
+        }
+
+        @Override
+        public void close() {}
+    }
+
     @Test
     public void TestCodePoints() {
         // test supplemental code points and strings clusters
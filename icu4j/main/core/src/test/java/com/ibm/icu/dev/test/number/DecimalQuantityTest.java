@@ -28,6 +28,7 @@
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -531,6 +532,53 @@ public void testHardDoubleConversion() {
         }
     }
 
+    @Test
+    public void testShortestDoubleConversion() {
+        // Some of these are not shortest with Double.toString() before Java 19.
+        Object[][] cases = {
+            {Double.MIN_VALUE, "4.9E-324"},
+            {2 * Double.MIN_VALUE, "9.9E-324"},
+            {3 * Double.MIN_VALUE, "1.5E-323"},
+            {Double.MIN_NORMAL, "2.2250738585072014E-308"},
+            {Double.MAX_VALUE, "1.7976931348623157E308"},
+            {1e23, "1E23"},
+            {2e23, "2E23"},
+            {8.41e21, "8.41E21"},
+            {2.82879384806159e17, "2.82879384806159E17"},
+            {1.9430376160308388e16, "1.9430376160308388E16"},
+            {0.3, "0.3"},
+            {1.0 / 3, "0.3333333333333333"},
+        };
+
+        for (Object[] cas : cases) {
+            double input = (Double) cas[0];
+            BigDecimal expected = new BigDecimal((String) cas[1]);
+
+            DecimalQuantity q = new DecimalQuantity_DualStorageBCD(input);
+            q.roundToInfinity();
+            BigDecimal actual = q.toBigDecimal();
+            assertEquals(Double.toString(input), 0, expected.compareTo(actual));
+        }
+
+        // The digits must round-trip, and must not be more than those of Double.toString().
+        Random random = new Random(41);
+        for (int i = 0; i < 100000; i++) {
+            double input = Double.longBitsToDouble(random.nextLong() & Long.MAX_VALUE);
+            if (Double.isNaN(input) || Double.isInfinite(input) || input == 0) {
+                continue;
+            }
+            DecimalQuantity q = new DecimalQuantity_DualStorageBCD(input);
+            q.roundToInfinity();
+            BigDecimal actual = q.toBigDecimal();
+            BigDecimal oracle = new BigDecimal(Double.toString(input));
+            assertEquals("Round-trip", input, actual.doubleValue());
+            assertTrue(
+                    "Shortest " + actual,
+                    actual.stripTrailingZeros().precision()
+                            <= oracle.stripTrailingZeros().precision());
+        }
+    }
+
     @Test
     public void testToDouble() {
         Object[][] cases =
@@ -32,6 +32,12 @@ class CompoundTransliterator extends Transliterator {
 
     private int numAnonymousRBTs = 0;
 
+    /**
+     * For each transliterator that starts a run of transliterators that can be executed in one
+     * pass, the fused run, otherwise null.
+     */
+    private FusedTransliteration[] fused;
+
     /**
      * Package private constructor for Transliterator from a vector of transliterators. The caller
      * is responsible for fixing up the ID.
@@ -61,6 +67,7 @@ class CompoundTransliterator extends Transliterator {
         super(id, filter2);
         trans = trans2;
         numAnonymousRBTs = numAnonymousRBTs2;
+        computeFusedTransliterations();
     }
 
     /**
@@ -104,6 +111,7 @@ private void init(List<Transliterator> list, int direction, boolean fixReverseID
         }
 
         computeMaximumContextLength();
+        computeFusedTransliterations();
     }
 
     /**
@@ -310,7 +318,15 @@ protected void handleTransliterate(Replaceable text, Position index, boolean inc
                 UtilityExtensions.formatInput(log, text, index);
             }
 
-            trans[i].filteredTransliterate(text, index, incremental);
+            if (!incremental && fused[i] != null && !text.hasMetaData()) {
+                // Run several simple transliterators in a single pass over the text, with the
+                // same result. The text is replaced as a whole, which would lose metadata.
+                FusedTransliteration run = fused[i];
+                run.transliterate(text, index);
+                i += run.getLength() - 1;
+            } else {
+                trans[i].filteredTransliterate(text, index, incremental);
+            }
 
             // In a properly written transliterator, start == limit after
             // handleTransliterate() returns when incremental is false.
@@ -374,6 +390,24 @@ private void computeMaximumContextLength() {
         setMaximumContextLength(max);
     }
 
+    /**
+     * Find the runs of transliterators, such as normalization and case mapping, that can be
+     * executed in one pass over the text instead of one after the other. Other transliterators,
+     * for example rule-based ones, are always executed on their own.
+     */
+    private void computeFusedTransliterations() {
+        fused = new FusedTransliteration[trans.length];
+        for (int i = 0; i < trans.length; ) {
+            if (!FusedTransliteration.canFuse(trans[i])) {
+                ++i;
+                continue;
+            }
+            int start = i;
+            while (++i < trans.length && FusedTransliteration.canFuse(trans[i])) {}
+            fused[start] = new FusedTransliteration(trans, start, i);
+        }
+    }
+
     /** Temporary hack for registry problem. Needs to be replaced by better architecture. */
     public Transliterator safeClone() {
         UnicodeFilter filter = getFilter();
@@ -19,7 +19,7 @@
  *
  * @author Alan Liu
  */
-class FunctionReplacer implements UnicodeReplacer {
+class FunctionReplacer implements SegmentReplacer {
 
     /** The transliterator. Must not be null. */
     private Transliterator translit;
@@ -42,9 +42,16 @@ public FunctionReplacer(Transliterator theTranslit, UnicodeReplacer theReplacer)
     /** UnicodeReplacer API */
     @Override
     public int replace(Replaceable text, int start, int limit, int[] cursor) {
+        return replace(text, start, limit, cursor, null);
+    }
+
+    /** SegmentReplacer API */
+    @Override
+    public int replace(
+            Replaceable text, int start, int limit, int[] cursor, int[] segmentMatches) {
 
         // First delegate to subordinate replacer
-        int len = replacer.replace(text, start, limit, cursor);
+        int len = SegmentReplacer.replace(replacer, text, start, limit, cursor, segmentMatches);
         limit = start + len;
 
         // Now transliterate
@@ -0,0 +1,366 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: http://www.unicode.org/copyright.html
+package com.ibm.icu.text;
+
+import com.ibm.icu.impl.UCaseProps;
+import com.ibm.icu.lang.UProperty;
+
+/**
+ * A run of simple transliterators of a {@link CompoundTransliterator} that are executed in a single
+ * pass over the text.
+ *
+ * <p>Normally, each transliterator of a compound transliterator processes all of the text before
+ * the next one starts, and each one modifies the text in place, which moves the rest of the text
+ * with every change of length. The transliterators that can be fused here only need a small window
+ * of the text: normalization, case mapping without language-specific rules, Any-Remove and
+ * Any-Null, each with or without a filter. Instead of running them one after the other, each code
+ * point is passed through all of them in turn, and the text is replaced only once at the end. The
+ * result is the same as with staged execution.
+ *
+ * <p>This is only used for non-incremental transliteration of text without metadata, because the
+ * whole range is replaced at once.
+ */
+final class FusedTransliteration {
+    private static final int SIGMA = 0x3a3;
+
+    private final Transliterator[] trans;
+
+    /**
+     * Returns true if the transliterator can be part of a fused run. Transliterators with
+     * language-specific case mappings, rule-based and other transliterators are not supported.
+     */
+    static boolean canFuse(Transliterator t) {
+        if (t instanceof LowercaseTransliterator) {
+            return ((LowercaseTransliterator) t).getCaseLocale() == UCaseProps.LOC_ROOT;
+        } else if (t instanceof UppercaseTransliterator) {
+            return ((UppercaseTransliterator) t).getCaseLocale() == UCaseProps.LOC_ROOT;
+        }
+        return t instanceof NormalizationTransliterator
+                || t instanceof CaseFoldTransliterator
+                || t instanceof RemoveTransliterator
+                || t instanceof NullTransliterator;
+    }
+
+    /**
+     * Constructs a fused run of trans[start..limit-1], which must all be supported by {@link
+     * #canFuse(Transliterator)}.
+     */
+    FusedTransliteration(Transliterator[] trans, int start, int limit) {
+        this.trans = new Transliterator[limit - start];
+        System.arraycopy(trans, start, this.trans, 0, limit - start);
+    }
+
+    /** Returns the number of transliterators in this run. */
+    int getLength() {
+        return trans.length;
+    }
+
+    /**
+     * Transliterates the text between index.start and index.limit with all of the transliterators
+     * of this run, like a non-incremental {@link Transliterator#filteredTransliterate(Replaceable,
+     * Transliterator.Position, boolean)} with each of them in turn.
+     */
+    void transliterate(Replaceable text, Transliterator.Position index) {
+        int start = index.start;
+        int limit = index.limit;
+        char[] chars = new char[limit - start];
+        text.getChars(start, limit, chars, 0);
+
+        // Build the chain of stages from the back.
+        StringBuilder result = new StringBuilder(chars.length);
+        Stage first = new Sink(result);
+        for (int i = trans.length - 1; i >= 0; --i) {
+            first = createStage(trans[i], first, text, index);
+        }
+
+        for (int i = 0; i < chars.length; ) {
+            int c = Character.codePointAt(chars, i);
+            i += Character.charCount(c);
+            first.put(c);
+        }
+        first.finish();
+
+        text.replace(start, limit, result.toString());
+        int delta = result.length() - chars.length;
+        index.contextLimit += delta;
+        index.start = index.limit = limit + delta;
+    }
+
+    private static Stage createStage(
+            Transliterator t, Stage next, Replaceable text, Transliterator.Position index) {
+        UnicodeFilter filter = t.getFilter();
+        if (t instanceof NormalizationTransliterator) {
+            return new NormalizationStage(
+                    ((NormalizationTransliterator) t).getNormalizer2(), filter, next);
+        } else if (t instanceof LowercaseTransliterator) {
+            return new CaseMapStage(CaseMapStage.LOWER, filter, next, text, index);
+        } else if (t instanceof UppercaseTransliterator) {
+            return new CaseMapStage(CaseMapStage.UPPER, filter, next, text, index);
+        } else if (t instanceof CaseFoldTransliterator) {
+            return new CaseMapStage(CaseMapStage.FOLD, filter, next, text, index);
+        } else if (t instanceof RemoveTransliterator) {
+            return new RemoveStage(filter, next);
+        } else {
+            return next; // Any-Null
+        }
+    }
+
+    /** One transliterator of the run. Receives code points and passes its output to the next. */
+    private abstract static class Stage {
+        /** Receives the next code point of the input. */
+        abstract void put(int c);
+
+        /** Called at the end of the input. */
+        abstract void finish();
+    }
+
+    private static final class Sink extends Stage {
+        private final StringBuilder result;
+
+        Sink(StringBuilder result) {
+            this.result = result;
+        }
+
+        @Override
+        void put(int c) {
+            result.appendCodePoint(c);
+        }
+
+        @Override
+        void finish() {}
+    }
+
+    private static final class RemoveStage extends Stage {
+        private final UnicodeFilter filter;
+        private final Stage next;
+
+        RemoveStage(UnicodeFilter filter, Stage next) {
+            this.filter = filter;
+            this.next = next;
+        }
+
+        @Override
+        void put(int c) {
+            if (filter != null && !filter.contains(c)) {
+                next.put(c);
+            }
+        }
+
+        @Override
+        void finish() {
+            next.finish();
+        }
+    }
+
+    /**
+     * Normalizes the same segments as NormalizationTransliterator: Each segment starts with the
+     * first code point of a run of filtered text, or with a code point that has a normalization
+     * boundary before it.
+     */
+    private static final class NormalizationStage extends Stage {
+        private final Normalizer2 norm2;
+        private final UnicodeFilter filter;
+        private final Stage next;
+        private final StringBuilder segment = new StringBuilder();
+        private final StringBuilder normalized = new StringBuilder();
+
+        NormalizationStage(Normalizer2 norm2, UnicodeFilter filter, Stage next) {
+            this.norm2 = norm2;
+            this.filter = filter;
+            this.next = next;
+        }
+
+        @Override
+        void put(int c) {
+            if (filter != null && !filter.contains(c)) {
+                flush();
+                next.put(c);
+                return;
+            }
+            if (segment.length() != 0 && norm2.hasBoundaryBefore(c)) {
+                flush();
+            }
+            segment.appendCodePoint(c);
+        }
+
+        @Override
+        void finish() {
+            flush();
+            next.finish();
+        }
+
+        private void flush() {
+            if (segment.length() == 0) {
+                return;
+            }
+            CharSequence s = segment;
+            if (norm2.spanQuickCheckYes(segment) != segment.length()) {
+                norm2.normalize(segment, normalized);
+                s = normalized;
+            }
+            for (int i = 0; i < s.length(); ) {
+                int c = Character.codePointAt(s, i);
+                i += Character.charCount(c);
+                next.put(c);
+            }
+            segment.setLength(0);
+        }
+    }
+
+    /**
+     * Case mapping without language-specific rules. The only context-sensitive mapping is that of
+     * the Greek capital sigma in lowercasing, which depends on the surrounding cased letters. A
+     * sigma is held back until the following context is known, and the preceding context is
+     * tracked as the last code point that was output and is not case-ignorable.
+     */
+    private static final class CaseMapStage extends Stage implements UCaseProps.ContextIterator {
+        static final int LOWER = 0;
+        static final int UPPER = 1;
+        static final int FOLD = 2;
+
+        private final UCaseProps csp = UCaseProps.INSTANCE;
+        private final int kind;
+        private final UnicodeFilter filter;
+        private final Stage next;
+        private final StringBuilder mapped = new StringBuilder();
+
+        // Context for the sigma, only used for lowercasing.
+        private final Replaceable text;
+        private final int limit;
+        private final int contextLimit;
+        /* The last code point that was output and is not case-ignorable, or -1. */
+        private int lastCharacter = -1;
+        /* A sigma, followed by case-ignorable code points. */
+        private final StringBuilder held = new StringBuilder();
+        private boolean finished;
+        private int dir;
+        private int iterIndex;
+
+        CaseMapStage(
+                int kind,
+                UnicodeFilter filter,
+                Stage next,
+                Replaceable text,
+                Transliterator.Position index) {
+            this.kind = kind;
+            this.filter = filter;
+            this.next = next;
+            this.text = text;
+            limit = index.limit;
+            contextLimit = index.contextLimit;
+            if (kind == LOWER) {
+                for (int i = index.start; i > index.contextStart; ) {
+                    int c = text.char32At(i - 1);
+                    i -= UTF16.getCharCount(c);
+                    if (!isCaseIgnorable(c)) {
+                        lastCharacter = c;
+                        break;
+                    }
+                }
+            }
+        }
+
+        @Override
+        void put(int c) {
+            if (held.length() != 0) {
+                held.appendCodePoint(c);
+                if (!isCaseIgnorable(c)) {
+                    releaseSigma();
+                }
+            } else if (filter != null && !filter.contains(c)) {
+                output(c);
+            } else if (c == SIGMA && kind == LOWER) {
+                held.appendCodePoint(c);
+            } else {
+                map(c, null);
+            }
+        }
+
+        @Override
+        void finish() {
+            finished = true;
+            if (held.length() != 0) {
+                releaseSigma();
+            }
+            next.finish();
+        }
+
+        /* Maps the held sigma with its context, and puts the code points after it again. */
+        private void releaseSigma() {
+            map(SIGMA, this);
+            String following = held.substring(1);
+            held.setLength(0);
+            for (int i = 0; i < following.length(); ) {
+                int c = following.codePointAt(i);
+                i += Character.charCount(c);
+                put(c);
+            }
+        }
+
+        private void map(int c, UCaseProps.ContextIterator iter) {
+            int result;
+            if (kind == LOWER) {
+                result = csp.toFullLower(c, iter, mapped, UCaseProps.LOC_ROOT);
+            } else if (kind == UPPER) {
+                result = csp.toFullUpper(c, null, mapped, UCaseProps.LOC_ROOT);
+            } else {
+                result = csp.toFullFolding(c, mapped, 0);
+            }
+            if (result < 0) {
+                output(c);
+            } else if (result <= UCaseProps.MAX_STRING_LENGTH) {
+                for (int i = 0; i < mapped.length(); ) {
+                    int m = mapped.codePointAt(i);
+                    i += Character.charCount(m);
+                    output(m);
+                }
+                mapped.setLength(0);
+            } else {
+                output(result);
+            }
+        }
+
+        private void output(int c) {
+            if (kind == LOWER && !isCaseIgnorable(c)) {
+                lastCharacter = c;
+            }
+            next.put(c);
+        }
+
+        private boolean isCaseIgnorable(int c) {
+            return csp.hasBinaryProperty(c, UProperty.CASE_IGNORABLE);
+        }
+
+        // ContextIterator for the held sigma: Backward, there is only the last code point that is
+        // not case-ignorable, which is all that the sigma mapping looks at. Forward, there are the
+        // held code points after the sigma and, at the end, the text after the input.
+
+        @Override
+        public void reset(int direction) {
+            dir = direction;
+            iterIndex = direction > 0 ? 1 : 0;
+        }
+
+        @Override
+        public int next() {
+            if (dir < 0) {
+                if (iterIndex++ == 0) {
+                    return lastCharacter;
+                }
+            } else if (dir > 0) {
+                if (iterIndex < held.length()) {
+                    int c = held.codePointAt(iterIndex);
+                    iterIndex += Character.charCount(c);
+                    return c;
+                }
+                int i = limit + iterIndex - held.length();
+                if (finished && i < contextLimit) {
+                    int c = text.char32At(i);
+                    iterIndex += UTF16.getCharCount(c);
+                    return c;
+                }
+            }
+            return -1;
+        }
+    }
+}
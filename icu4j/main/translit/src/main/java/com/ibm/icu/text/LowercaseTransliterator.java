@@ -47,6 +47,11 @@ public LowercaseTransliterator(ULocale loc) {
         caseLocale = UCaseProps.getCaseLocale(locale);
     }
 
+    /** Returns the case mapping locale ID, one of the UCaseProps.LOC_ values. */
+    int getCaseLocale() {
+        return caseLocale;
+    }
+
     /** Implements {@link Transliterator#handleTransliterate}. */
     @Override
     protected void handleTransliterate(Replaceable text, Position offsets, boolean isIncremental) {
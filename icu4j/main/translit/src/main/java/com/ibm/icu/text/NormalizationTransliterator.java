@@ -88,6 +88,10 @@ private NormalizationTransliterator(String id, Normalizer2 n2) {
         norm2 = n2;
     }
 
+    Normalizer2 getNormalizer2() {
+        return norm2;
+    }
+
     /** Implements {@link Transliterator#handleTransliterate}. */
     @Override
     protected void handleTransliterate(Replaceable text, Position offsets, boolean isIncremental) {
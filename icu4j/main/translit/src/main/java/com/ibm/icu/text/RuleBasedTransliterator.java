@@ -8,6 +8,7 @@
  */
 package com.ibm.icu.text;
 
+import com.ibm.icu.util.CharsTrie;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -101,18 +102,25 @@ protected void handleTransliterate(Replaceable text, Position index, boolean inc
          * number of characters n, unless n is so large that 16n exceeds a
          * uint32_t.
          */
-        synchronized (data) {
-            int loopCount = 0;
-            int loopLimit = (index.limit - index.start) << 4;
-            if (loopLimit < 0) {
-                loopLimit = 0x7FFFFFFF;
-            }
+        /* The rule data is not modified during transliteration, except
+         * for the volatile StringReplacer.isComplex flag: the prefix trie
+         * iterator and the segment match offsets are allocated for this
+         * call, so a transliterator that shares its data with others, or
+         * that is itself shared, needs no lock here.
+         */
+        int loopCount = 0;
+        int loopLimit = (index.limit - index.start) << 4;
+        if (loopLimit < 0) {
+            loopLimit = 0x7FFFFFFF;
+        }
 
-            while (index.start < index.limit
-                    && loopCount <= loopLimit
-                    && data.ruleSet.transliterate(text, index, incremental)) {
-                ++loopCount;
-            }
+        CharsTrie prefixTrie = data.ruleSet.newPrefixTrie();
+        int[] segmentMatches = data.ruleSet.newSegmentMatches();
+        while (index.start < index.limit
+                && loopCount <= loopLimit
+                && data.ruleSet.transliterate(
+                        text, index, incremental, prefixTrie, segmentMatches)) {
+            ++loopCount;
         }
     }
 
@@ -160,6 +168,19 @@ public UnicodeReplacer lookupReplacer(int standIn) {
             int i = standIn - variablesBase;
             return (i >= 0 && i < variables.length) ? (UnicodeReplacer) variables[i] : null;
         }
+
+        /**
+         * Freeze the UnicodeSet variables. This is called once the rules have been parsed; the
+         * rule data is not modified after that.
+         */
+        void freeze() {
+            ruleSet.freeze();
+            for (Object v : variables) {
+                if (v instanceof UnicodeSet) {
+                    ((UnicodeSet) v).freeze();
+                }
+            }
+        }
     }
 
     /**
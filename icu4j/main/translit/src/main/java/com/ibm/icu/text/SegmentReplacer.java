@@ -0,0 +1,31 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: http://www.unicode.org/copyright.html
+package com.ibm.icu.text;
+
+/**
+ * A UnicodeReplacer of transliteration rules that outputs segments, or that contains replacers
+ * that do. It gets the offsets of the segment matches from the caller, see SegmentMatcher.
+ */
+interface SegmentReplacer extends UnicodeReplacer {
+
+    /**
+     * Same as {@link #replace(Replaceable, int, int, int[])}, with the segment matches of the rule
+     * that is being applied.
+     *
+     * @param segmentMatches the segment match offsets, or null if there are none
+     */
+    int replace(Replaceable text, int start, int limit, int[] cursor, int[] segmentMatches);
+
+    /** Calls the replacer, passing the segment match offsets if it is a SegmentReplacer. */
+    static int replace(
+            UnicodeReplacer replacer,
+            Replaceable text,
+            int start,
+            int limit,
+            int[] cursor,
+            int[] segmentMatches) {
+        return replacer instanceof SegmentReplacer
+                ? ((SegmentReplacer) replacer).replace(text, start, limit, cursor, segmentMatches)
+                : replacer.replace(text, start, limit, cursor);
+    }
+}
@@ -18,21 +18,17 @@
  * output text is the leftmost match seen up to this point.
  *
  * <p>A StringMatcher may represent a segment, in which case it has a positive segment number. This
- * affects how the matcher converts itself to a pattern but does not otherwise affect its function.
+ * affects how the matcher converts itself to a pattern. A segment also records the offsets of its
+ * match, in the segment match array that the caller passes in for each transliteration rather than
+ * in the matcher itself, so that a matcher can be used by several threads at once.
  *
  * <p>A StringMatcher that is not a segment should not be used as a UnicodeReplacer.
  */
-class StringMatcher implements UnicodeMatcher, UnicodeReplacer {
+class StringMatcher implements SegmentMatcher, SegmentReplacer {
 
     /** The text to be matched. */
     private String pattern;
 
-    /** Start offset, in the match text, of the <em>rightmost</em> match. */
-    private int matchStart;
-
-    /** Limit offset, in the match text, of the <em>rightmost</em> match. */
-    private int matchLimit;
-
     /** The segment number, 1-based, or 0 if not a segment. */
     private int segmentNumber;
 
@@ -50,7 +46,6 @@ class StringMatcher implements UnicodeMatcher, UnicodeReplacer {
     public StringMatcher(String theString, int segmentNum, RuleBasedTransliterator.Data theData) {
         data = theData;
         pattern = theString;
-        matchStart = matchLimit = -1;
         segmentNumber = segmentNum;
     }
 
@@ -76,6 +71,13 @@ public StringMatcher(
     /** Implement UnicodeMatcher */
     @Override
     public int matches(Replaceable text, int[] offset, int limit, boolean incremental) {
+        return matches(text, offset, limit, incremental, null);
+    }
+
+    /** Implement SegmentMatcher */
+    @Override
+    public int matches(
+            Replaceable text, int[] offset, int limit, boolean incremental, int[] segmentMatches) {
         // Note (1): We process text in 16-bit code units, rather than
         // 32-bit code points.  This works because stand-ins are
         // always in the BMP and because we are doing a literal match
@@ -95,7 +97,9 @@ public int matches(Replaceable text, int[] offset, int limit, boolean incrementa
                         return U_MISMATCH;
                     }
                 } else {
-                    int m = subm.matches(text, cursor, limit, incremental);
+                    int m =
+                            SegmentMatcher.matches(
+                                    subm, text, cursor, limit, incremental, segmentMatches);
                     if (m != U_MATCH) {
                         return m;
                     }
@@ -104,9 +108,12 @@ public int matches(Replaceable text, int[] offset, int limit, boolean incrementa
             // Record the match position, but adjust for a normal
             // forward start, limit, and only if a prior match does not
             // exist -- we want the rightmost match.
-            if (matchStart < 0) {
-                matchStart = cursor[0] + 1;
-                matchLimit = offset[0] + 1;
+            if (segmentNumber > 0 && segmentMatches != null) {
+                int i2 = 2 * segmentNumber - 2;
+                if (segmentMatches[i2] < 0) {
+                    segmentMatches[i2] = cursor[0] + 1;
+                    segmentMatches[i2 + 1] = offset[0] + 1;
+                }
             }
         } else {
             for (i = 0; i < pattern.length(); ++i) {
@@ -128,15 +135,19 @@ public int matches(Replaceable text, int[] offset, int limit, boolean incrementa
                         return U_MISMATCH;
                     }
                 } else {
-                    int m = subm.matches(text, cursor, limit, incremental);
+                    int m =
+                            SegmentMatcher.matches(
+                                    subm, text, cursor, limit, incremental, segmentMatches);
                     if (m != U_MATCH) {
                         return m;
                     }
                 }
             }
             // Record the match position
-            matchStart = offset[0];
-            matchLimit = cursor[0];
+            if (segmentNumber > 0 && segmentMatches != null) {
+                segmentMatches[2 * segmentNumber - 2] = offset[0];
+                segmentMatches[2 * segmentNumber - 1] = cursor[0];
+            }
         }
 
         offset[0] = cursor[0];
@@ -203,8 +214,21 @@ public void addMatchSetTo(UnicodeSet toUnionTo) {
     /** UnicodeReplacer API */
     @Override
     public int replace(Replaceable text, int start, int limit, int[] cursor) {
+        return replace(text, start, limit, cursor, null);
+    }
+
+    /** SegmentReplacer API */
+    @Override
+    public int replace(
+            Replaceable text, int start, int limit, int[] cursor, int[] segmentMatches) {
 
         int outLen = 0;
+        int matchStart = -1;
+        int matchLimit = -1;
+        if (segmentMatches != null) {
+            matchStart = segmentMatches[2 * segmentNumber - 2];
+            matchLimit = segmentMatches[2 * segmentNumber - 1];
+        }
 
         // Copy segment with out-of-band data
         int dest = limit;
@@ -231,14 +255,6 @@ public String toReplacerPattern(boolean escapeUnprintable) {
         return rule.toString();
     }
 
-    /**
-     * Remove any match data. This must be called before performing a set of matches with this
-     * segment.
-     */
-    public void resetMatch() {
-        matchStart = matchLimit = -1;
-    }
-
     /**
      * Union the set of all characters that may output by this object into the given set.
      *
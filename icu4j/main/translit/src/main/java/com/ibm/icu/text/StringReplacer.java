@@ -23,7 +23,7 @@
  *
  * @author Alan Liu
  */
-class StringReplacer implements UnicodeReplacer {
+class StringReplacer implements SegmentReplacer {
 
     /**
      * Output text, possibly containing stand-in characters that represent nested UnicodeReplacers.
@@ -40,9 +40,11 @@ class StringReplacer implements UnicodeReplacer {
      * A complex object contains nested replacers and requires more complex processing.
      * StringReplacers are initially assumed to be complex. If no nested replacers are seen during
      * processing, then isComplex is set to false, and future replacements are short circuited for
-     * better performance.
+     * better performance. The rule data is shared by threads, so the flag is volatile, and it only
+     * ever changes from true to false: a replacement that runs concurrently with the first one on
+     * another thread sees either value, and both paths output the same text.
      */
-    private boolean isComplex;
+    private volatile boolean isComplex;
 
     /** Object that translates stand-in characters in 'output' to UnicodeReplacer objects. */
     private final RuleBasedTransliterator.Data data;
@@ -99,6 +101,13 @@ public StringReplacer(String theOutput, RuleBasedTransliterator.Data theData) {
     /** UnicodeReplacer API */
     @Override
     public int replace(Replaceable text, int start, int limit, int[] cursor) {
+        return replace(text, start, limit, cursor, null);
+    }
+
+    /** SegmentReplacer API */
+    @Override
+    public int replace(
+            Replaceable text, int start, int limit, int[] cursor, int[] segmentMatches) {
         int outLen;
         int newStart = 0;
 
@@ -125,7 +134,7 @@ public int replace(Replaceable text, int start, int limit, int[] cursor) {
              */
             StringBuilder buf = new StringBuilder();
             int oOutput; // offset into 'output'
-            isComplex = false;
+            boolean hasReplacers = false;
 
             // The temporary buffer starts at tempStart, and extends
             // to destLimit + tempExtra.  The start of the buffer has a single
@@ -179,7 +188,7 @@ public int replace(Replaceable text, int start, int limit, int[] cursor) {
                     // Accumulate straight (non-segment) text.
                     buf.appendCodePoint(c);
                 } else {
-                    isComplex = true;
+                    hasReplacers = true;
 
                     // Insert any accumulated straight text.
                     if (buf.length() > 0) {
@@ -189,7 +198,9 @@ public int replace(Replaceable text, int start, int limit, int[] cursor) {
                     }
 
                     // Delegate output generation to replacer object
-                    int len = r.replace(text, destLimit, destLimit, cursor);
+                    int len =
+                            SegmentReplacer.replace(
+                                    r, text, destLimit, destLimit, cursor, segmentMatches);
                     destLimit += len;
                 }
                 oOutput = nextIndex;
@@ -205,6 +216,9 @@ public int replace(Replaceable text, int start, int limit, int[] cursor) {
             }
 
             outLen = destLimit - destStart;
+            if (!hasReplacers) {
+                isComplex = false;
+            }
 
             // Copy new text to start, and delete it
             text.copy(destStart, destLimit, start);
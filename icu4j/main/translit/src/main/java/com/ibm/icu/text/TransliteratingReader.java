@@ -0,0 +1,116 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: http://www.unicode.org/copyright.html
+package com.ibm.icu.text;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * A reader that transliterates the text of another reader.
+ *
+ * <p>The text is transliterated incrementally, as described for {@link
+ * Transliterator#transliterate(Replaceable, Transliterator.Position, String)}, and the result is
+ * the same as transliterating the whole text at once. The reader only keeps the text that has not
+ * been transliterated yet, plus some context before it, so that input of any length can be
+ * transliterated in constant memory. The context is at least twice the {@link
+ * Transliterator#getMaximumContextLength() maximum context length} of the transliterator, and at
+ * least 16 code units. Transliterators that look further back than that, such as the final sigma
+ * handling of Any-Lower after a long sequence of case-ignorable characters, may produce different
+ * results where the text is removed from the buffer.
+ *
+ * <p>Any transliterator can be used, including compound transliterators, for example {@code
+ * Transliterator.getInstance("NFD; [:Nonspacing Mark:] Remove; NFC")}. A transliterator that does
+ * not transliterate anything before it has seen all of its input has to buffer all of it.
+ *
+ * <p>A TransliteratingReader is not thread-safe. The transliterator must not be used by other
+ * threads at the same time, unless it is thread-safe.
+ *
+ * @see TransliteratingWriter
+ * @draft ICU 79
+ */
+public final class TransliteratingReader extends Reader {
+    private static final int INPUT_CAPACITY = 4096;
+
+    private Reader in;
+    private final TransliterationBuffer buffer;
+    private final char[] input = new char[INPUT_CAPACITY];
+
+    /**
+     * Constructs a reader that transliterates the text of the given reader.
+     *
+     * @param in the reader with the text to be transliterated
+     * @param transliterator the transliterator
+     * @draft ICU 79
+     */
+    public TransliteratingReader(Reader in, Transliterator transliterator) {
+        if (in == null) {
+            throw new IllegalArgumentException("in must not be null");
+        }
+        this.in = in;
+        buffer = new TransliterationBuffer(transliterator);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @draft ICU 79
+     */
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || len > cbuf.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        ensureOpen();
+        if (len == 0) {
+            return 0;
+        }
+        while (buffer.getOutputLength() == 0) {
+            if (buffer.isFinished()) {
+                return -1;
+            }
+            fill();
+        }
+        return buffer.takeOutput(cbuf, off, len);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @draft ICU 79
+     */
+    @Override
+    public boolean ready() throws IOException {
+        ensureOpen();
+        return buffer.getOutputLength() > 0;
+    }
+
+    /**
+     * Closes this reader and the underlying reader.
+     *
+     * @draft ICU 79
+     */
+    @Override
+    public void close() throws IOException {
+        if (in != null) {
+            in.close();
+            in = null;
+        }
+    }
+
+    /* Reads more input and transliterates it, or finishes at the end of the input. */
+    private void fill() throws IOException {
+        int n = in.read(input, 0, input.length);
+        if (n < 0) {
+            buffer.finish();
+        } else if (n > 0) {
+            buffer.append(input, 0, n);
+            buffer.transliterate();
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (in == null) {
+            throw new IOException("Stream closed");
+        }
+    }
+}
@@ -0,0 +1,127 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: http://www.unicode.org/copyright.html
+package com.ibm.icu.text;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * A writer that transliterates text and writes the result to another writer.
+ *
+ * <p>The text is transliterated incrementally, as described for {@link
+ * Transliterator#transliterate(Replaceable, Transliterator.Position, String)}. Text that may still
+ * change depending on the following text is held back until more text is written, or until {@link
+ * #finish()} or {@link #close()}; {@link #flush()} only writes the text that is final. The result
+ * is the same as transliterating the whole text at once, and text of any length is transliterated
+ * in constant memory, with the same caveat about the context as for {@link
+ * TransliteratingReader}.
+ *
+ * <p>Any transliterator can be used, including compound transliterators.
+ *
+ * <p>A TransliteratingWriter is not thread-safe. The transliterator must not be used by other
+ * threads at the same time, unless it is thread-safe.
+ *
+ * @see TransliteratingReader
+ * @draft ICU 79
+ */
+public final class TransliteratingWriter extends Writer {
+    /* Written text is transliterated once this much has been collected. */
+    private static final int MIN_TRANSLITERATE_LENGTH = 1024;
+    private static final int OUTPUT_CAPACITY = 4096;
+
+    private Writer out;
+    private final TransliterationBuffer buffer;
+    private final char[] output = new char[OUTPUT_CAPACITY];
+
+    /**
+     * Constructs a writer that transliterates text and writes it to the given writer.
+     *
+     * @param out the writer for the transliterated text
+     * @param transliterator the transliterator
+     * @draft ICU 79
+     */
+    public TransliteratingWriter(Writer out, Transliterator transliterator) {
+        if (out == null) {
+            throw new IllegalArgumentException("out must not be null");
+        }
+        this.out = out;
+        buffer = new TransliterationBuffer(transliterator);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @draft ICU 79
+     */
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || len > cbuf.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        ensureOpen();
+        buffer.append(cbuf, off, len);
+        if (buffer.getPendingLength() >= MIN_TRANSLITERATE_LENGTH) {
+            buffer.transliterate();
+            writeOutput();
+        }
+    }
+
+    /**
+     * Transliterates the text that has been written so far as far as possible, and writes the
+     * result to the underlying writer and flushes it. Text that may still change depending on the
+     * following text is not written.
+     *
+     * @draft ICU 79
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        buffer.transliterate();
+        writeOutput();
+        out.flush();
+    }
+
+    /**
+     * Transliterates all of the text that has been written and writes the result to the underlying
+     * writer, without closing it. Text that is written afterwards is transliterated as a new text,
+     * without the preceding text as context.
+     *
+     * @draft ICU 79
+     */
+    public void finish() throws IOException {
+        ensureOpen();
+        buffer.finish();
+        writeOutput();
+        buffer.reset();
+    }
+
+    /**
+     * Finishes the transliteration, and closes this writer and the underlying writer.
+     *
+     * @draft ICU 79
+     */
+    @Override
+    public void close() throws IOException {
+        if (out != null) {
+            try {
+                finish();
+            } finally {
+                out.close();
+                out = null;
+            }
+        }
+    }
+
+    private void writeOutput() throws IOException {
+        while (buffer.getOutputLength() > 0) {
+            int n = buffer.takeOutput(output, 0, output.length);
+            out.write(output, 0, n);
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (out == null) {
+            throw new IOException("Stream closed");
+        }
+    }
+}
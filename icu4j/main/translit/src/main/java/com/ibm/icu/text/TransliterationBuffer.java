@@ -0,0 +1,118 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: http://www.unicode.org/copyright.html
+package com.ibm.icu.text;
+
+/**
+ * A sliding window over a stream of text that is transliterated incrementally, for {@link
+ * TransliteratingReader} and {@link TransliteratingWriter}.
+ *
+ * <p>Input is appended at the end, and the transliterated output is taken from the start. Once the
+ * output has been taken, the text is removed from the buffer, except for the context that the
+ * transliterator may still look at: at least {@link #MIN_CONTEXT_LENGTH} code units, and at least
+ * twice the maximum context length of the transliterator, which allows for supplementary code
+ * points.
+ */
+final class TransliterationBuffer {
+    /** The minimum number of code units that are kept before the transliteration start. */
+    static final int MIN_CONTEXT_LENGTH = 16;
+
+    /* Text before the context is only removed in blocks at least this long. */
+    private static final int MIN_REMOVE_LENGTH = 4096;
+
+    private final Transliterator transliterator;
+    private final int contextLength;
+    private final ReplaceableString text = new ReplaceableString();
+    private final Transliterator.Position index = new Transliterator.Position();
+    /* Start of the transliterated text that has not been taken yet. */
+    private int outputStart;
+    private boolean finished;
+
+    TransliterationBuffer(Transliterator transliterator) {
+        if (transliterator == null) {
+            throw new IllegalArgumentException("transliterator must not be null");
+        }
+        this.transliterator = transliterator;
+        contextLength =
+                Math.max(2 * transliterator.getMaximumContextLength(), MIN_CONTEXT_LENGTH);
+    }
+
+    /** Appends input text. It is not transliterated until transliterate() or finish(). */
+    void append(char[] chars, int start, int length) {
+        if (finished) {
+            throw new IllegalStateException("transliteration is finished");
+        }
+        int limit = text.length();
+        text.replace(limit, limit, chars, start, length);
+    }
+
+    /** Returns the number of code units that were appended but not transliterated yet. */
+    int getPendingLength() {
+        return finished ? 0 : text.length() - index.limit;
+    }
+
+    /** Transliterates the appended text as far as possible without more input. */
+    void transliterate() {
+        if (!finished) {
+            index.contextLimit = index.limit = text.length();
+            transliterator.transliterate(text, index);
+        }
+    }
+
+    /** Transliterates all of the remaining text. No more input can be appended afterwards. */
+    void finish() {
+        if (!finished) {
+            index.contextLimit = index.limit = text.length();
+            transliterator.finishTransliteration(text, index);
+            finished = true;
+        }
+    }
+
+    boolean isFinished() {
+        return finished;
+    }
+
+    /** Returns the number of code units of output that can be taken. */
+    int getOutputLength() {
+        return (finished ? text.length() : index.start) - outputStart;
+    }
+
+    /**
+     * Takes up to the given number of code units of output.
+     *
+     * @return the number of code units copied into dest
+     */
+    int takeOutput(char[] dest, int destStart, int length) {
+        int n = Math.min(length, getOutputLength());
+        text.getChars(outputStart, outputStart + n, dest, destStart);
+        outputStart += n;
+        if (!finished) {
+            removeOutput();
+        }
+        return n;
+    }
+
+    /** Empties the buffer for new input. */
+    void reset() {
+        text.replace(0, text.length(), "");
+        index.contextStart = index.contextLimit = index.start = index.limit = 0;
+        outputStart = 0;
+        finished = false;
+    }
+
+    private void removeOutput() {
+        int limit = Math.min(outputStart, index.start - contextLength);
+        if (limit < MIN_REMOVE_LENGTH) {
+            return;
+        }
+        if (UTF16.isTrailSurrogate(text.charAt(limit))
+                && UTF16.isLeadSurrogate(text.charAt(limit - 1))) {
+            --limit;
+        }
+        text.replace(0, limit, "");
+        outputStart -= limit;
+        index.contextStart = Math.max(index.contextStart - limit, 0);
+        index.start -= limit;
+        index.limit -= limit;
+        index.contextLimit -= limit;
+    }
+}
@@ -9,6 +9,7 @@
 package com.ibm.icu.text;
 
 import com.ibm.icu.impl.Utility;
+import java.util.Arrays;
 
 /**
  * A transliteration rule used by <code>RuleBasedTransliterator</code>. <code>TransliterationRule
@@ -208,6 +209,11 @@ public int getAnteContextLength() {
         return anteContextLength + (((flags & ANCHOR_START) != 0) ? 1 : 0);
     }
 
+    /** Return the number of segments in the input pattern. */
+    final int getSegmentCount() {
+        return segments != null ? segments.length : 0;
+    }
+
     /**
      * Internal method. Returns 8-bit index value for this rule. This is the low byte of the first
      * character of the key, unless the first character of the key is a set. If it's a set, or
@@ -223,6 +229,31 @@ final int getIndexValue() {
         return data.lookupMatcher(c) == null ? (c & 0xFF) : -1;
     }
 
+    /**
+     * Internal method. Returns the literal characters at the start of the key, up to the first
+     * stand-in for a matcher, or the whole key if it contains no stand-ins. The key can only match
+     * text that starts with these characters. The result is empty if the key is empty or starts
+     * with a set.
+     *
+     * @see #getKeyStartMatcher()
+     */
+    final String getKeyLiteralPrefix() {
+        int limit = anteContextLength + keyLength;
+        int i = anteContextLength;
+        while (i < limit && data.lookupMatcher(pattern.charAt(i)) == null) {
+            ++i;
+        }
+        return pattern.substring(anteContextLength, i);
+    }
+
+    /**
+     * Internal method. Returns the matcher (usually a UnicodeSet) that the key starts with, or null
+     * if the key is empty or starts with a literal character.
+     */
+    final UnicodeMatcher getKeyStartMatcher() {
+        return keyLength > 0 ? data.lookupMatcher(pattern.charAt(anteContextLength)) : null;
+    }
+
     /**
      * Internal method. Returns true if this rule matches the given index value. The index value is
      * an 8-bit integer, 0..255, representing the low byte of the first character of the key. It
@@ -330,10 +361,16 @@ static final int posAfter(Replaceable str, int pos) {
      * @param pos the position indices
      * @param incremental if true, test for partial matches that may be completed by additional text
      *     inserted at pos.limit.
+     * @param segmentMatches the scratch array for the offsets of the segment matches, with room for
+     *     the segments of this rule, see TransliterationRuleSet.newSegmentMatches()
      * @return one of <code>U_MISMATCH</code>, <code>U_PARTIAL_MATCH</code>, or <code>U_MATCH</code>
      *     . If incremental is false then U_PARTIAL_MATCH will not be returned.
      */
-    public int matchAndReplace(Replaceable text, Transliterator.Position pos, boolean incremental) {
+    public int matchAndReplace(
+            Replaceable text,
+            Transliterator.Position pos,
+            boolean incremental,
+            int[] segmentMatches) {
         // Matching and replacing are done in one method because the
         // replacement operation needs information obtained during the
         // match.  Another way to do this is to have the match method
@@ -344,9 +381,7 @@ public int matchAndReplace(Replaceable text, Transliterator.Position pos, boolea
 
         // Reset segment match data
         if (segments != null) {
-            for (int i = 0; i < segments.length; ++i) {
-                ((StringMatcher) segments[i]).resetMatch();
-            }
+            Arrays.fill(segmentMatches, 0, 2 * segments.length, -1);
         }
 
         int keyLimit;
@@ -373,7 +408,7 @@ public int matchAndReplace(Replaceable text, Transliterator.Position pos, boolea
         intRef[0] = posBefore(text, pos.start);
 
         if (anteContext != null) {
-            match = anteContext.matches(text, intRef, anteLimit, false);
+            match = anteContext.matches(text, intRef, anteLimit, false, segmentMatches);
             if (match != UnicodeMatcher.U_MATCH) {
                 return UnicodeMatcher.U_MISMATCH;
             }
@@ -394,7 +429,7 @@ public int matchAndReplace(Replaceable text, Transliterator.Position pos, boolea
         intRef[0] = pos.start;
 
         if (key != null) {
-            match = key.matches(text, intRef, pos.limit, incremental);
+            match = key.matches(text, intRef, pos.limit, incremental, segmentMatches);
             if (match != UnicodeMatcher.U_MATCH) {
                 return match;
             }
@@ -411,7 +446,9 @@ public int matchAndReplace(Replaceable text, Transliterator.Position pos, boolea
                 return UnicodeMatcher.U_PARTIAL_MATCH;
             }
 
-            match = postContext.matches(text, intRef, pos.contextLimit, incremental);
+            match =
+                    postContext.matches(
+                            text, intRef, pos.contextLimit, incremental, segmentMatches);
             if (match != UnicodeMatcher.U_MATCH) {
                 return match;
             }
@@ -435,7 +472,9 @@ public int matchAndReplace(Replaceable text, Transliterator.Position pos, boolea
         // We have a full match.  The key is between pos.start and
         // keyLimit.
 
-        int newLength = output.replace(text, pos.start, keyLimit, intRef);
+        int newLength =
+                SegmentReplacer.replace(
+                        output, text, pos.start, keyLimit, intRef, segmentMatches);
         int lenDelta = newLength - (keyLimit - pos.start);
         int newStart = intRef[0];
 
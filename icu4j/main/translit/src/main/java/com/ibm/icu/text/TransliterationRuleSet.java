@@ -9,8 +9,18 @@
 package com.ibm.icu.text;
 
 import com.ibm.icu.impl.UtilityExtensions;
+import com.ibm.icu.util.BytesTrie;
+import com.ibm.icu.util.CharsTrie;
+import com.ibm.icu.util.CharsTrieBuilder;
+import com.ibm.icu.util.CodePointTrie;
+import com.ibm.icu.util.MutableCodePointTrie;
+import com.ibm.icu.util.StringTrieBuilder;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * A set of rules for a <code>RuleBasedTransliterator</code>. This set encodes the transliteration
@@ -19,7 +29,8 @@
  * and one for the reverse.
  *
  * <p>A <code>TransliterationRuleSet</code> has one important operation, that of finding a matching
- * rule at a given point in the text. This is accomplished by the <code>findMatch()</code> method.
+ * rule at a given point in the text. This is accomplished by the <code>transliterate()</code>
+ * method.
  *
  * <p>Copyright &copy; IBM Corporation 1999. All rights reserved.
  *
@@ -32,6 +43,9 @@ class TransliterationRuleSet {
     /** Length of the longest preceding context */
     private int maxContextLength;
 
+    /** The largest number of segments in a rule */
+    private int maxSegmentCount;
+
     /**
      * Sorted and indexed table of rules. This is created by freeze() from the rules in ruleVector.
      * rules.length >= ruleVector.size(), and the references in rules[] are aliases of the
@@ -45,6 +59,55 @@ class TransliterationRuleSet {
      */
     private int[] index;
 
+    /*
+     * The following are created by freeze() and used instead of the index table above when they
+     * are not null. They narrow the rules to try down to those that can match the text at the
+     * cursor, and they list them by their index in ruleArray, so that they can be merged in the
+     * original rule order.
+     */
+
+    /** The rules of ruleVector, in the order added. */
+    private TransliterationRule[] ruleArray;
+
+    /**
+     * Trie of the literal key prefixes of the rules (see
+     * TransliterationRule.getKeyLiteralPrefix()), or null if no rule has one. The value for a
+     * prefix is an index into prefixRules.
+     */
+    private CharSequence prefixTrie;
+
+    /**
+     * For each value of prefixTrie, the rules whose literal key prefix is a prefix of (or equal
+     * to) that trie string.
+     */
+    private int[][] prefixRules;
+
+    /**
+     * Maps each code point to an index into setRules, for the rules whose key starts with a small
+     * UnicodeSet without strings; or null if there are no such rules.
+     */
+    private CodePointTrie setTrie;
+
+    /**
+     * For each value of setTrie, the rules whose key starts with a set that contains the code
+     * point.
+     */
+    private int[][] setRules;
+
+    /**
+     * For each index value, the rules of rules[index[x]..index[x+1]-1] that are not found through
+     * prefixTrie or setTrie.
+     */
+    private int[][] otherRules;
+
+    private static final int[] NO_RULES = new int[0];
+
+    /** Larger sets at the start of a key are left in the index table. */
+    private static final int MAX_INDEXED_SET_SIZE = 0x400;
+
+    /** Below this many rules that start with a small set, setTrie is not worth building. */
+    private static final int MIN_INDEXED_SET_RULES = 64;
+
     /** Construct a new empty rule set. */
     public TransliterationRuleSet() {
         ruleVector = new ArrayList<TransliterationRule>();
@@ -71,6 +134,7 @@ public void addRule(TransliterationRule rule) {
         if ((len = rule.getAnteContextLength()) > maxContextLength) {
             maxContextLength = len;
         }
+        maxSegmentCount = Math.max(maxSegmentCount, rule.getSegmentCount());
 
         rules = null;
     }
@@ -102,6 +166,7 @@ public void freeze() {
         index = new int[257]; // [sic]
         List<TransliterationRule> v =
                 new ArrayList<TransliterationRule>(2 * n); // heuristic; adjust as needed
+        List<Integer> vIndex = new ArrayList<Integer>(2 * n); // ruleVector index of each rule in v
 
         /* Precompute the index values.  This saves a LOT of time.
          */
@@ -116,6 +181,7 @@ public void freeze() {
                 if (indexValue[j] >= 0) {
                     if (indexValue[j] == x) {
                         v.add(ruleVector.get(j));
+                        vIndex.add(j);
                     }
                 } else {
                     // If the indexValue is < 0, then the first key character is
@@ -125,6 +191,7 @@ public void freeze() {
                     TransliterationRule r = ruleVector.get(j);
                     if (r.matchesIndexValue(x)) {
                         v.add(r);
+                        vIndex.add(j);
                     }
                 }
             }
@@ -165,6 +232,142 @@ public void freeze() {
         if (errors != null) {
             throw new IllegalArgumentException(errors.toString());
         }
+
+        /* Index the rules more precisely than by the low byte of the
+         * first key character.  Rules whose key starts with literal
+         * characters go into a trie of those characters: at a given
+         * position, only the rules whose literal prefix matches the
+         * text there can match, and one walk of the trie finds them.
+         * Rules whose key starts with a small set go into a code point
+         * trie.  The remaining rules (with larger sets, quantifiers,
+         * segments, or no key) still come from the bins.  The three
+         * lists are merged in the original rule order, so the first
+         * rule that matches is the same as with the bins alone.
+         */
+        ruleArray = new TransliterationRule[n];
+        ruleVector.toArray(ruleArray);
+        prefixTrie = null;
+        prefixRules = null;
+        setTrie = null;
+        setRules = null;
+        otherRules = null;
+        boolean[] isOther = new boolean[n];
+        Map<String, List<Integer>> rulesByPrefix = new TreeMap<String, List<Integer>>();
+        List<Integer> setStartRules = new ArrayList<Integer>();
+        for (int j = 0; j < n; ++j) {
+            String prefix = ruleArray[j].getKeyLiteralPrefix();
+            UnicodeMatcher matcher = ruleArray[j].getKeyStartMatcher();
+            if (prefix.length() > 0) {
+                addToList(rulesByPrefix, prefix, j);
+            } else if (matcher instanceof UnicodeSet
+                    && !((UnicodeSet) matcher).hasStrings()
+                    && ((UnicodeSet) matcher).size() <= MAX_INDEXED_SET_SIZE) {
+                setStartRules.add(j);
+            } else {
+                isOther[j] = true;
+            }
+        }
+        Map<Integer, List<Integer>> rulesByCodePoint = new HashMap<Integer, List<Integer>>();
+        if (setStartRules.size() >= MIN_INDEXED_SET_RULES) {
+            for (int j : setStartRules) {
+                UnicodeSet set = (UnicodeSet) ruleArray[j].getKeyStartMatcher();
+                for (UnicodeSet.EntryRange range : set.ranges()) {
+                    for (int c = range.codepoint; c <= range.codepointEnd; ++c) {
+                        addToList(rulesByCodePoint, c, j);
+                    }
+                }
+            }
+        } else {
+            for (int j : setStartRules) {
+                isOther[j] = true;
+            }
+        }
+        if (rulesByPrefix.isEmpty() && rulesByCodePoint.isEmpty()) {
+            return;
+        }
+
+        Map<List<Integer>, int[]> uniqueLists = new HashMap<List<Integer>, int[]>();
+        List<Integer> candidates = new ArrayList<Integer>();
+        if (!rulesByPrefix.isEmpty()) {
+            CharsTrieBuilder builder = new CharsTrieBuilder();
+            prefixRules = new int[rulesByPrefix.size()][];
+            int value = 0;
+            for (String prefix : rulesByPrefix.keySet()) {
+                candidates.clear();
+                for (int len = 1; len <= prefix.length(); ++len) {
+                    List<Integer> list = rulesByPrefix.get(prefix.substring(0, len));
+                    if (list != null) {
+                        candidates.addAll(list);
+                    }
+                }
+                Collections.sort(candidates);
+                prefixRules[value] = toArray(candidates, uniqueLists);
+                builder.add(prefix, value++);
+            }
+            prefixTrie = builder.buildCharSequence(StringTrieBuilder.Option.FAST);
+        }
+
+        if (!rulesByCodePoint.isEmpty()) {
+            MutableCodePointTrie mutableTrie = new MutableCodePointTrie(0, 0);
+            List<int[]> lists = new ArrayList<int[]>();
+            Map<int[], Integer> listValues = new HashMap<int[], Integer>();
+            lists.add(NO_RULES);
+            listValues.put(NO_RULES, 0);
+            for (Map.Entry<Integer, List<Integer>> entry : rulesByCodePoint.entrySet()) {
+                int[] list = toArray(entry.getValue(), uniqueLists);
+                Integer value = listValues.get(list);
+                if (value == null) {
+                    value = lists.size();
+                    lists.add(list);
+                    listValues.put(list, value);
+                }
+                mutableTrie.set(entry.getKey(), value);
+            }
+            setTrie =
+                    mutableTrie.buildImmutable(
+                            CodePointTrie.Type.FAST,
+                            lists.size() <= 0xffff
+                                    ? CodePointTrie.ValueWidth.BITS_16
+                                    : CodePointTrie.ValueWidth.BITS_32);
+            setRules = lists.toArray(new int[lists.size()][]);
+        }
+
+        otherRules = new int[256][];
+        for (int x = 0; x < 256; ++x) {
+            candidates.clear();
+            for (int i = index[x]; i < index[x + 1]; ++i) {
+                int j = vIndex.get(i);
+                if (isOther[j]) {
+                    candidates.add(j);
+                }
+            }
+            otherRules[x] = toArray(candidates, uniqueLists);
+        }
+    }
+
+    private static <K> void addToList(Map<K, List<Integer>> map, K key, int rule) {
+        List<Integer> list = map.get(key);
+        if (list == null) {
+            list = new ArrayList<Integer>();
+            map.put(key, list);
+        }
+        list.add(rule);
+    }
+
+    /** Return the list as an array, sharing equal arrays. */
+    private static int[] toArray(List<Integer> list, Map<List<Integer>, int[]> uniqueLists) {
+        if (list.isEmpty()) {
+            return NO_RULES;
+        }
+        int[] array = uniqueLists.get(list);
+        if (array == null) {
+            array = new int[list.size()];
+            for (int i = 0; i < array.length; ++i) {
+                array[i] = list.get(i);
+            }
+            uniqueLists.put(new ArrayList<Integer>(list), array);
+        }
+        return array;
     }
 
     /**
@@ -181,32 +384,85 @@ public void freeze() {
      */
     public boolean transliterate(
             Replaceable text, Transliterator.Position pos, boolean incremental) {
-        int indexByte = text.char32At(pos.start) & 0xFF;
-        for (int i = index[indexByte]; i < index[indexByte + 1]; ++i) {
-            int m = rules[i].matchAndReplace(text, pos, incremental);
-            switch (m) {
-                case UnicodeMatcher.U_MATCH:
-                    if (Transliterator.DEBUG) {
-                        System.out.println(
-                                (incremental ? "Rule.i: match " : "Rule: match ")
-                                        + rules[i].toRule(true)
-                                        + " => "
-                                        + UtilityExtensions.formatInput(text, pos));
-                    }
-                    return true;
-                case UnicodeMatcher.U_PARTIAL_MATCH:
-                    if (Transliterator.DEBUG) {
-                        System.out.println(
-                                (incremental ? "Rule.i: partial match " : "Rule: partial match ")
-                                        + rules[i].toRule(true)
-                                        + " => "
-                                        + UtilityExtensions.formatInput(text, pos));
-                    }
-                    return false;
-                default:
-                    if (Transliterator.DEBUG) {
-                        System.out.println("Rule: no match " + rules[i]);
-                    }
+        return transliterate(text, pos, incremental, newPrefixTrie(), newSegmentMatches());
+    }
+
+    /**
+     * Returns a new iterator over the prefix trie, for passing to {@link
+     * #transliterate(Replaceable, Transliterator.Position, boolean, CharsTrie)} at each cursor
+     * position of one text, or null if this rule set does not need one. The rule set itself may
+     * be shared between threads, so the iterator is not part of it.
+     */
+    public CharsTrie newPrefixTrie() {
+        return otherRules != null && prefixTrie != null ? new CharsTrie(prefixTrie, 0) : null;
+    }
+
+    /**
+     * Returns a new array for the offsets of the segment matches of a rule, for passing to {@link
+     * #transliterate(Replaceable, Transliterator.Position, boolean, CharsTrie, int[])}, or null if
+     * no rule has segments. Like the prefix trie iterator, it is not part of the shared rule set.
+     */
+    public int[] newSegmentMatches() {
+        return maxSegmentCount > 0 ? new int[2 * maxSegmentCount] : null;
+    }
+
+    /**
+     * Same as {@link #transliterate(Replaceable, Transliterator.Position, boolean)}, with an
+     * iterator from {@link #newPrefixTrie()} that is reset and reused for each call, and an array
+     * from {@link #newSegmentMatches()} that is reused likewise.
+     */
+    public boolean transliterate(
+            Replaceable text,
+            Transliterator.Position pos,
+            boolean incremental,
+            CharsTrie trie,
+            int[] segmentMatches) {
+        int c = text.char32At(pos.start);
+        int[] prefixed = null;
+        if (otherRules != null) {
+            prefixed =
+                    prefixTrie != null ? findPrefixedRules(trie, text, pos, incremental) : NO_RULES;
+        }
+        if (prefixed != null) {
+            // Try the rules from the three lists in their original order.
+            int[] inSet = setTrie != null ? setRules[setTrie.get(c)] : NO_RULES;
+            int[] other = otherRules[c & 0xFF];
+            int i = 0;
+            int j = 0;
+            int k = 0;
+            for (; ; ) {
+                int r = Integer.MAX_VALUE;
+                if (i < prefixed.length) {
+                    r = prefixed[i];
+                }
+                if (j < inSet.length && inSet[j] < r) {
+                    r = inSet[j];
+                }
+                if (k < other.length && other[k] < r) {
+                    r = other[k];
+                }
+                if (r == Integer.MAX_VALUE) {
+                    break;
+                }
+                if (i < prefixed.length && prefixed[i] == r) {
+                    ++i;
+                } else if (j < inSet.length && inSet[j] == r) {
+                    ++j;
+                } else {
+                    ++k;
+                }
+                int m = matchAndReplace(ruleArray[r], text, pos, incremental, segmentMatches);
+                if (m != UnicodeMatcher.U_MISMATCH) {
+                    return m == UnicodeMatcher.U_MATCH;
+                }
+            }
+        } else {
+            int indexByte = c & 0xFF;
+            for (int i = index[indexByte]; i < index[indexByte + 1]; ++i) {
+                int m = matchAndReplace(rules[i], text, pos, incremental, segmentMatches);
+                if (m != UnicodeMatcher.U_MISMATCH) {
+                    return m == UnicodeMatcher.U_MATCH;
+                }
             }
         }
         // No match or partial match from any rule
@@ -219,6 +475,65 @@ public boolean transliterate(
         return true;
     }
 
+    /**
+     * Walk the prefix trie along the text at pos.start. Return the rules whose literal key prefix
+     * matches the text there, or null if the text ends at pos.limit within a longer prefix in
+     * incremental mode. In that case a rule with that prefix may be a partial match, so all of the
+     * rules in the index table bin need to be tried.
+     */
+    private int[] findPrefixedRules(
+            CharsTrie trie, Replaceable text, Transliterator.Position pos, boolean incremental) {
+        trie.reset();
+        int value = -1;
+        for (int i = pos.start; ; ++i) {
+            if (i == pos.limit) {
+                if (incremental) {
+                    return null;
+                }
+                break;
+            }
+            BytesTrie.Result result = trie.next(text.charAt(i));
+            if (result.hasValue()) {
+                value = trie.getValue();
+            }
+            if (!result.hasNext()) {
+                break;
+            }
+        }
+        return value >= 0 ? prefixRules[value] : NO_RULES;
+    }
+
+    /** Try one rule; see TransliterationRule.matchAndReplace(). */
+    private static int matchAndReplace(
+            TransliterationRule rule,
+            Replaceable text,
+            Transliterator.Position pos,
+            boolean incremental,
+            int[] segmentMatches) {
+        int m = rule.matchAndReplace(text, pos, incremental, segmentMatches);
+        if (Transliterator.DEBUG) {
+            switch (m) {
+                case UnicodeMatcher.U_MATCH:
+                    System.out.println(
+                            (incremental ? "Rule.i: match " : "Rule: match ")
+                                    + rule.toRule(true)
+                                    + " => "
+                                    + UtilityExtensions.formatInput(text, pos));
+                    break;
+                case UnicodeMatcher.U_PARTIAL_MATCH:
+                    System.out.println(
+                            (incremental ? "Rule.i: partial match " : "Rule: partial match ")
+                                    + rule.toRule(true)
+                                    + " => "
+                                    + UtilityExtensions.formatInput(text, pos));
+                    break;
+                default:
+                    System.out.println("Rule: no match " + rule);
+            }
+        }
+        return m;
+    }
+
     /** Create rule strings that represents this rule set. */
     String toRules(boolean escapeUnprintable) {
         int i;
@@ -1053,7 +1053,7 @@ void parseRules(RuleBody ruleArray, int dir) {
 
             for (int i = 0; i < dataVector.size(); i++) {
                 Data data = dataVector.get(i);
-                data.ruleSet.freeze();
+                data.freeze();
             }
 
             if (idBlockVector.size() == 1 && (idBlockVector.get(0)).length() == 0)
@@ -10,8 +10,10 @@
 
 import com.ibm.icu.dev.test.TestFmwk;
 import com.ibm.icu.impl.Utility;
+import com.ibm.icu.text.Replaceable;
 import com.ibm.icu.text.ReplaceableString;
 import com.ibm.icu.text.Transliterator;
+import java.util.Random;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -198,6 +200,125 @@ public void TestTransliterate() {
         }
     }
 
+    /*
+     * Compound transliterators that consist only of normalization, case mapping, filters and
+     * Remove are executed in a single pass over the text. Text with metadata is transliterated one
+     * transliterator after the other; the results must be the same.
+     */
+    @Test
+    public void TestFusedTransliteration() {
+        String[] ids = {
+            "NFD; [:Nonspacing Mark:] Remove; NFC; Lower",
+            "NFKD; Upper; [:^ASCII:] Remove",
+            "NFD; [:Greek:] Lower; NFC",
+            "Any-CaseFold; NFKC",
+            "[:Greek:]; NFD; Lower; Null; NFC",
+            "NFD; Latin-ASCII; Lower; NFC",
+            "[[:Latin:][:Mn:]] NFD; [\\u0300-\\u036F] Remove; Any-Lower",
+            "Lower; NFD",
+        };
+        String[] words = {
+            "ΟΔΥΣΣΕΥΣ",
+            "ΣΑΣ Σ.",
+            "ΑΣ\u0301 b",
+            "Σ\u0345Α",
+            "Crème Brûlée",
+            "Straße ﬁ",
+            "\uD835\uDC9C\u0308",
+            "\u01C5 İstanbul",
+            "\u1E9B\u0323",
+            "한국어",
+            "\u0307\u0301",
+            " ",
+        };
+        Random random = new Random(1);
+        for (String id : ids) {
+            Transliterator t = Transliterator.getInstance(id);
+            for (int i = 0; i < 200; ++i) {
+                StringBuilder sb = new StringBuilder();
+                for (int j = random.nextInt(6); j >= 0; --j) {
+                    sb.append(words[random.nextInt(words.length)]);
+                }
+                String s = sb.toString();
+                int start = random.nextInt(s.length() + 1);
+                int limit = start + random.nextInt(s.length() - start + 1);
+                if (start < s.length() && Character.isLowSurrogate(s.charAt(start))) {
+                    --start;
+                }
+                if (limit < s.length() && Character.isLowSurrogate(s.charAt(limit))) {
+                    ++limit;
+                }
+
+                // The text outside of the range is context.
+                ReplaceableString fused = new ReplaceableString(s);
+                Transliterator.Position fusedIndex =
+                        new Transliterator.Position(0, s.length(), start, limit);
+                t.finishTransliteration(fused, fusedIndex);
+                StagedReplaceable staged = new StagedReplaceable(s);
+                Transliterator.Position stagedIndex =
+                        new Transliterator.Position(0, s.length(), start, limit);
+                t.finishTransliteration(staged, stagedIndex);
+                String tag = id + " on " + Utility.escape(s) + " [" + start + ", " + limit + ")";
+                assertEquals(tag, staged.toString(), fused.toString());
+                assertEquals(tag + " index", stagedIndex, fusedIndex);
+            }
+        }
+    }
+
+    /* A Replaceable with metadata, for which transliterators are always executed in stages. */
+    private static final class StagedReplaceable implements Replaceable {
+        private final ReplaceableString text;
+
+        StagedReplaceable(String s) {
+            text = new ReplaceableString(s);
+        }
+
+        @Override
+        public int length() {
+            return text.length();
+        }
+
+        @Override
+        public char charAt(int offset) {
+            return text.charAt(offset);
+        }
+
+        @Override
+        public int char32At(int offset) {
+            return text.char32At(offset);
+        }
+
+        @Override
+        public void getChars(int srcStart, int srcLimit, char[] dst, int dstStart) {
+            text.getChars(srcStart, srcLimit, dst, dstStart);
+        }
+
+        @Override
+        public void replace(int start, int limit, String string) {
+            text.replace(start, limit, string);
+        }
+
+        @Override
+        public void replace(int start, int limit, char[] chars, int charsStart, int charsLen) {
+            text.replace(start, limit, chars, charsStart, charsLen);
+        }
+
+        @Override
+        public void copy(int start, int limit, int dest) {
+            text.copy(start, limit, dest);
+        }
+
+        @Override
+        public boolean hasMetaData() {
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return text.toString();
+        }
+    }
+
     // ======================================================================
     // Support methods
     // ======================================================================
@@ -11,6 +11,7 @@
 import com.ibm.icu.dev.test.TestFmwk;
 import com.ibm.icu.text.Transliterator;
 import java.util.ArrayList;
+import java.util.Arrays;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -97,4 +98,57 @@ public void run() {
             }
         }
     }
+
+    // A single transliterator instance is shared by all threads, without locking.
+    // The rules use segments, whose match offsets are per-thread state.
+    @Test
+    public void TestSharedInstance() {
+        final Transliterator tx =
+                Transliterator.createFromRules(
+                        "Segments",
+                        "([a-z]) ([0-9]+) > $2 $1 ; (x) ([a-z]+) > &Any-Upper($2) $1 ; "
+                                + "([aeiou]) } n > $1 $1 ;",
+                        Transliterator.FORWARD);
+        final Transliterator latin = Transliterator.getInstance("Any-Latin; Latin-ASCII");
+        final String[] inputs = {
+            "a12 b345 xyz xab anna 7", "banana x c9", "Ελληνικά कानपुर 東京", "z0 xq"
+        };
+        final String[] expected = new String[inputs.length * 2];
+        for (int i = 0; i < inputs.length; ++i) {
+            expected[2 * i] = tx.transliterate(inputs[i]);
+            expected[2 * i + 1] = latin.transliterate(inputs[i]);
+        }
+        final int iterations = TestFmwk.getExhaustiveness() >= 9 ? 100000 : 5000;
+        final int[] mismatches = new int[8];
+        ArrayList<Thread> threads = new ArrayList<Thread>();
+        for (int t = 0; t < mismatches.length; ++t) {
+            final int thread = t;
+            threads.add(
+                    new Thread() {
+                        @Override
+                        public void run() {
+                            for (int loop = 0; loop < iterations; ++loop) {
+                                int i = (loop + thread) % inputs.length;
+                                if (!tx.transliterate(inputs[i]).equals(expected[2 * i])) {
+                                    ++mismatches[thread];
+                                }
+                                if (!latin.transliterate(inputs[i]).equals(expected[2 * i + 1])) {
+                                    ++mismatches[thread];
+                                }
+                            }
+                        }
+                    });
+        }
+        for (Thread th : threads) {
+            th.start();
+        }
+        for (Thread th : threads) {
+            try {
+                th.join();
+            } catch (InterruptedException e) {
+                errln("Unexpected exception: " + e);
+            }
+        }
+        assertEquals("mismatches", "[0, 0, 0, 0, 0, 0, 0, 0]", Arrays.toString(mismatches));
+    }
 }
@@ -0,0 +1,144 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: http://www.unicode.org/copyright.html
+package com.ibm.icu.dev.test.translit;
+
+import com.ibm.icu.dev.test.TestFmwk;
+import com.ibm.icu.text.TransliteratingReader;
+import com.ibm.icu.text.TransliteratingWriter;
+import com.ibm.icu.text.Transliterator;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Random;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class TransliteratingStreamTest extends TestFmwk {
+    private static final String[] IDS = {
+        "NFD; [:Nonspacing Mark:] Remove; NFC; Lower",
+        "Greek-Latin",
+        "Any-Latin; Latin-ASCII",
+        "Hex-Any",
+    };
+
+    private static final String[] WORDS = {
+        "Crème Brûlée",
+        "ΣΟΦΊΑ σοφίας",
+        "Ελληνικά",
+        "日本語のテキスト",
+        "Привет",
+        "𝒜𝒝",
+        "\\u0041\\u0308",
+        "Straße",
+        "ﬁ",
+    };
+
+    /* A long text, so that the stream buffers have to slide. */
+    private static String getText(int length) {
+        StringBuilder sb = new StringBuilder();
+        Random random = new Random(1);
+        while (sb.length() < length) {
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+            sb.append(random.nextInt(8) == 0 ? "\n" : " ");
+        }
+        return sb.toString();
+    }
+
+    /* A reader that returns at most a few characters per call. */
+    private static final class ChunkedReader extends Reader {
+        private final Reader in;
+        private final Random random = new Random(2);
+
+        ChunkedReader(String s) {
+            in = new StringReader(s);
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            return in.read(cbuf, off, Math.min(len, 1 + random.nextInt(7)));
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    private static String readAll(Reader reader, int bufferSize) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        char[] buffer = new char[bufferSize];
+        int n;
+        while ((n = reader.read(buffer, 0, buffer.length)) >= 0) {
+            sb.append(buffer, 0, n);
+        }
+        reader.close();
+        return sb.toString();
+    }
+
+    @Test
+    public void TestReader() throws IOException {
+        String text = getText(20000);
+        for (String id : IDS) {
+            Transliterator t = Transliterator.getInstance(id);
+            String expected = t.transliterate(text);
+            String actual = readAll(new TransliteratingReader(new StringReader(text), t), 1000);
+            assertEquals(id, expected, actual);
+            actual = readAll(new TransliteratingReader(new ChunkedReader(text), t), 3);
+            assertEquals(id + " in small chunks", expected, actual);
+        }
+    }
+
+    @Test
+    public void TestWriter() throws IOException {
+        String text = getText(20000);
+        for (String id : IDS) {
+            Transliterator t = Transliterator.getInstance(id);
+            String expected = t.transliterate(text);
+            StringWriter out = new StringWriter();
+            TransliteratingWriter writer = new TransliteratingWriter(out, t);
+            Random random = new Random(3);
+            for (int i = 0; i < text.length(); ) {
+                int n = Math.min(text.length() - i, random.nextInt(3000));
+                if (n == 1) {
+                    writer.write(text.charAt(i));
+                } else {
+                    writer.write(text, i, n);
+                }
+                i += n;
+                if (random.nextInt(4) == 0) {
+                    writer.flush();
+                    // Flushed output must not change later.
+                    String flushed = out.toString();
+                    assertEquals(id + " flushed", flushed, expected.substring(0, flushed.length()));
+                }
+            }
+            writer.close();
+            assertEquals(id, expected, out.toString());
+        }
+    }
+
+    @Test
+    public void TestWriterFinish() throws IOException {
+        Transliterator t = Transliterator.getInstance("Hex-Any");
+        StringWriter out = new StringWriter();
+        TransliteratingWriter writer = new TransliteratingWriter(out, t);
+        writer.write("a\\u00");
+        writer.finish();
+        // After finish(), the text is transliterated without the previous text.
+        writer.write("E9b");
+        writer.close();
+        assertEquals("finish", "a\\u00E9b", out.toString());
+    }
+
+    @Test
+    public void TestEmpty() throws IOException {
+        Transliterator t = Transliterator.getInstance("Any-Upper");
+        assertEquals("reader", "", readAll(new TransliteratingReader(new StringReader(""), t), 8));
+        StringWriter out = new StringWriter();
+        new TransliteratingWriter(out, t).close();
+        assertEquals("writer", "", out.toString());
+    }
+}
@@ -3843,6 +3843,34 @@ public String getErrorMessage() {
         }
     }
 
+    /*
+     * The rule set finds the rules to try through a trie of literal key
+     * prefixes and a code point trie for keys that start with small sets.
+     * The first rule in rule order that matches must still win.
+     */
+    @Test
+    public void TestIndexedRuleOrder() {
+        StringBuilder rules = new StringBuilder();
+        rules.append("\u4E01\u4E02 > A ;");
+        // Enough rules with small sets for the code point trie.
+        for (int i = 0; i < 100; ++i) {
+            rules.append("[\\u").append(Integer.toHexString(0x4E00 + i));
+            rules.append("\\u").append(Integer.toHexString(0x5000 + i)).append("] > x");
+            rules.append(i).append(" ;");
+        }
+        // Masked by the set rule for \u4E03.
+        rules.append("\u4E03\u4E04 > B ;");
+        rules.append("a+ b > C ; ab > D ; a > E ; [bc] > F ; c } d > G ;");
+        String r = rules.toString();
+
+        expect(r, "\u4E01\u4E02", "A");
+        expect(r, "\u4E01\u4E01\u4E02", "x1A");
+        expect(r, "\u4E03\u4E04 \u5005", "x3x4 x5");
+        expect(r, "aab ab a b c", "C C E F F");
+        expect(r, "cd", "Fd");
+        expect(r, "\u4E01\u5001a", "x1x1E");
+    }
+
     // ======================================================================
     // Support methods
     // ======================================================================
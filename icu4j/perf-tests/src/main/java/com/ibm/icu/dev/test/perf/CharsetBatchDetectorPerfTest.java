@@ -0,0 +1,70 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: http://www.unicode.org/copyright.html
+package com.ibm.icu.dev.test.perf;
+
+import com.ibm.icu.text.CharsetBatchDetector;
+import com.ibm.icu.text.CharsetDetector;
+import com.ibm.icu.text.CharsetMatch;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Detects the charsets of 1000 small documents, with a new CharsetDetector per document on one
+ * thread, and with a CharsetBatchDetector on the common ForkJoinPool.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class CharsetBatchDetectorPerfTest {
+
+    private List<byte[]> documents;
+    private CharsetBatchDetector batch;
+
+    @Setup
+    public void setup() {
+        String[] texts = {
+            "<p>The quick brown fox jumps over the lazy dog.</p>\n",
+            "<p>Le renard brûle saute par-dessus le chien paresseux.</p>\n",
+            "<p>Быстрая лиса.</p>\n",
+            "<p>日本語のテキスト。</p>\n",
+        };
+        String[] charsets = {"UTF-8", "windows-1252", "KOI8-R", "Shift_JIS"};
+        documents = new ArrayList<>();
+        for (int i = 0; documents.size() < 1000; ++i) {
+            String text = texts[i % texts.length];
+            Charset charset = Charset.forName(charsets[(i / texts.length) % charsets.length]);
+            if (!charset.newEncoder().canEncode(text)) {
+                continue;
+            }
+            StringBuilder sb = new StringBuilder();
+            for (int j = 0; j < 20 + i % 40; ++j) {
+                sb.append(text);
+            }
+            documents.add(sb.toString().getBytes(charset));
+        }
+        batch = new CharsetBatchDetector();
+    }
+
+    @Benchmark
+    public void testDetectorPerDocument(Blackhole bh) {
+        for (byte[] document : documents) {
+            CharsetMatch match = new CharsetDetector().setText(document).detect();
+            bh.consume(match);
+        }
+    }
+
+    @Benchmark
+    public int[] testBatch() {
+        return batch.detectAll(documents);
+    }
+}
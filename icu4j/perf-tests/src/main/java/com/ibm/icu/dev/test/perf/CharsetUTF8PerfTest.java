@@ -0,0 +1,87 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: http://www.unicode.org/copyright.html
+package com.ibm.icu.dev.test.perf;
+
+import com.ibm.icu.charset.CharsetProviderICU;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the ICU UTF-8 converter with the JDK's UTF-8 charset on mostly-ASCII text (log lines),
+ * with heap and direct byte buffers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class CharsetUTF8PerfTest {
+
+    @Param({"icu", "jdk"})
+    public String implementation;
+
+    @Param({"false", "true"})
+    public boolean direct;
+
+    private CharsetDecoder decoder;
+    private CharsetEncoder encoder;
+    private ByteBuffer bytes;
+    private CharBuffer chars;
+    private ByteBuffer encoded;
+    private CharBuffer decoded;
+
+    @Setup
+    public void setup() {
+        Charset charset =
+                implementation.equals("icu")
+                        ? new CharsetProviderICU().charsetForName("UTF-8")
+                        : StandardCharsets.UTF_8;
+        decoder = charset.newDecoder();
+        encoder = charset.newEncoder();
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; ++i) {
+            sb.append("2025-01-01 12:00:00.000 INFO [main] request handled in 12 ms path=/api/");
+            sb.append(i);
+            // About one non-ASCII character per line.
+            sb.append(i % 2 == 0 ? " user=Jos\u00e9\n" : " status=\u2713\n");
+        }
+        String text = sb.toString();
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        bytes = direct ? ByteBuffer.allocateDirect(utf8.length) : ByteBuffer.allocate(utf8.length);
+        bytes.put(utf8).flip();
+        // A CharBuffer that wraps a String has no array, which would bypass the array fast path.
+        chars = CharBuffer.wrap(text.toCharArray());
+        encoded =
+                direct ? ByteBuffer.allocateDirect(utf8.length) : ByteBuffer.allocate(utf8.length);
+        decoded = CharBuffer.allocate(text.length());
+    }
+
+    @Benchmark
+    public CoderResult testDecode() {
+        bytes.rewind();
+        decoded.clear();
+        decoder.reset();
+        return decoder.decode(bytes, decoded, true);
+    }
+
+    @Benchmark
+    public CoderResult testEncode() {
+        chars.rewind();
+        encoded.clear();
+        encoder.reset();
+        return encoder.encode(chars, encoded, true);
+    }
+}
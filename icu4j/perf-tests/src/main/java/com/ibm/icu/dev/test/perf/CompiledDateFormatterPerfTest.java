@@ -0,0 +1,85 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: http://www.unicode.org/copyright.html
+package com.ibm.icu.dev.test.perf;
+
+import com.ibm.icu.text.CompiledDateFormatter;
+import com.ibm.icu.text.SimpleDateFormat;
+import com.ibm.icu.util.TimeZone;
+import com.ibm.icu.util.ULocale;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares a shared CompiledDateFormatter with a SimpleDateFormat, which cannot be shared between
+ * threads. Run with several threads ({@code -t}) to see that the compiled formatter scales.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class CompiledDateFormatterPerfTest {
+
+    static final String PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
+    static final TimeZone ZONE = TimeZone.getTimeZone("Europe/Berlin");
+
+    static final CompiledDateFormatter FORMATTER =
+            CompiledDateFormatter.forPattern(PATTERN, ULocale.ROOT).withTimeZone(ZONE);
+    static final CompiledDateFormatter LONG_FORMATTER =
+            CompiledDateFormatter.forPattern("EEEE, d MMMM y HH:mm:ss zzzz", ULocale.GERMANY)
+                    .withTimeZone(ZONE);
+
+    final SimpleDateFormat sdf = new SimpleDateFormat(PATTERN, ULocale.ROOT);
+    final SimpleDateFormat longSdf =
+            new SimpleDateFormat("EEEE, d MMMM y HH:mm:ss zzzz", ULocale.GERMANY);
+    final StringBuilder sb = new StringBuilder();
+    long time = 1735689600000L;
+
+    {
+        sdf.setTimeZone(ZONE);
+        longSdf.setTimeZone(ZONE);
+    }
+
+    @Benchmark
+    public String testSimpleDateFormat() {
+        time += 1234;
+        return sdf.format(new Date(time));
+    }
+
+    @Benchmark
+    public String testCompiled() {
+        time += 1234;
+        return FORMATTER.format(time);
+    }
+
+    @Benchmark
+    public StringBuilder testCompiledFormatTo() {
+        time += 1234;
+        sb.setLength(0);
+        return FORMATTER.formatTo(time, sb);
+    }
+
+    @Benchmark
+    public String testCompiledInstant() {
+        time += 1234;
+        return FORMATTER.format(Instant.ofEpochMilli(time).atZone(ZoneId.of("Europe/Berlin")));
+    }
+
+    @Benchmark
+    public String testSimpleDateFormatLong() {
+        time += 1234;
+        return longSdf.format(new Date(time));
+    }
+
+    @Benchmark
+    public String testCompiledLong() {
+        time += 1234;
+        return LONG_FORMATTER.format(time);
+    }
+}
@@ -0,0 +1,56 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: http://www.unicode.org/copyright.html
+package com.ibm.icu.dev.test.perf;
+
+import com.ibm.icu.text.Transliterator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures a typical search normalization pipeline, whose transliterators are executed in a single
+ * pass, and a pipeline with a rule-based transliterator in the middle.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class CompoundTransliteratorPerfTest {
+
+    static final Transliterator SEARCH =
+            Transliterator.getInstance("NFD; [:Nonspacing Mark:] Remove; NFC; Lower");
+    static final Transliterator MIXED = Transliterator.getInstance("NFD; Latin-ASCII; Lower; NFC");
+
+    static final String[] WORDS = {
+        "Crème Brûlée ", "ΣΟΦΊΑ σοφίας ", "Straße ", "Привет мир ", "naïve café ",
+    };
+
+    @Param({"50", "10000"})
+    int length;
+
+    String text;
+
+    @Setup
+    public void setup() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; sb.length() < length; ++i) {
+            sb.append(WORDS[i % WORDS.length]);
+        }
+        text = sb.toString();
+    }
+
+    @Benchmark
+    public String testSearchNormalization() {
+        return SEARCH.transliterate(text);
+    }
+
+    @Benchmark
+    public String testWithRuleBased() {
+        return MIXED.transliterate(text);
+    }
+}
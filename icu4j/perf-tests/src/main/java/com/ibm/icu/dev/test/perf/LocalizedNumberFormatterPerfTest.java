@@ -0,0 +1,78 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: http://www.unicode.org/copyright.html
+package com.ibm.icu.dev.test.perf;
+
+import com.ibm.icu.number.LocalizedNumberFormatter;
+import com.ibm.icu.number.NumberFormatter;
+import com.ibm.icu.number.NumberFormatterCache;
+import com.ibm.icu.util.ULocale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares formatting through a FormattedNumber with formatting directly to a StringBuilder. Run
+ * with {@code -prof gc} to see the allocation rate. The unlimited precision formatter needs the
+ * shortest representation of each double. The skeleton benchmarks compare a formatter created for
+ * each call with one from the cache.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class LocalizedNumberFormatterPerfTest {
+
+    static final LocalizedNumberFormatter FORMATTER =
+            NumberFormatter.forSkeleton(".00").locale(ULocale.ENGLISH);
+    static final LocalizedNumberFormatter UNLIMITED =
+            NumberFormatter.forSkeleton("precision-unlimited").locale(ULocale.ENGLISH);
+
+    final StringBuilder sb = new StringBuilder();
+    long value = 1234567;
+
+    @Benchmark
+    public String testFormatLong() {
+        return FORMATTER.format(++value).toString();
+    }
+
+    @Benchmark
+    public StringBuilder testFormatToLong() {
+        sb.setLength(0);
+        return FORMATTER.formatTo(++value, sb);
+    }
+
+    @Benchmark
+    public String testFormatDouble() {
+        return FORMATTER.format(++value / 8.0).toString();
+    }
+
+    @Benchmark
+    public StringBuilder testFormatToDouble() {
+        sb.setLength(0);
+        return FORMATTER.formatTo(++value / 8.0, sb);
+    }
+
+    @Benchmark
+    public StringBuilder testFormatToShortestDouble() {
+        sb.setLength(0);
+        return UNLIMITED.formatTo(++value / 7.0, sb);
+    }
+
+    @Benchmark
+    public String testSkeletonPerCall() {
+        return NumberFormatter.forSkeleton("currency/EUR .00")
+                .locale(ULocale.GERMANY)
+                .format(++value)
+                .toString();
+    }
+
+    @Benchmark
+    public String testSkeletonCached() {
+        return NumberFormatterCache.get("currency/EUR .00", ULocale.GERMANY)
+                .format(++value)
+                .toString();
+    }
+}
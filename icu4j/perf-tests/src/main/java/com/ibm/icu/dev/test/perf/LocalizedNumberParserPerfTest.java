@@ -0,0 +1,50 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: http://www.unicode.org/copyright.html
+package com.ibm.icu.dev.test.perf;
+
+import com.ibm.icu.number.LocalizedNumberParser;
+import com.ibm.icu.text.NumberFormat;
+import com.ibm.icu.util.ULocale;
+import java.text.ParseException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares parsing the fields of a CSV line with DecimalFormat and with LocalizedNumberParser. Run
+ * with {@code -prof gc} to see the allocation rate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class LocalizedNumberParserPerfTest {
+
+    static final String LINE = "12345;-42,75;7;3,14159;1.234.567,5";
+    static final int[] STARTS = {0, 6, 13, 15, 23};
+    static final int[] ENDS = {5, 12, 14, 22, 34};
+
+    final NumberFormat format = NumberFormat.getInstance(ULocale.GERMANY);
+    final LocalizedNumberParser parser = LocalizedNumberParser.forLocale(ULocale.GERMANY);
+
+    @Benchmark
+    public double testDecimalFormat() throws ParseException {
+        double sum = 0;
+        for (int i = 0; i < STARTS.length; i++) {
+            sum += format.parse(LINE.substring(STARTS[i], ENDS[i])).doubleValue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double testLocalizedNumberParser() {
+        double sum = 0;
+        for (int i = 0; i < STARTS.length; i++) {
+            sum += parser.parseDouble(LINE, STARTS[i], ENDS[i]);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,48 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: http://www.unicode.org/copyright.html
+package com.ibm.icu.dev.test.perf;
+
+import com.ibm.icu.impl.number.DecimalQuantity_DualStorageBCD;
+import com.ibm.icu.text.PluralRules;
+import com.ibm.icu.util.ULocale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures plural selection for integers, which are looked up in a table below 1000 and evaluated
+ * without creating a FixedDecimal above, and for numbers with fraction digits.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class PluralRulesPerfTest {
+
+    static final PluralRules RULES = PluralRules.forLocale(new ULocale("ru"));
+
+    int value = 0;
+
+    @Benchmark
+    public String testSelectSmallInteger() {
+        return RULES.select((++value % 1000) * 1.0);
+    }
+
+    @Benchmark
+    public String testSelectLargeInteger() {
+        return RULES.select(++value + 1000L);
+    }
+
+    @Benchmark
+    public String testSelectFraction() {
+        return RULES.select(++value / 4.0 + 0.5);
+    }
+
+    @Benchmark
+    public String testSelectDecimalQuantity() {
+        return new DecimalQuantity_DualStorageBCD(++value).getStandardPlural(RULES).getKeyword();
+    }
+}
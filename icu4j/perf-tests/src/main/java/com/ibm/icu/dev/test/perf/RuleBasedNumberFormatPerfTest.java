@@ -0,0 +1,46 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: http://www.unicode.org/copyright.html
+package com.ibm.icu.dev.test.perf;
+
+import com.ibm.icu.text.RuleBasedNumberFormat;
+import com.ibm.icu.util.ULocale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares spelling out amounts with and without the format cache, which remembers the text of the
+ * numbers below 1000 for each rule set.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class RuleBasedNumberFormatPerfTest {
+
+    static final RuleBasedNumberFormat PLAIN =
+            new RuleBasedNumberFormat(ULocale.ENGLISH, RuleBasedNumberFormat.SPELLOUT).freeze();
+    static final RuleBasedNumberFormat CACHED = createCached();
+
+    long value = 0;
+
+    private static RuleBasedNumberFormat createCached() {
+        RuleBasedNumberFormat rbnf =
+                new RuleBasedNumberFormat(ULocale.ENGLISH, RuleBasedNumberFormat.SPELLOUT);
+        rbnf.setFormatCacheEnabled(true);
+        return rbnf.freeze();
+    }
+
+    @Benchmark
+    public String testSpelloutPlain() {
+        return PLAIN.format(++value * 7919 % 10000000);
+    }
+
+    @Benchmark
+    public String testSpelloutCached() {
+        return CACHED.format(++value * 7919 % 10000000);
+    }
+}
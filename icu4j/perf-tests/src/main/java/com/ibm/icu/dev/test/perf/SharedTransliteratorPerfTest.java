@@ -0,0 +1,50 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: http://www.unicode.org/copyright.html
+package com.ibm.icu.dev.test.perf;
+
+import com.ibm.icu.text.Transliterator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures contention on rule-based transliterators that are shared by all benchmark threads.
+ * Compare the throughput with one thread and with several threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SharedTransliteratorPerfTest {
+
+    static final Transliterator LATIN_ASCII = Transliterator.getInstance("Latin-ASCII");
+    static final Transliterator ANY_LATIN = Transliterator.getInstance("Any-Latin");
+
+    static final String LATIN = "Ça s'est passé à Zürich, où Ærøskøbing n'était qu'un rêve.";
+    static final String GREEK = "Η γρήγορη καφέ αλεπού πηδάει πάνω από το τεμπέλικο σκυλί.";
+
+    @Benchmark
+    @Threads(1)
+    public String testLatinAsciiOneThread() {
+        return LATIN_ASCII.transliterate(LATIN);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String testLatinAsciiAllThreads() {
+        return LATIN_ASCII.transliterate(LATIN);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String testAnyLatinOneThread() {
+        return ANY_LATIN.transliterate(GREEK);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String testAnyLatinAllThreads() {
+        return ANY_LATIN.transliterate(GREEK);
+    }
+}
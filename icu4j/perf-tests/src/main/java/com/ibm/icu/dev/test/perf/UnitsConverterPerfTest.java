@@ -0,0 +1,71 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: http://www.unicode.org/copyright.html
+package com.ibm.icu.dev.test.perf;
+
+import com.ibm.icu.impl.units.ComplexUnitsConverter;
+import com.ibm.icu.impl.units.MeasureUnitImpl;
+import com.ibm.icu.impl.units.UnitsConverter;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares converting an array of 1000 values one at a time with BigDecimal to converting it with
+ * the batch methods, which convert in double precision.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class UnitsConverterPerfTest {
+
+    static final MeasureUnitImpl METER = MeasureUnitImpl.forIdentifier("meter");
+    static final UnitsConverter CONVERTER =
+            UnitsConverter.getInstance(METER, MeasureUnitImpl.forIdentifier("foot"));
+    static final ComplexUnitsConverter COMPLEX_CONVERTER =
+            ComplexUnitsConverter.getInstance(
+                    METER, MeasureUnitImpl.forIdentifier("foot-and-inch"));
+
+    final double[] values = new double[1000];
+    final double[] results = new double[2000];
+
+    {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i / 7.0;
+        }
+    }
+
+    @Benchmark
+    public double testConvertBigDecimal() {
+        double sum = 0;
+        for (double value : values) {
+            sum += CONVERTER.convert(BigDecimal.valueOf(value)).doubleValue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double[] testConvertBatch() {
+        CONVERTER.convert(values, results);
+        return results;
+    }
+
+    @Benchmark
+    public double testConvertMixedBigDecimal() {
+        double sum = 0;
+        for (double value : values) {
+            sum += COMPLEX_CONVERTER.convert(BigDecimal.valueOf(value), null).measures.size();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double[] testConvertMixedBatch() {
+        COMPLEX_CONVERTER.convert(values, results);
+        return results;
+    }
+}